@@ -1,9 +1,13 @@
 module WordleProject {
 	exports src.model;
 	exports src.view;
+	exports src.server;
+	exports src.benchmarks;
 	exports src.tests;
 
 	requires java.desktop;
+	requires java.management;
+	requires jdk.httpserver;
 	requires javafx.base;
 	requires javafx.controls;
 	requires javafx.graphics;
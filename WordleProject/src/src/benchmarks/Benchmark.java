@@ -0,0 +1,195 @@
+/**
+ * Times small pieces of code and keeps the results as a report that can be
+ * saved and compared with an earlier one. Each operation is run in batches big
+ * enough to time, warmed up first so the JIT has compiled it, and the median of
+ * the measured rounds is kept. Each result is compared with an object read
+ * from a volatile field, so the JIT can't throw the work away, and that costs
+ * a load and a compare instead of touching the result.
+ *
+ * A report has one result a line, its name, value and unit split by spaces,
+ * so reports from before and after a change can be diffed or compared here.
+ *
+ * Date: 10/19/2026
+ *
+ * @author Connor Kippes, Luke Laurie, Sean Eddy, Zachary Hansen
+ */
+
+package src.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+public class Benchmark {
+	public static final String NANOS_PER_OP = "ns/op";
+	private int warmupRounds;
+	private int rounds;
+	private long roundNanos;
+	private LinkedHashMap<String, Double> values = new LinkedHashMap<>();
+	private LinkedHashMap<String, String> units = new LinkedHashMap<>();
+	private static volatile int sink;
+	// no operation ever returns it, but the JIT can't know that
+	private static volatile Object sentinel = new Object();
+
+	/**
+	 * Makes a benchmark.
+	 *
+	 * @param warmupRounds is the number of rounds run before timing.
+	 * @param rounds       is the number of timed rounds.
+	 * @param roundMillis  is about how long a round should take.
+	 */
+	public Benchmark(int warmupRounds, int rounds, long roundMillis) {
+		this.warmupRounds = warmupRounds;
+		this.rounds = rounds;
+		this.roundNanos = roundMillis * 1_000_000;
+	}
+
+	/**
+	 * Times an operation and keeps the median time of one run of it.
+	 *
+	 * @param name      is the name of the result, without spaces.
+	 * @param operation is the code to time, returning what it made.
+	 *
+	 * @return the median time of one run in nanoseconds.
+	 */
+	public double time(String name, Supplier<Object> operation) {
+		// doubles the batch until one takes a tenth of a round, then fills a round with it
+		int batch = 1;
+		long elapsed = runBatch(operation, batch);
+		while (elapsed < roundNanos / 10 && batch < (1 << 20)) {
+			batch *= 2;
+			elapsed = runBatch(operation, batch);
+		}
+		batch = (int) Math.max(1, Math.min(1 << 30, batch * roundNanos / Math.max(1, elapsed)));
+		for (int i = 0; i < warmupRounds; i++) {
+			runBatch(operation, batch);
+		}
+		double[] nanosPerOp = new double[rounds];
+		for (int i = 0; i < rounds; i++) {
+			nanosPerOp[i] = (double) runBatch(operation, batch) / batch;
+		}
+		Arrays.sort(nanosPerOp);
+		double median = nanosPerOp[rounds / 2];
+		record(name, median, NANOS_PER_OP);
+		return median;
+	}
+
+	/**
+	 * Keeps a result and prints it, times are kept by time and other results
+	 * such as sizes are kept here.
+	 *
+	 * @param name  is the name of the result, without spaces.
+	 * @param value is the value.
+	 * @param unit  is the unit of the value, without spaces.
+	 */
+	public void record(String name, double value, String unit) {
+		values.put(name, value);
+		units.put(name, unit);
+		System.out.printf("%-40s %14.1f %s%n", name, value, unit);
+	}
+
+	/**
+	 * Returns the results in the order they were made.
+	 *
+	 * @return each value by name.
+	 */
+	public LinkedHashMap<String, Double> getValues() {
+		return values;
+	}
+
+	/**
+	 * Writes the report, one result a line.
+	 *
+	 * @return the report.
+	 */
+	public String report() {
+		StringBuilder report = new StringBuilder();
+		for (Map.Entry<String, Double> entry : values.entrySet()) {
+			report.append(String.format("%-40s %14.1f %s%n", entry.getKey(), entry.getValue(),
+					units.get(entry.getKey())));
+		}
+		return report.toString();
+	}
+
+	/**
+	 * Saves the report to a file.
+	 *
+	 * @param file is the file, its directory is made if needed.
+	 */
+	public void save(File file) throws IOException {
+		if (file.getParentFile() != null) {
+			file.getParentFile().mkdirs();
+		}
+		Files.write(file.toPath(), report().getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Reads the values of a saved report.
+	 *
+	 * @param file is the report.
+	 *
+	 * @return each value by name.
+	 */
+	public static LinkedHashMap<String, Double> load(File file) throws IOException {
+		LinkedHashMap<String, Double> loaded = new LinkedHashMap<>();
+		for (String line : Files.readAllLines(file.toPath(), StandardCharsets.UTF_8)) {
+			String[] parts = line.trim().split("\\s+");
+			if (parts.length == 3) {
+				try {
+					loaded.put(parts[0], Double.parseDouble(parts[1]));
+				} catch (NumberFormatException e) {
+					// not a result line
+				}
+			}
+		}
+		return loaded;
+	}
+
+	/**
+	 * Compares the results with the ones of an earlier report.
+	 *
+	 * @param baseline is each earlier value by name.
+	 *
+	 * @return a line for every result in both, with how much it changed.
+	 */
+	public String compare(Map<String, Double> baseline) {
+		StringBuilder comparison = new StringBuilder();
+		for (Map.Entry<String, Double> entry : values.entrySet()) {
+			Double before = baseline.get(entry.getKey());
+			if (before == null || before == 0) {
+				continue;
+			}
+			double change = (entry.getValue() - before) / before * 100;
+			comparison.append(String.format("%-40s %14.1f -> %14.1f %s %+7.1f%%%n", entry.getKey(), before,
+					entry.getValue(), units.get(entry.getKey()), change));
+		}
+		return comparison.toString();
+	}
+
+	/**
+	 * Runs an operation a number of times.
+	 *
+	 * @param operation is the code to run.
+	 * @param batch     is how many times to run it.
+	 *
+	 * @return how long it took in nanoseconds.
+	 */
+	private static long runBatch(Supplier<Object> operation, int batch) {
+		int matches = 0;
+		long start = System.nanoTime();
+		for (int i = 0; i < batch; i++) {
+			// a compare leaves the result alone, where hashing it would write its header
+			if (operation.get() == sentinel) {
+				matches++;
+			}
+		}
+		long elapsed = System.nanoTime() - start;
+		sink += matches;
+		return elapsed;
+	}
+}
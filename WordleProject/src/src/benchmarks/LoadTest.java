@@ -0,0 +1,439 @@
+/**
+ * Simulates players to find how many the game can serve at once. Each player
+ * logs in the way the LoginDisplay does, plays whole games with a pause to
+ * think before each guess, and saves its statistics the way
+ * WordleGUI.writeUser does, through a UserCache over a UserStore. The number
+ * of players is ramped up in stages, and every stage reports its throughput
+ * and the latency percentiles of each operation. The first stage that adds
+ * players without adding at least a tenth more throughput marks the
+ * saturation point.
+ *
+ * Players either play in this process with GameSessions and a store in a
+ * scratch folder, or play against a running WordleServer:
+ *
+ * java src.benchmarks.LoadTest [--server=http://localhost:8080]
+ * [--ramp=1,2,4,8,16,32] [--stage-seconds=10] [--think-millis=200]
+ * [--rows=6] [--cols=5] [--dir=folder]
+ *
+ * Date: 10/19/2026
+ *
+ * @author Connor Kippes, Luke Laurie, Sean Eddy, Zachary Hansen
+ */
+
+package src.benchmarks;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import src.model.BoardStore;
+import src.model.CheckpointStore;
+import src.model.GameSession;
+import src.model.MetricHistogram;
+import src.model.Metrics;
+import src.model.UserCache;
+import src.model.UserStore;
+import src.model.Word;
+import src.model.WordleUser;
+import src.server.Json;
+
+public class LoadTest {
+	public static final String LOGIN = "login";
+	public static final String START = "start";
+	public static final String GUESS = "guess";
+	public static final String SAVE = "save";
+	// a stage must add this share of throughput for its players to count as served
+	private static final double SATURATION_GAIN = 0.1;
+	private String server;
+	private int rowSize;
+	private int colSize;
+	private long thinkMillis;
+	private ArrayList<ArrayList<String>> words;
+	private UserCache userCache;
+	private LinkedHashMap<String, MetricHistogram> latencies;
+	private AtomicLong operations;
+	private AtomicLong errors;
+
+	/**
+	 * Makes a load test.
+	 *
+	 * @param server      is the address of a WordleServer, or null to play in
+	 *                    this process.
+	 * @param directory   is the folder the store is kept in when playing in this
+	 *                    process.
+	 * @param rowSize     is the number of rows of each game.
+	 * @param colSize     is the number of columns of each game.
+	 * @param thinkMillis is the average pause before each operation.
+	 */
+	public LoadTest(String server, String directory, int rowSize, int colSize, long thinkMillis) {
+		this.server = server;
+		this.rowSize = rowSize;
+		this.colSize = colSize;
+		this.thinkMillis = thinkMillis;
+		words = Word.getInstance(colSize).getDict().getPickableWords(colSize);
+		if (server == null) {
+			BoardStore.setDirectory(directory + "/boards");
+			CheckpointStore.setDirectory(directory + "/checkpoints");
+			// sized like the cache of the game
+			userCache = new UserCache(new UserStore(directory + "/users", 16), 256, 30 * 60 * 1000);
+		}
+	}
+
+	public static void main(String[] args) throws Exception {
+		String server = null;
+		String directory = null;
+		int[] ramp = { 1, 2, 4, 8, 16, 32 };
+		long stageSeconds = 10;
+		long thinkMillis = 200;
+		int rowSize = 6;
+		int colSize = 5;
+		try {
+			for (String arg : args) {
+				String value = arg.substring(arg.indexOf('=') + 1);
+				if (arg.startsWith("--server=")) {
+					server = value.endsWith("/") ? value.substring(0, value.length() - 1) : value;
+				} else if (arg.startsWith("--ramp=")) {
+					String[] levels = value.split(",");
+					ramp = new int[levels.length];
+					for (int i = 0; i < levels.length; i++) {
+						ramp[i] = Integer.parseInt(levels[i].trim());
+					}
+				} else if (arg.startsWith("--stage-seconds=")) {
+					stageSeconds = Long.parseLong(value);
+				} else if (arg.startsWith("--think-millis=")) {
+					thinkMillis = Long.parseLong(value);
+				} else if (arg.startsWith("--rows=")) {
+					rowSize = Integer.parseInt(value);
+				} else if (arg.startsWith("--cols=")) {
+					colSize = Integer.parseInt(value);
+				} else if (arg.startsWith("--dir=")) {
+					directory = value;
+				} else {
+					throw new IllegalArgumentException("unknown option " + arg);
+				}
+			}
+		} catch (IllegalArgumentException e) {
+			System.out.println(e.getMessage());
+			System.out.println("Usage: LoadTest [--server=http://host:port] [--ramp=1,2,4,8] [--stage-seconds=10]"
+					+ " [--think-millis=200] [--rows=6] [--cols=5] [--dir=folder]");
+			return;
+		}
+		if (server == null && directory == null) {
+			directory = Files.createTempDirectory("loadtest").toString();
+		}
+		LoadTest loadTest = new LoadTest(server, directory, rowSize, colSize, thinkMillis);
+		System.out.println("Load test " + (server == null ? "in process, store in " + directory : "of " + server));
+		loadTest.ramp(ramp, stageSeconds * 1000);
+		if (Metrics.ENABLED) {
+			System.out.print(Metrics.dump());
+		}
+	}
+
+	/**
+	 * Runs a stage for each number of players and reports the saturation point.
+	 *
+	 * @param ramp        is the number of players of each stage, increasing.
+	 * @param stageMillis is how long each stage runs.
+	 *
+	 * @return the number of players at the saturation point, or -1 if the last
+	 *         stage still added throughput.
+	 */
+	public int ramp(int[] ramp, long stageMillis) throws InterruptedException {
+		double lastThroughput = 0;
+		for (int i = 0; i < ramp.length; i++) {
+			double throughput = runStage(ramp[i], stageMillis);
+			System.out.print(report(ramp[i], throughput));
+			if (i > 0 && throughput < lastThroughput * (1 + SATURATION_GAIN)) {
+				System.out.printf("Saturated at %d players, %.1f ops/s%n", ramp[i - 1], lastThroughput);
+				return ramp[i - 1];
+			}
+			lastThroughput = throughput;
+		}
+		System.out.println("Not saturated by " + ramp[ramp.length - 1] + " players");
+		return -1;
+	}
+
+	/**
+	 * Runs players for a while.
+	 *
+	 * @param players     is the number of players.
+	 * @param stageMillis is how long they play.
+	 *
+	 * @return the operations done a second.
+	 */
+	public double runStage(int players, long stageMillis) throws InterruptedException {
+		latencies = new LinkedHashMap<>();
+		for (String operation : new String[] { LOGIN, START, GUESS, SAVE }) {
+			latencies.put(operation, new MetricHistogram(operation + " (us)"));
+		}
+		operations = new AtomicLong();
+		errors = new AtomicLong();
+		long start = System.nanoTime();
+		long deadline = System.currentTimeMillis() + stageMillis;
+		ArrayList<Thread> threads = new ArrayList<>();
+		for (int i = 0; i < players; i++) {
+			int player = i;
+			Thread thread = new Thread(() -> play(player, deadline), "load-player-" + i);
+			thread.setDaemon(true);
+			threads.add(thread);
+			thread.start();
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		return operations.get() * 1e9 / (System.nanoTime() - start);
+	}
+
+	/**
+	 * Returns the latencies of the last stage.
+	 *
+	 * @return the latency of each operation in microseconds, by name.
+	 */
+	public LinkedHashMap<String, MetricHistogram> getLatencies() {
+		return latencies;
+	}
+
+	/**
+	 * Returns the number of operations of the last stage.
+	 *
+	 * @return the number of operations.
+	 */
+	public long getOperations() {
+		return operations.get();
+	}
+
+	/**
+	 * Returns the number of operations of the last stage that failed.
+	 *
+	 * @return the number of failures.
+	 */
+	public long getErrors() {
+		return errors.get();
+	}
+
+	/**
+	 * Describes the last stage.
+	 *
+	 * @param players    is the number of players of the stage.
+	 * @param throughput is the operations done a second.
+	 *
+	 * @return a line for the stage and one for each operation.
+	 */
+	private String report(int players, double throughput) {
+		StringBuilder report = new StringBuilder(String.format("%d players: %d ops, %.1f ops/s, %d errors%n",
+				players, operations.get(), throughput, errors.get()));
+		for (MetricHistogram histogram : latencies.values()) {
+			if (histogram.getCount() > 0) {
+				report.append(String.format("  %-12s p50 %8d  p95 %8d  p99 %8d  max %8d  n %d%n",
+						histogram.getName(), histogram.getPercentile(50), histogram.getPercentile(95),
+						histogram.getPercentile(99), histogram.getMax(), histogram.getCount()));
+			}
+		}
+		return report.toString();
+	}
+
+	/**
+	 * Plays as one player until the stage ends.
+	 *
+	 * @param player   is the number of the player.
+	 * @param deadline is when the stage ends, in milliseconds since the epoch.
+	 */
+	private void play(int player, long deadline) {
+		Random random = new Random(player);
+		String email = "player" + player + "@example.com";
+		try {
+			while (System.currentTimeMillis() < deadline) {
+				think(random);
+				if (server == null) {
+					playInProcess(timed(LOGIN, () -> login(email)), random, deadline);
+				} else {
+					// the server has no accounts, so logging in reads the statistics of the player
+					timed(LOGIN, () -> request("GET", "/players/" + email + "/stats", null));
+					playOnServer(email, random, deadline);
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Plays a game in this process and saves the user once it is over.
+	 *
+	 * @param user     is the logged in user.
+	 * @param random   is the Random of the player.
+	 * @param deadline is when the stage ends.
+	 */
+	private void playInProcess(WordleUser user, Random random, long deadline) throws InterruptedException {
+		if (user == null) {
+			return;
+		}
+		GameSession session = timed(START, () -> new GameSession(rowSize, randomWord(random)));
+		while (!session.isOver() && System.currentTimeMillis() < deadline) {
+			think(random);
+			ArrayList<String> word = randomWord(random);
+			timed(GUESS, () -> session.submit(word));
+		}
+		if (!session.isOver()) {
+			return;
+		}
+		think(random);
+		timed(SAVE, () -> {
+			user.setGuesses(session.getRows());
+			user.reportGame(session.isWon(), rowSize, colSize);
+			try {
+				userCache.saveUser(user);
+			} catch (IOException e) {
+				return null;
+			}
+			user.saveBoards();
+			return user;
+		});
+	}
+
+	/**
+	 * Plays a game on the server, which saves the statistics of the player
+	 * itself once the game is over.
+	 *
+	 * @param email    is the name of the player.
+	 * @param random   is the Random of the player.
+	 * @param deadline is when the stage ends.
+	 */
+	private void playOnServer(String email, Random random, long deadline) throws InterruptedException {
+		String query = "/games?rows=" + rowSize + "&cols=" + colSize + "&player="
+				+ URLEncoder.encode(email, StandardCharsets.UTF_8);
+		String game = timed(START, () -> request("POST", query, null));
+		String id = game == null ? null : Json.readString(game, "id");
+		String state = GameSession.IN_PROGRESS;
+		while (id != null && state.equals(GameSession.IN_PROGRESS) && System.currentTimeMillis() < deadline) {
+			think(random);
+			String body = new Json().add("guess", String.join("", randomWord(random))).toString();
+			String verdict = timed(GUESS, () -> request("POST", "/games/" + id + "/guesses", body));
+			state = verdict == null ? null : Json.readString(verdict, "state");
+			if (state == null) {
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Logs in like the LoginDisplay, making the account if there isn't one.
+	 *
+	 * @param email is the email of the player.
+	 *
+	 * @return the user, or null if the password was wrong or the user couldn't
+	 *         be read.
+	 */
+	private WordleUser login(String email) {
+		WordleUser user;
+		try {
+			user = userCache.getUser(email);
+		} catch (IOException e) {
+			return null;
+		}
+		if (user == null) {
+			user = new WordleUser(email, "password");
+			try {
+				userCache.saveUser(user);
+			} catch (IOException e) {
+				return null;
+			}
+			user.saveBoards();
+			return user;
+		}
+		return user.getPassword().equals("password") ? user : null;
+	}
+
+	/**
+	 * Sends a request to the server.
+	 *
+	 * @param method is the HTTP method.
+	 * @param path   is the path and query.
+	 * @param body   is the JSON body, or null for none.
+	 *
+	 * @return the body of the response, or null if it failed.
+	 */
+	private String request(String method, String path, String body) {
+		try {
+			HttpURLConnection connection = (HttpURLConnection) new URL(server + path).openConnection();
+			connection.setRequestMethod(method);
+			if (body != null) {
+				connection.setDoOutput(true);
+				connection.setRequestProperty("Content-Type", "application/json");
+				try (OutputStream out = connection.getOutputStream()) {
+					out.write(body.getBytes(StandardCharsets.UTF_8));
+				}
+			}
+			int status = connection.getResponseCode();
+			InputStream in = status < 400 ? connection.getInputStream() : connection.getErrorStream();
+			String response = in == null ? "" : new String(in.readAllBytes(), StandardCharsets.UTF_8);
+			if (in != null) {
+				in.close();
+			}
+			// a player without a finished game has no statistics yet
+			if (status >= 400 && !(status == 404 && path.startsWith("/players/"))) {
+				return null;
+			}
+			return response;
+		} catch (IOException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Runs an operation, keeping how long it took. Operations that return null
+	 * or throw are counted as errors.
+	 *
+	 * @param operation is the name of the operation.
+	 * @param work      is the operation.
+	 *
+	 * @return what the operation returned, or null if it failed.
+	 */
+	private <T> T timed(String operation, Supplier<T> work) {
+		long start = System.nanoTime();
+		T result;
+		try {
+			result = work.get();
+		} catch (RuntimeException e) {
+			result = null;
+		}
+		latencies.get(operation).record((System.nanoTime() - start) / 1000);
+		operations.incrementAndGet();
+		if (result == null) {
+			errors.incrementAndGet();
+		}
+		return result;
+	}
+
+	/**
+	 * Waits for a random time around the think time.
+	 *
+	 * @param random is the Random of the player.
+	 */
+	private void think(Random random) throws InterruptedException {
+		if (thinkMillis > 0) {
+			Thread.sleep((long) (random.nextDouble() * 2 * thinkMillis));
+		}
+	}
+
+	/**
+	 * Picks a random word that could be an answer.
+	 *
+	 * @param random is the Random of the player.
+	 *
+	 * @return the letters of the word.
+	 */
+	private ArrayList<String> randomWord(Random random) {
+		return words.get(random.nextInt(words.size()));
+	}
+}
@@ -0,0 +1,211 @@
+/**
+ * Benchmarks the hot paths of the model: loading and searching the Dictionary,
+ * scoring guesses with repeated letters, finding the word of the day, writing
+ * and reading users and coloring the keyboard. Run from the WordleProject
+ * folder so the word lists are found:
+ *
+ * java src.benchmarks.ModelBenchmarks [--out=benchmarks/latest.txt]
+ * [--baseline=benchmarks/baseline.txt] [--quick]
+ *
+ * The report is saved to the out file and, when a baseline report is given,
+ * every result is printed next to the one in the baseline.
+ *
+ * Date: 10/19/2026
+ *
+ * @author Connor Kippes, Luke Laurie, Sean Eddy, Zachary Hansen
+ */
+
+package src.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import src.model.Dictionary;
+import src.model.Guess;
+import src.model.KeyColors;
+import src.model.Storage;
+import src.model.Word;
+import src.model.WordleUser;
+
+public class ModelBenchmarks {
+
+	public static void main(String[] args) throws Exception {
+		File out = new File("benchmarks/latest.txt");
+		File baseline = null;
+		boolean isQuick = false;
+		for (String arg : args) {
+			if (arg.startsWith("--out=")) {
+				out = new File(arg.substring("--out=".length()));
+			} else if (arg.startsWith("--baseline=")) {
+				baseline = new File(arg.substring("--baseline=".length()));
+			} else if (arg.equals("--quick")) {
+				isQuick = true;
+			} else {
+				System.out.println("Usage: ModelBenchmarks [--out=file] [--baseline=file] [--quick]");
+				return;
+			}
+		}
+		Benchmark benchmark = isQuick ? new Benchmark(1, 3, 50) : new Benchmark(5, 9, 200);
+		dictionary(benchmark);
+		guesses(benchmark);
+		word(benchmark);
+		users(benchmark, 1000);
+		users(benchmark, isQuick ? 10000 : 100000);
+		keyboard(benchmark);
+		benchmark.save(out);
+		System.out.println("Saved " + out);
+		if (baseline != null) {
+			System.out.println("Compared with " + baseline);
+			System.out.print(benchmark.compare(Benchmark.load(baseline)));
+		}
+	}
+
+	/**
+	 * Times reading the word lists and searching them.
+	 *
+	 * @param benchmark is where the results are kept.
+	 */
+	private static void dictionary(Benchmark benchmark) {
+		benchmark.time("dictionary.construct", Dictionary::new);
+		Dictionary dictionary = new Dictionary();
+		ArrayList<String> hit = letters("crane");
+		ArrayList<String> miss = letters("zzzzz");
+		benchmark.time("dictionary.isValidWord.hit", () -> dictionary.isValidWord(hit));
+		benchmark.time("dictionary.isValidWord.miss", () -> dictionary.isValidWord(miss));
+		benchmark.time("dictionary.getRandomWord.5", () -> dictionary.getRandomWord(5));
+		benchmark.time("dictionary.getRandomWord.7", () -> dictionary.getRandomWord(7));
+	}
+
+	/**
+	 * Times scoring guesses, the worst cases are words that repeat letters the
+	 * answer also repeats, which take the second pass over the colors.
+	 *
+	 * @param benchmark is where the results are kept.
+	 */
+	private static void guesses(Benchmark benchmark) {
+		guess(benchmark, "guess.makeGuess.distinct", "crane", "sloth");
+		guess(benchmark, "guess.makeGuess.exact", "crane", "crane");
+		guess(benchmark, "guess.makeGuess.repeatedLetters", "eerie", "geese");
+		guess(benchmark, "guess.makeGuess.repeatedWrongPlace", "level", "eerie");
+		guess(benchmark, "guess.makeGuess.tripleLetters", "mamma", "llama");
+	}
+
+	/**
+	 * Times scoring one guess against an answer.
+	 *
+	 * @param benchmark is where the results are kept.
+	 * @param name      is the name of the result.
+	 * @param answer    is the answer.
+	 * @param word      is the guess.
+	 */
+	private static void guess(Benchmark benchmark, String name, String answer, String word) {
+		Guess guess = new Guess(5);
+		guess.setAnswer(letters(answer));
+		ArrayList<String> letters = letters(word);
+		benchmark.time(name, () -> guess.makeGuess(letters, 6));
+	}
+
+	/**
+	 * Times finding the word of the day, which reads the saved date each time.
+	 *
+	 * @param benchmark is where the results are kept.
+	 */
+	private static void word(Benchmark benchmark) {
+		Word word = Word.getInstance(5);
+		benchmark.time("word.getCurWord", () -> word.getCurWord(5, 6));
+	}
+
+	/**
+	 * Measures the size of a list of users written with Storage and times writing
+	 * and reading it.
+	 *
+	 * @param benchmark is where the results are kept.
+	 * @param count     is the number of users.
+	 */
+	private static void users(Benchmark benchmark, int count) throws IOException, ClassNotFoundException {
+		ArrayList<WordleUser> users = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			users.add(playedUser(i));
+		}
+		String suffix = count >= 1000 ? count / 1000 + "k" : String.valueOf(count);
+		byte[] bytes = Storage.serialize(users);
+		benchmark.record("users.bytes." + suffix, bytes.length, "bytes");
+		benchmark.record("users.bytesPerUser." + suffix, (double) bytes.length / count, "bytes");
+		benchmark.time("users.serialize." + suffix, () -> {
+			try {
+				return Storage.serialize(users);
+			} catch (IOException e) {
+				throw new IllegalStateException(e);
+			}
+		});
+		benchmark.time("users.deserialize." + suffix, () -> {
+			try {
+				return Storage.deserialize(bytes);
+			} catch (IOException | ClassNotFoundException e) {
+				throw new IllegalStateException(e);
+			}
+		});
+	}
+
+	/**
+	 * Times coloring the keyboard with every guess of a game, the way the
+	 * KeyboardDisplay does after each guess.
+	 *
+	 * @param benchmark is where the results are kept.
+	 */
+	private static void keyboard(Benchmark benchmark) {
+		Guess guess = new Guess(5);
+		guess.setAnswer(letters("eerie"));
+		ArrayList<ArrayList<String>> words = new ArrayList<>();
+		ArrayList<ArrayList<String>> colors = new ArrayList<>();
+		for (String word : new String[] { "crane", "sloth", "level", "geese", "eerie" }) {
+			words.add(letters(word));
+			colors.add(guess.makeGuess(letters(word), 6));
+		}
+		KeyColors keyColors = new KeyColors();
+		benchmark.time("keyColors.game", () -> {
+			keyColors.clear();
+			for (int row = 0; row < words.size(); row++) {
+				for (int i = 0; i < 5; i++) {
+					keyColors.update(words.get(row).get(i).toUpperCase(), colors.get(row).get(i));
+				}
+			}
+			return keyColors.getColors();
+		});
+	}
+
+	/**
+	 * Makes a user who has played a few games of a few sizes.
+	 *
+	 * @param number is a number to make the email from.
+	 *
+	 * @return the user.
+	 */
+	private static WordleUser playedUser(int number) {
+		WordleUser user = new WordleUser("player" + number + "@example.com", "password" + number);
+		ArrayList<ArrayList<String>> guesses = new ArrayList<>();
+		guesses.add(letters("crane"));
+		guesses.add(letters("sloth"));
+		for (int i = 2; i < 6; i++) {
+			guesses.add(letters("     "));
+		}
+		for (int game = 0; game < 3; game++) {
+			user.setGuesses(guesses);
+			user.reportGame(game != 1, 6, 5);
+		}
+		return user;
+	}
+
+	/**
+	 * Splits a word into letters.
+	 *
+	 * @param word is the word.
+	 *
+	 * @return the letters.
+	 */
+	private static ArrayList<String> letters(String word) {
+		return new ArrayList<>(Arrays.asList(word.split("")));
+	}
+}
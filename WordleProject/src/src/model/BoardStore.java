@@ -0,0 +1,147 @@
+/**
+ * Stores the per-size board data (the guesses made on each board size) of a
+ * WordleUser in its own file so only the board that is being played has to be
+ * read from disk. Each file holds its format version, the date and the board.
+ * Boards saved before the format had a version, as a date and a board written
+ * one after the other, are still read and are saved again in the new format.
+ *
+ * Date: 10/19/2026
+ *
+ * @author Connor Kippes, Luke Laurie, Sean Eddy, Zachary Hansen
+ */
+
+package src.model;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+public class BoardStore {
+	private static final int FORMAT_VERSION = 3;
+	private static String directory = "boards";
+
+	/**
+	 * This method reads the board of one size for a user
+	 *
+	 * @param email   is a String representing the email of the user
+	 * @param rowSize is an int representing the number of rows in the game
+	 * @param colSize is an int representing the number of columns in the game
+	 * @param date    is the LocalDate the board has to be from to still be used
+	 *
+	 * @return the saved guesses, or null if there is no board for that date
+	 */
+	@SuppressWarnings("unchecked")
+	public static ArrayList<ArrayList<String>> loadBoard(String email, int rowSize, int colSize, LocalDate date) {
+		File file = boardFile(email, rowSize, colSize);
+		if (!file.exists()) {
+			return null;
+		}
+		try {
+			Object contents = Storage.readObject(file.toString());
+			Object[] record;
+			boolean isOldFormat = true;
+			if (!(contents instanceof Object[])) {
+				// the first format was the date and the board written one after the other
+				record = readOldBoard(file);
+			} else if (((Object[]) contents).length == 2) {
+				// the second was the date and the board in an array without a version
+				record = (Object[]) contents;
+			} else {
+				Object[] versioned = (Object[]) contents;
+				if (!Integer.valueOf(FORMAT_VERSION).equals(versioned[0])) {
+					throw new IOException("unknown board format " + versioned[0]);
+				}
+				record = Arrays.copyOfRange(versioned, 1, versioned.length);
+				isOldFormat = false;
+			}
+			LocalDate boardDate = (LocalDate) record[0];
+			ArrayList<ArrayList<String>> board = (ArrayList<ArrayList<String>>) record[1];
+			if (isOldFormat) {
+				saveBoard(email, boardDate, board);
+			}
+			// boards from an earlier day are treated as empty
+			if (boardDate == null || !boardDate.equals(date)) {
+				return null;
+			}
+			return board;
+		} catch (Exception e) {
+			System.out.println("Reading board " + rowSize + "x" + colSize + " failed");
+			return null;
+		}
+	}
+
+	/**
+	 * This method saves the board of one size for a user
+	 *
+	 * @param email   is a String representing the email of the user
+	 * @param date    is the LocalDate the board was played on
+	 * @param board   is the guesses made on the board
+	 */
+	public static void saveBoard(String email, LocalDate date, ArrayList<ArrayList<String>> board) {
+		int rowSize = board.size();
+		int colSize = board.get(0).size();
+		File file = boardFile(email, rowSize, colSize);
+		try {
+			Storage.writeObject(file.toString(), new Object[] { FORMAT_VERSION, date, board });
+		} catch (Exception e) {
+			System.out.println("Writing board " + rowSize + "x" + colSize + " failed");
+		}
+	}
+
+	/**
+	 * This method reads a board saved before the format had a version, which is a
+	 * date and a board serialized one after the other
+	 *
+	 * @param file is the file of the board
+	 *
+	 * @return the date and the board
+	 */
+	private static Object[] readOldBoard(File file) throws IOException, ClassNotFoundException {
+		try (ObjectInputStream in = new ObjectInputStream(new FileInputStream(file))) {
+			return new Object[] { in.readObject(), in.readObject() };
+		}
+	}
+
+	/**
+	 * This method sets the directory the boards are kept in
+	 *
+	 * @param boardDirectory is a String representing the directory
+	 */
+	public static void setDirectory(String boardDirectory) {
+		directory = boardDirectory;
+	}
+
+	/**
+	 * This method finds the file for a board
+	 *
+	 * @param email   is a String representing the email of the user
+	 * @param rowSize is an int representing the number of rows in the game
+	 * @param colSize is an int representing the number of columns in the game
+	 *
+	 * @return the file of the board
+	 */
+	private static File boardFile(String email, int rowSize, int colSize) {
+		return new File(new File(directory, userDirectory(email)), rowSize + "x" + colSize + ".ser");
+	}
+
+	/**
+	 * This method finds the name of the directory of a user's files. The email is
+	 * hex encoded so any character is allowed in it.
+	 *
+	 * @param email is a String representing the email of the user
+	 *
+	 * @return the name of the directory
+	 */
+	static String userDirectory(String email) {
+		StringBuilder userDirectory = new StringBuilder();
+		for (byte curByte : email.getBytes(StandardCharsets.UTF_8)) {
+			userDirectory.append(String.format("%02x", curByte));
+		}
+		return userDirectory.toString();
+	}
+}
@@ -0,0 +1,196 @@
+/**
+ * Keeps a small journal per board of the guesses made since the board was last
+ * saved. A record is added after every accepted guess so a crash in the middle
+ * of a game only loses the guess being typed, without saving the whole user
+ * after every guess.
+ *
+ * Date: 10/19/2026
+ *
+ * @author Connor Kippes, Luke Laurie, Sean Eddy, Zachary Hansen
+ */
+
+package src.model;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+
+public class CheckpointStore {
+	private static String directory = "checkpoints";
+
+	/**
+	 * This method adds an accepted guess to the checkpoint of a board
+	 *
+	 * @param email   is a String representing the email of the user
+	 * @param rowSize is an int representing the number of rows in the game
+	 * @param date    is the LocalDate the board is played on
+	 * @param row     is an int representing the row the guess was made in
+	 * @param guess   is the letters of the guess
+	 * @throws IOException if the guess could not be written
+	 */
+	public static void appendGuess(String email, int rowSize, LocalDate date, int row, ArrayList<String> guess)
+			throws IOException {
+		// stored as date|row|letters, a handful of bytes per guess
+		String record = date + "|" + row + "|" + String.join("", guess);
+		Storage.appendRecord(checkpointFile(email, rowSize, guess.size()), record.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * This method puts the guesses from a board's checkpoint into the board. Rows
+	 * that already hold a guess are left alone, so replaying a checkpoint that
+	 * was already saved with the board changes nothing.
+	 *
+	 * @param email   is a String representing the email of the user
+	 * @param date    is the LocalDate the board is played on
+	 * @param guesses is the board to restore into
+	 *
+	 * @return true if any row was restored
+	 */
+	public static boolean restore(String email, LocalDate date, ArrayList<ArrayList<String>> guesses) {
+		int rowSize = guesses.size();
+		int colSize = guesses.get(0).size();
+		File file = checkpointFile(email, rowSize, colSize);
+		boolean restored = false;
+		try {
+			for (byte[] record : Storage.readRecords(file)) {
+				String[] parts = new String(record, StandardCharsets.UTF_8).split("\\|");
+				// values saved with appendValue are not guesses
+				if (!parts[1].matches("\\d+")) {
+					continue;
+				}
+				int row = Integer.parseInt(parts[1]);
+				// checkpoints from an earlier day are ignored
+				if (!parts[0].equals(date.toString()) || row >= rowSize || parts[2].length() != colSize) {
+					continue;
+				}
+				if (guesses.get(row).get(0).equals(" ")) {
+					ArrayList<String> guess = new ArrayList<>();
+					for (int i = 0; i < colSize; i++) {
+						guess.add(parts[2].substring(i, i + 1));
+					}
+					guesses.set(row, guess);
+					restored = true;
+				}
+			}
+		} catch (Exception e) {
+			System.out.println("Reading checkpoint failed: " + e.getMessage());
+		}
+		return restored;
+	}
+
+	/**
+	 * This method adds a named value to the checkpoint of a board, for what a
+	 * board needs besides its guesses to be continued, such as its answer
+	 *
+	 * @param email   is a String representing the email of the user
+	 * @param rowSize is an int representing the number of rows in the game
+	 * @param colSize is an int representing the number of columns in the game
+	 * @param date    is the LocalDate the board is played on
+	 * @param name    is a String naming the value, made of letters
+	 * @param value   is a String value
+	 * @throws IOException if the value could not be written
+	 */
+	public static void appendValue(String email, int rowSize, int colSize, LocalDate date, String name,
+			String value) throws IOException {
+		String record = date + "|" + name + "|" + value;
+		Storage.appendRecord(checkpointFile(email, rowSize, colSize), record.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * This method reads the last named value added to the checkpoint of a board
+	 * on a date
+	 *
+	 * @param email   is a String representing the email of the user
+	 * @param rowSize is an int representing the number of rows in the game
+	 * @param colSize is an int representing the number of columns in the game
+	 * @param date    is the LocalDate the board is played on
+	 * @param name    is a String naming the value
+	 *
+	 * @return the value, or null if there is none
+	 */
+	public static String readValue(String email, int rowSize, int colSize, LocalDate date, String name) {
+		String value = null;
+		try {
+			for (byte[] record : Storage.readRecords(checkpointFile(email, rowSize, colSize))) {
+				String[] parts = new String(record, StandardCharsets.UTF_8).split("\\|", 3);
+				if (parts.length == 3 && parts[0].equals(date.toString()) && parts[1].equals(name)) {
+					value = parts[2];
+				}
+			}
+		} catch (Exception e) {
+			System.out.println("Reading checkpoint failed: " + e.getMessage());
+		}
+		return value;
+	}
+
+	/**
+	 * This method removes the checkpoint of a board once the board is saved or
+	 * reset, and the directory of the user once it holds no checkpoints
+	 *
+	 * @param email   is a String representing the email of the user
+	 * @param rowSize is an int representing the number of rows in the game
+	 * @param colSize is an int representing the number of columns in the game
+	 */
+	public static void clear(String email, int rowSize, int colSize) {
+		File file = checkpointFile(email, rowSize, colSize);
+		file.delete();
+		// only removed if it is empty
+		file.getParentFile().delete();
+	}
+
+	/**
+	 * This method removes every checkpoint last written before a date, and the
+	 * directories left empty. Restoring ignores checkpoints of an earlier day, so
+	 * nothing that could be restored is lost.
+	 *
+	 * @param date is the LocalDate whose checkpoints are kept
+	 *
+	 * @return the number of checkpoints removed
+	 */
+	public static int purgeBefore(LocalDate date) {
+		long startOfDay = date.atStartOfDay(ZoneId.systemDefault()).toInstant().toEpochMilli();
+		File[] userDirectories = new File(directory).listFiles(File::isDirectory);
+		if (userDirectories == null) {
+			return 0;
+		}
+		int purged = 0;
+		for (File userDirectory : userDirectories) {
+			File[] checkpoints = userDirectory.listFiles((parent, name) -> name.endsWith(".ckpt"));
+			if (checkpoints != null) {
+				for (File checkpoint : checkpoints) {
+					if (checkpoint.lastModified() < startOfDay && checkpoint.delete()) {
+						purged++;
+					}
+				}
+			}
+			// only removed if it is empty
+			userDirectory.delete();
+		}
+		return purged;
+	}
+
+	/**
+	 * This method sets the directory the checkpoints are kept in
+	 *
+	 * @param checkpointDirectory is a String representing the directory
+	 */
+	public static void setDirectory(String checkpointDirectory) {
+		directory = checkpointDirectory;
+	}
+
+	/**
+	 * This method finds the checkpoint file of a board
+	 *
+	 * @param email   is a String representing the email of the user
+	 * @param rowSize is an int representing the number of rows in the game
+	 * @param colSize is an int representing the number of columns in the game
+	 *
+	 * @return the file of the checkpoint
+	 */
+	private static File checkpointFile(String email, int rowSize, int colSize) {
+		return new File(new File(directory, BoardStore.userDirectory(email)), rowSize + "x" + colSize + ".ckpt");
+	}
+}
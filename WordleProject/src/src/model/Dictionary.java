@@ -20,10 +20,15 @@ import java.util.Scanner;
 public class Dictionary implements Serializable {
 	private HashMap<Integer, HashSet<ArrayList<String>>> possibleWords = new HashMap<>();
 	private HashMap<Integer, HashSet<ArrayList<String>>> pickableWords = new HashMap<>();
+	private static final MetricHistogram LOAD_NANOS = Metrics.histogram("dictionary.load.ns");
 
 	public Dictionary() {
+		long start = Metrics.ENABLED ? System.nanoTime() : 0;
 		readFile("possible");
 		readFile("pickable");
+		if (Metrics.ENABLED) {
+			LOAD_NANOS.record(System.nanoTime() - start);
+		}
 	}
 
 	/**
@@ -73,6 +78,45 @@ public class Dictionary implements Serializable {
 		return wordExists;
 	}
 
+	/**
+	 * This method returns the words that can be picked as answers, in
+	 * alphabetical order
+	 * @param wordSize an integer of the size of the words
+	 * @return An ArrayList of the words, empty if there are none of that size
+	 */
+	public ArrayList<ArrayList<String>> getPickableWords(int wordSize) {
+		return sortedWords(pickableWords.get(wordSize), wordSize);
+	}
+
+	/**
+	 * This method returns the words that can be guessed, in alphabetical order
+	 * @param wordSize an integer of the size of the words
+	 * @return An ArrayList of the words, empty if there are none of that size
+	 */
+	public ArrayList<ArrayList<String>> getPossibleWords(int wordSize) {
+		return sortedWords(possibleWords.get(wordSize), wordSize);
+	}
+
+	/**
+	 * This method copies the words of the right size from a set into a sorted
+	 * list, as some of the files have a few words of other sizes
+	 * @param words a HashSet of words, or null
+	 * @param wordSize an integer of the size of the words
+	 * @return An ArrayList of the words in alphabetical order
+	 */
+	private ArrayList<ArrayList<String>> sortedWords(HashSet<ArrayList<String>> words, int wordSize) {
+		ArrayList<ArrayList<String>> sorted = new ArrayList<>();
+		if (words != null) {
+			for (ArrayList<String> word : words) {
+				if (word.size() == wordSize) {
+					sorted.add(word);
+				}
+			}
+		}
+		sorted.sort((first, second) -> String.join("", first).compareTo(String.join("", second)));
+		return sorted;
+	}
+
 	/**
 	 * This method opens a serialized file and stores the information
 	 * @param colSize an integer to determine the correct serialized file
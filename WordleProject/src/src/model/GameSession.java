@@ -0,0 +1,317 @@
+/**
+ * One game of Wordle without any display. The session holds the guesses made
+ * so far, judges new ones, moves to the next row, decides when the game is won
+ * or lost and reports the result to the player's statistics. The board on the
+ * screen only shows what the session decided, so a game can also be played
+ * without JavaFX, for example in a simulation or on a server.
+ *
+ * Date: 10/19/2026
+ *
+ * @author Connor Kippes, Luke Laurie, Sean Eddy, Zachary Hansen
+ */
+
+package src.model;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+
+public class GameSession {
+	public static final String IN_PROGRESS = "in progress";
+	public static final String WON = "won";
+	public static final String LOST = "lost";
+	private int rowSize;
+	private int colSize;
+	private WordleUser user;
+	private Guess guess;
+	private boolean isHardMode = false;
+	private ArrayList<ArrayList<String>> rows = new ArrayList<>();
+	private ArrayList<ArrayList<String>> placements = new ArrayList<>();
+	private String state = IN_PROGRESS;
+
+	/**
+	 * This constructor starts a game of the word of the day for a user. The
+	 * guesses of the user are restored with replay, and each accepted guess is
+	 * checkpointed and the result reported to the user's statistics.
+	 *
+	 * @param rowSize is an int representing the number of rows in the game
+	 * @param colSize is an int representing the number of columns in the game
+	 * @param user    is the WordleUser playing the game
+	 */
+	public GameSession(int rowSize, int colSize, WordleUser user) {
+		this.rowSize = rowSize;
+		this.colSize = colSize;
+		this.user = user;
+		guess = new Guess(colSize);
+		// the guesses of an earlier day are not continued
+		if (!LocalDate.now().equals(user.getDate())) {
+			user.initializeInfo(true);
+		}
+		emptyRows();
+	}
+
+	/**
+	 * This constructor starts a game of a fixed answer that belongs to no user,
+	 * so nothing is saved or reported
+	 *
+	 * @param rowSize is an int representing the number of rows in the game
+	 * @param answer  is the letters of the word to guess
+	 */
+	public GameSession(int rowSize, ArrayList<String> answer) {
+		this.rowSize = rowSize;
+		this.colSize = answer.size();
+		guess = new Guess(colSize);
+		guess.setAnswer(answer);
+		emptyRows();
+	}
+
+	/**
+	 * This method judges a guess and, if it is accepted, puts it in the next row,
+	 * saves it and reports the game once it is over
+	 *
+	 * @param letters is the guessed word as letters
+	 * @return the verdict on the guess
+	 */
+	public GuessResult submit(ArrayList<String> letters) {
+		return accept(judge(letters));
+	}
+
+	/**
+	 * This method judges a guess without changing the game, so it can be judged
+	 * on another thread as long as nothing changes the game meanwhile. Passing
+	 * the verdict to accept then plays the guess.
+	 *
+	 * @param letters is the guessed word as letters
+	 * @return the verdict on the guess
+	 */
+	public GuessResult judge(ArrayList<String> letters) {
+		if (isOver()) {
+			return GuessResult.rejected(GuessResult.GAME_OVER, letters, "Game over");
+		}
+		return guess.judge(letters, rowSize, isHardMode);
+	}
+
+	/**
+	 * This method plays a guess judged by judge if it was accepted, putting it
+	 * in the next row, saving it and reporting the game once it is over
+	 *
+	 * @param result is the verdict of judge
+	 * @return the verdict on the guess
+	 */
+	public GuessResult accept(GuessResult result) {
+		return play(result, true);
+	}
+
+	/**
+	 * This method puts a guess that was already made back on the board, without
+	 * saving it again or reporting the game. It was accepted when it was made, so
+	 * it isn't looked up in the word list again
+	 *
+	 * @param letters is the guessed word as letters
+	 * @return the verdict on the guess
+	 */
+	public GuessResult replay(ArrayList<String> letters) {
+		if (isOver()) {
+			return play(GuessResult.rejected(GuessResult.GAME_OVER, letters, "Game over"), false);
+		}
+		return play(guess.rescore(letters, rowSize), false);
+	}
+
+	/**
+	 * This method returns the guesses of the user saved for this size, with " "
+	 * letters in rows that weren't guessed
+	 *
+	 * @return the saved rows, or empty rows for a game without a user
+	 */
+	public ArrayList<ArrayList<String>> getSavedGuesses() {
+		if (user == null) {
+			return copyRows();
+		}
+		return user.getGuesses(rowSize, colSize);
+	}
+
+	/**
+	 * This method returns the rows of the board, with " " letters in rows that
+	 * weren't guessed yet
+	 *
+	 * @return a copy of the rows
+	 */
+	public ArrayList<ArrayList<String>> getRows() {
+		return copyRows();
+	}
+
+	/**
+	 * This method returns the colors of every accepted guess in order
+	 *
+	 * @return the colors of each accepted row
+	 */
+	public ArrayList<ArrayList<String>> getPlacements() {
+		return placements;
+	}
+
+	/**
+	 * This method returns the letters of the word to guess
+	 *
+	 * @return ArrayList of the letters of the answer
+	 */
+	public ArrayList<String> getAnswer() {
+		return guess.getAnswer(rowSize);
+	}
+
+	/**
+	 * This method returns the row the next guess goes in, which is the number of
+	 * accepted guesses
+	 *
+	 * @return an int row
+	 */
+	public int getCurRow() {
+		return placements.size();
+	}
+
+	/**
+	 * This method returns the state of the game
+	 *
+	 * @return IN_PROGRESS, WON or LOST
+	 */
+	public String getState() {
+		return state;
+	}
+
+	/**
+	 * This method returns if the game was won
+	 *
+	 * @return true if the last guess was the answer
+	 */
+	public boolean isWon() {
+		return state.equals(WON);
+	}
+
+	/**
+	 * This method returns if the game was lost
+	 *
+	 * @return true if every row was used without guessing the answer
+	 */
+	public boolean isLost() {
+		return state.equals(LOST);
+	}
+
+	/**
+	 * This method returns if the game is over
+	 *
+	 * @return true if the game was won or lost
+	 */
+	public boolean isOver() {
+		return !state.equals(IN_PROGRESS);
+	}
+
+	/**
+	 * This method turns hard mode on or off
+	 *
+	 * @param isHardMode is true if the hints of the last guess must be used
+	 */
+	public void setHardMode(boolean isHardMode) {
+		this.isHardMode = isHardMode;
+	}
+
+	/**
+	 * This method returns if hard mode is on
+	 *
+	 * @return true if the hints of the last guess must be used
+	 */
+	public boolean isHardMode() {
+		return isHardMode;
+	}
+
+	/**
+	 * This method returns the Guess that judges the guesses, which also names the
+	 * colors for the current theme
+	 *
+	 * @return the Guess of the game
+	 */
+	public Guess getGuess() {
+		return guess;
+	}
+
+	/**
+	 * This method returns the number of rows
+	 *
+	 * @return an int
+	 */
+	public int getRowSize() {
+		return rowSize;
+	}
+
+	/**
+	 * This method returns the length of the word
+	 *
+	 * @return an int
+	 */
+	public int getColSize() {
+		return colSize;
+	}
+
+	/**
+	 * This method moves the game forward with a guess if it was accepted
+	 *
+	 * @param result     is the verdict on the guess
+	 * @param isNewGuess is true for a guess the player just made
+	 * @return the verdict on the guess
+	 */
+	private GuessResult play(GuessResult result, boolean isNewGuess) {
+		ArrayList<String> letters = result.getGuess();
+		if (!result.isAccepted()) {
+			return result;
+		}
+		if (isOver()) {
+			return GuessResult.rejected(GuessResult.GAME_OVER, letters, "Game over");
+		}
+		guess.accept(result);
+		int row = getCurRow();
+		rows.set(row, new ArrayList<>(letters));
+		placements.add(result.getPlacements());
+		if (isNewGuess && user != null) {
+			// saves the guess right away so a crash doesn't lose the game
+			try {
+				CheckpointStore.appendGuess(user.getEmail(), rowSize, user.getDate(), row, letters);
+			} catch (IOException e) {
+				System.out.println("Writing checkpoint failed: " + e.getMessage());
+			}
+		}
+		if (result.isWon()) {
+			state = WON;
+		} else if (getCurRow() == rowSize) {
+			state = LOST;
+		}
+		if (isOver() && isNewGuess && user != null) {
+			user.setGuesses(copyRows());
+			user.reportGame(isWon(), rowSize, colSize);
+		}
+		return result;
+	}
+
+	/**
+	 * This method fills the board with rows that weren't guessed
+	 */
+	private void emptyRows() {
+		for (int i = 0; i < rowSize; i++) {
+			ArrayList<String> row = new ArrayList<>();
+			for (int j = 0; j < colSize; j++) {
+				row.add(" ");
+			}
+			rows.add(row);
+		}
+	}
+
+	/**
+	 * This method copies the rows so changes to the copy don't change the board
+	 *
+	 * @return a copy of every row
+	 */
+	private ArrayList<ArrayList<String>> copyRows() {
+		ArrayList<ArrayList<String>> copy = new ArrayList<>();
+		for (ArrayList<String> row : rows) {
+			copy.add(new ArrayList<>(row));
+		}
+		return copy;
+	}
+}
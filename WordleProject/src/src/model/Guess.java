@@ -14,26 +14,32 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 
-import src.view.WordleGUI;
 
 public class Guess implements Serializable{
 	private ArrayList<String> curGuess = new ArrayList<>();
 	ArrayList<String> tempGuess = new ArrayList<>();
 	private ArrayList<String> curGuessColors = new ArrayList<>();
-	private String guessColors[] = { "Green", "Yellow", "Dark Gray" };
+	// replaced whole when the theme changes, so a guess judged on the engine
+	// thread colors every letter from the same theme
+	private volatile String guessColors[] = { "Green", "Yellow", "Dark Gray" };
 	private int guessNumber = 0;
 	private Word word;
+	// a fixed answer instead of the word of the day, null for the word of the day
+	private ArrayList<String> answer;
 	private int colSize = 5;
+	private static final MetricHistogram VALIDATE_NANOS = Metrics.histogram("guess.validate.ns");
+	private static final MetricHistogram SCORE_NANOS = Metrics.histogram("guess.score.ns");
 	
 	/**
-	 * This constructor initializes the local Word class and wordle game column size
+	 * This constructor sets the wordle game column size, the Word class is only
+	 * looked up once the first guess needs it so the dictionary can still be
+	 * loading
 	 * 
 	 * @param colSize integer column size of the current wordle game (word length)
 	 */
 	public Guess(int colSize)
 	{
 		this.colSize = colSize;
-		word = Word.getInstance(this.colSize);
 	}
 
 	/**
@@ -45,57 +51,161 @@ public class Guess implements Serializable{
 	 */
 	public ArrayList<String> makeGuess(ArrayList<String> guess, int size) {
 		if (canGuess(guess)) {
+			ArrayList<String> colorListAsArray = score(guess, getAnswer(size));
 			//prevGuess = curGuess;
 			curGuess = guess;
-			ArrayList<String> wordAsList = word.getCurWord(colSize, size);
-			String[] colorList = new String[colSize];
-			ArrayList<String> correctLetters = new ArrayList<>();
-			ArrayList<String> wrongPlaceLetters = new ArrayList<>();
+			guessNumber++;
+			curGuessColors = colorListAsArray;
+			return curGuessColors;
+		}
+		return null;
+	}
+
+	/**
+	 * This method judges a submitted guess. It checks the dictionary and, in hard
+	 * mode, that the hints of the last guess are used, then makes the guess
+	 *
+	 * @param guess      is the submitted word as letters.
+	 * @param size       is the number of rows of the game.
+	 * @param isHardMode is true if the hints of the last guess must be used.
+	 *
+	 * @return the verdict with the colors or the reason the guess was rejected
+	 */
+	public GuessResult evaluate(ArrayList<String> guess, int size, boolean isHardMode) {
+		GuessResult result = judge(guess, size, isHardMode);
+		if (result.isAccepted()) {
+			accept(result);
+		}
+		return result;
+	}
+
+	/**
+	 * This method judges a submitted guess the way evaluate does without making
+	 * it, so the guess can be judged on another thread while nothing changes
+	 * this Guess
+	 *
+	 * @param guess      is the submitted word as letters.
+	 * @param size       is the number of rows of the game.
+	 * @param isHardMode is true if the hints of the last guess must be used.
+	 *
+	 * @return the verdict with the colors or the reason the guess was rejected
+	 */
+	public GuessResult judge(ArrayList<String> guess, int size, boolean isHardMode) {
+		if (!canGuess(guess)) {
+			return GuessResult.rejected(GuessResult.NOT_IN_WORD_LIST, guess, "Not in word list");
+		}
+		ArrayList<String> colors = score(guess, getAnswer(size));
+		if (isHardMode && curGuess.size() != 0) {
 			for (int i = 0; i < colSize; i++) {
-				if (wordAsList.get(i).equalsIgnoreCase(curGuess.get(i))) {
-					colorList[i] = guessColors[0];
-					correctLetters.add(wordAsList.get(i));
-				} else if (wordAsList.contains(curGuess.get(i))) {
-					colorList[i] = guessColors[1];
-					wrongPlaceLetters.add(wordAsList.get(i));
-				} else {
-					colorList[i] = guessColors[2];
+				String prevColor = curGuessColors.get(i);
+				if (prevColor.equals("Green") || prevColor.equals("Orange")) {
+					if (!colors.get(i).equals("Green") && !colors.get(i).equals("Orange")) {
+						String orderNum = "";
+						if (i == 0)
+							orderNum = "1st";
+						else if (i == 1)
+							orderNum = "2nd";
+						else if (i == 2)
+							orderNum = "3rd";
+						else
+							orderNum = i + 1 + "th";
+						return GuessResult.rejected(GuessResult.HARD_MODE, guess,
+								orderNum + " letter must be " + curGuess.get(i).toUpperCase());
+					}
+				} else if (prevColor.equals("Yellow") || prevColor.equals("Blue")) {
+					if (!guess.contains(curGuess.get(i))) {
+						return GuessResult.rejected(GuessResult.HARD_MODE, guess,
+								"Guess must contain " + curGuess.get(i).toUpperCase());
+					}
 				}
 			}
+		}
+		return GuessResult.accepted(guess, colors);
+	}
 
-			// map to keep track of number of times a wrong place letter was visited
-			HashMap<String, Integer> counter = new HashMap<String, Integer>();
-			// second loop to fix wrong place letters if there were too many
-			for(int i = 0; i < colSize; i++)
-			{
-				if (colorList[i].equals(guessColors[1])) {
-					int letterFreqInCorrectWord = Collections.frequency(wordAsList, curGuess.get(i));
-					int letterFreqInGuessedWord = Collections.frequency(curGuess, curGuess.get(i));
-					int freqDifference = letterFreqInGuessedWord - letterFreqInCorrectWord;
-					int letterFreqInCorrectLetters = Collections.frequency(correctLetters, curGuess.get(i));
-					if(freqDifference != 0)
+	/**
+	 * This method colors a guess that was already accepted once, such as one
+	 * read back from a save, without looking it up in the word list or checking
+	 * it against hard mode again
+	 *
+	 * @param guess is the guessed word as letters.
+	 * @param size  is the number of rows of the game.
+	 *
+	 * @return the accepted verdict with the colors
+	 */
+	public GuessResult rescore(ArrayList<String> guess, int size) {
+		return GuessResult.accepted(guess, score(guess, getAnswer(size)));
+	}
+
+	/**
+	 * This method makes a guess that judge accepted
+	 *
+	 * @param result is the accepted verdict
+	 */
+	public void accept(GuessResult result) {
+		curGuess = result.getGuess();
+		curGuessColors = result.getPlacements();
+		guessNumber++;
+	}
+
+	/**
+	 * This method colors each letter of a guess against the answer without
+	 * changing the Guess
+	 *
+	 * @param guess      is the guessed word as letters
+	 * @param wordAsList is the letters of the answer
+	 * @return An Arraylist of the color values of the corresponding letter
+	 */
+	private ArrayList<String> score(ArrayList<String> guess, ArrayList<String> wordAsList) {
+		long start = Metrics.ENABLED ? System.nanoTime() : 0;
+		String[] guessColors = this.guessColors;
+		String[] colorList = new String[colSize];
+		ArrayList<String> correctLetters = new ArrayList<>();
+		ArrayList<String> wrongPlaceLetters = new ArrayList<>();
+		for (int i = 0; i < colSize; i++) {
+			if (wordAsList.get(i).equalsIgnoreCase(guess.get(i))) {
+				colorList[i] = guessColors[0];
+				correctLetters.add(wordAsList.get(i));
+			} else if (wordAsList.contains(guess.get(i))) {
+				colorList[i] = guessColors[1];
+				wrongPlaceLetters.add(wordAsList.get(i));
+			} else {
+				colorList[i] = guessColors[2];
+			}
+		}
+
+		// map to keep track of number of times a wrong place letter was visited
+		HashMap<String, Integer> counter = new HashMap<String, Integer>();
+		// second loop to fix wrong place letters if there were too many
+		for(int i = 0; i < colSize; i++)
+		{
+			if (colorList[i].equals(guessColors[1])) {
+				int letterFreqInCorrectWord = Collections.frequency(wordAsList, guess.get(i));
+				int letterFreqInGuessedWord = Collections.frequency(guess, guess.get(i));
+				int freqDifference = letterFreqInGuessedWord - letterFreqInCorrectWord;
+				int letterFreqInCorrectLetters = Collections.frequency(correctLetters, guess.get(i));
+				if(freqDifference != 0)
+				{
+					if(!counter.containsKey(guess.get(i)))
 					{
-						if(!counter.containsKey(curGuess.get(i)))
-						{
-							counter.put(curGuess.get(i), 0);
-						}
-						if (letterFreqInCorrectWord <= (letterFreqInCorrectLetters + counter.get(curGuess.get(i)))) {
-							colorList[i] = guessColors[2];
-						}
-						else
-						{
-							counter.put(curGuess.get(i), counter.get(curGuess.get(i)) + 1);
-						}
+						counter.put(guess.get(i), 0);
+					}
+					if (letterFreqInCorrectWord <= (letterFreqInCorrectLetters + counter.get(guess.get(i)))) {
+						colorList[i] = guessColors[2];
+					}
+					else
+					{
+						counter.put(guess.get(i), counter.get(guess.get(i)) + 1);
 					}
 				}
 			}
-			
-			guessNumber++;
-			ArrayList<String> colorListAsArray = new ArrayList<String>(Arrays.asList(colorList));
-			curGuessColors = colorListAsArray;
-			return curGuessColors;
 		}
-		return null;
+
+		ArrayList<String> colorListAsArray = new ArrayList<String>(Arrays.asList(colorList));
+		if (Metrics.ENABLED) {
+			SCORE_NANOS.record(System.nanoTime() - start);
+		}
+		return colorListAsArray;
 	}
 
 	/**
@@ -105,40 +215,40 @@ public class Guess implements Serializable{
 	 * @return True if the guess is valid
 	 */
 	public boolean canGuess(ArrayList<String> guess) {
-		if (word.getDict().isValidWord(guess)) {
-			return true;
+		long start = Metrics.ENABLED ? System.nanoTime() : 0;
+		boolean isValid = getWord().getDict().isValidWord(guess);
+		if (Metrics.ENABLED) {
+			VALIDATE_NANOS.record(System.nanoTime() - start);
 		}
-		return false;
+		return isValid;
 	}
 	
 	/**
 	 * This method changes the guess colors to contrast mode
 	 */
 	public void setDarkMode() {
-		guessColors[2] = "dm Dark Gray";
+		guessColors = new String[] { guessColors[0], guessColors[1], "dm Dark Gray" };
 	}
 
 	/**
 	 * This method changes the guess colors back from dark mode
 	 */
 	public void setNonDarkMode() {
-		guessColors[2] = "Dark Gray";
+		guessColors = new String[] { guessColors[0], guessColors[1], "Dark Gray" };
 	}
 
 	/**
 	 * This method changes the guess colors to contrast mode
 	 */
 	public void setContrastMode() {
-		guessColors[0] = "Orange";
-		guessColors[1] = "Blue";
+		guessColors = new String[] { "Orange", "Blue", guessColors[2] };
 	}
 	
 	/**
 	 * This method changes the guess colors back from contrast mode
 	 */
 	public void setNonContrastMode() {
-		guessColors[0] = "Green";
-		guessColors[1] = "Yellow";
+		guessColors = new String[] { "Green", "Yellow", guessColors[2] };
 	}
 
 	/**
@@ -176,6 +286,30 @@ public class Guess implements Serializable{
 		word = curWord;
 	}
 	
+	/**
+	 * This method sets a fixed answer to guess instead of the word of the day
+	 * 
+	 * @param answer ArrayList of the letters of the answer, null for the word of
+	 *               the day
+	 */
+	public void setAnswer(ArrayList<String> answer) {
+		this.answer = answer;
+	}
+
+	/**
+	 * This method returns the answer guesses are compared to
+	 * 
+	 * @param size is the number of rows of the game
+	 * 
+	 * @return ArrayList of the letters of the answer
+	 */
+	public ArrayList<String> getAnswer(int size) {
+		if (answer != null) {
+			return answer;
+		}
+		return getWord().getCurWord(colSize, size);
+	}
+
 	/**
 	 * This method sets the column size (word length)
 	 * 
@@ -214,8 +348,16 @@ public class Guess implements Serializable{
 		return curGuessColors;
 	}
 	
+	/**
+	 * This method returns the Word class, looking it up the first time
+	 * 
+	 * @return the Word of the game
+	 */
 	public Word getWord()
 	{
+		if (word == null) {
+			word = Word.getInstance(colSize);
+		}
 		return word;
 	}
 }
\ No newline at end of file
@@ -0,0 +1,126 @@
+/**
+ * The verdict on one submitted guess. An accepted guess holds the colors of
+ * its letters, a rejected one holds the message telling the player why it
+ * couldn't be guessed.
+ *
+ * Date: 10/19/2026
+ *
+ * @author Connor Kippes, Luke Laurie, Sean Eddy, Zachary Hansen
+ */
+
+package src.model;
+
+import java.util.ArrayList;
+
+public class GuessResult {
+	public static final String ACCEPTED = "accepted";
+	public static final String NOT_IN_WORD_LIST = "not in word list";
+	public static final String HARD_MODE = "hard mode";
+	public static final String GAME_OVER = "game over";
+	private String verdict;
+	private String message;
+	private ArrayList<String> guess;
+	private ArrayList<String> placements;
+
+	/**
+	 * This constructor sets every part of the verdict
+	 *
+	 * @param verdict    is one of the verdict constants.
+	 * @param message    is the message for the player, empty when accepted.
+	 * @param guess      is the guessed word as letters.
+	 * @param placements is the colors of the letters, null when rejected.
+	 */
+	private GuessResult(String verdict, String message, ArrayList<String> guess, ArrayList<String> placements) {
+		this.verdict = verdict;
+		this.message = message;
+		this.guess = guess;
+		this.placements = placements;
+	}
+
+	/**
+	 * This method makes the verdict of an accepted guess
+	 *
+	 * @param guess      is the guessed word as letters.
+	 * @param placements is the colors of the letters.
+	 *
+	 * @return the accepted verdict.
+	 */
+	public static GuessResult accepted(ArrayList<String> guess, ArrayList<String> placements) {
+		return new GuessResult(ACCEPTED, "", guess, placements);
+	}
+
+	/**
+	 * This method makes the verdict of a rejected guess
+	 *
+	 * @param verdict is why the guess was rejected.
+	 * @param guess   is the guessed word as letters.
+	 * @param message is the message for the player.
+	 *
+	 * @return the rejected verdict.
+	 */
+	public static GuessResult rejected(String verdict, ArrayList<String> guess, String message) {
+		return new GuessResult(verdict, message, guess, null);
+	}
+
+	/**
+	 * This method returns if the guess was accepted
+	 *
+	 * @return true if the guess was accepted
+	 */
+	public boolean isAccepted() {
+		return verdict.equals(ACCEPTED);
+	}
+
+	/**
+	 * This method returns if the guess was the correct word
+	 *
+	 * @return true if every letter is in the right place
+	 */
+	public boolean isWon() {
+		if (!isAccepted()) {
+			return false;
+		}
+		for (String placement : placements) {
+			if (!placement.equals("Green") && !placement.equals("Orange")) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * This method returns the verdict
+	 *
+	 * @return one of the verdict constants
+	 */
+	public String getVerdict() {
+		return verdict;
+	}
+
+	/**
+	 * This method returns the message for the player
+	 *
+	 * @return the message, empty when accepted
+	 */
+	public String getMessage() {
+		return message;
+	}
+
+	/**
+	 * This method returns the guessed word
+	 *
+	 * @return ArrayList of the letters of the guess
+	 */
+	public ArrayList<String> getGuess() {
+		return guess;
+	}
+
+	/**
+	 * This method returns the colors of the letters
+	 *
+	 * @return ArrayList of the colors, null when rejected
+	 */
+	public ArrayList<String> getPlacements() {
+		return placements;
+	}
+}
@@ -0,0 +1,76 @@
+/**
+ * This class keeps the color of each key of the keyboard as guesses are made.
+ * A key keeps the best hint it has been given, so a letter that was green
+ * stays green and a letter that was yellow only turns green or stays yellow.
+ * It holds no JavaFX, the KeyboardDisplay styles its keys with the colors.
+ *
+ * Date: 10/19/2026
+ *
+ * @author Connor Kippes, Luke Laurie, Sean Eddy, Zachary Hansen
+ */
+
+package src.model;
+
+import java.util.HashMap;
+
+public class KeyColors {
+	private HashMap<String, String> colors = new HashMap<>();
+
+	/**
+	 * This method gives a key the color of a letter of a guess, unless the key
+	 * already has a better one
+	 *
+	 * @param key   is a String of the key, in upper case
+	 * @param color is a String of the color the letter got
+	 * @return the color the key has now
+	 */
+	public String update(String key, String color) {
+		String saved = colors.get(key);
+		if (saved != null) {
+			if (isCorrect(saved)) {
+				return saved;
+			} else if (!isCorrect(color) && isWrongPlace(saved)) {
+				return saved;
+			}
+		}
+		colors.put(key, color);
+		return color;
+	}
+
+	/**
+	 * This method forgets the color of every key, for a new game
+	 */
+	public void clear() {
+		colors.clear();
+	}
+
+	/**
+	 * This method returns the color of every key that has one. The map is the one
+	 * the colors are kept in, so the themes can recolor it.
+	 *
+	 * @return a HashMap of keys mapped to colors
+	 */
+	public HashMap<String, String> getColors() {
+		return colors;
+	}
+
+	/**
+	 * This method checks if a color means the letter is in the right place
+	 *
+	 * @param color a String of the color
+	 * @return true for green or its high contrast orange
+	 */
+	private static boolean isCorrect(String color) {
+		return color.equals("Green") || color.equals("Orange");
+	}
+
+	/**
+	 * This method checks if a color means the letter is in the wrong place
+	 *
+	 * @param color a String of the color
+	 * @return true for yellow or its high contrast blue
+	 */
+	private static boolean isWrongPlace(String color) {
+		return color.equals("Yellow") || color.equals("Blue");
+	}
+}
@@ -0,0 +1,253 @@
+/**
+ * This class counts samples, such as how many nanoseconds an operation took,
+ * in buckets that grow with the value the way an HDR histogram does: every
+ * power of two is split into eight buckets, so a percentile is within an
+ * eighth of the real value however large it is. Recording only adds to a few
+ * counters without a lock, so it costs nanoseconds even when many threads
+ * record at once. Given a window it only counts the most recent samples,
+ * forgetting the oldest one for each new one, so it shows how things run now.
+ *
+ * Date: 10/19/2026
+ *
+ * @author Connor Kippes, Luke Laurie, Sean Eddy, Zachary Hansen
+ */
+
+package src.model;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+public class MetricHistogram {
+	// values below this get a bucket each
+	private static final int LINEAR_VALUES = 16;
+	// each power of two above them is split into 2^SUB_BUCKET_BITS buckets
+	private static final int SUB_BUCKET_BITS = 3;
+	private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+	private static final int FIRST_EXPONENT = 4;
+	private static final int BUCKETS = LINEAR_VALUES + (63 - FIRST_EXPONENT) * SUB_BUCKETS;
+	private String name;
+	private AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+	private LongAdder sum = new LongAdder();
+	private AtomicLong max = new AtomicLong();
+	// the most recent samples, oldest at next once it is full, or null when
+	// every sample is counted
+	private long[] window;
+	private int next = 0;
+	private int windowCount = 0;
+
+	/**
+	 * This initializes an empty histogram that counts every sample
+	 *
+	 * @param name is the name of the measurement, with its unit
+	 */
+	public MetricHistogram(String name) {
+		this.name = name;
+	}
+
+	/**
+	 * This initializes an empty histogram that only counts the most recent
+	 * samples
+	 *
+	 * @param name   is the name of the measurement, with its unit
+	 * @param window is an int representing how many recent samples are counted
+	 */
+	public MetricHistogram(String name, int window) {
+		this.name = name;
+		this.window = new long[window];
+	}
+
+	/**
+	 * This method adds a sample, negative samples are counted as 0
+	 *
+	 * @param value a long sample
+	 */
+	public void record(long value) {
+		value = Math.max(0, value);
+		if (window != null) {
+			recordInWindow(value);
+			return;
+		}
+		counts.incrementAndGet(bucketOf(value));
+		sum.add(value);
+		long curMax = max.get();
+		while (value > curMax && !max.compareAndSet(curMax, value)) {
+			curMax = max.get();
+		}
+	}
+
+	/**
+	 * This method finds the value that the given percent of the samples are at or
+	 * below, to within the width of its bucket
+	 *
+	 * @param percent a double from 0 to 100
+	 * @return the smallest value of the bucket, or 0 if there are no samples
+	 */
+	public long getPercentile(double percent) {
+		long total = 0;
+		long[] snapshot = new long[BUCKETS];
+		for (int i = 0; i < BUCKETS; i++) {
+			snapshot[i] = counts.get(i);
+			total += snapshot[i];
+		}
+		if (total == 0) {
+			return 0;
+		}
+		long rank = Math.max(1, (long) Math.ceil(percent / 100 * total));
+		long seen = 0;
+		for (int i = 0; i < BUCKETS; i++) {
+			seen += snapshot[i];
+			if (seen >= rank) {
+				return Math.min(lowestValueOf(i), getMax());
+			}
+		}
+		return getMax();
+	}
+
+	/**
+	 * This method returns the number of samples
+	 *
+	 * @return a long
+	 */
+	public long getCount() {
+		long total = 0;
+		for (int i = 0; i < BUCKETS; i++) {
+			total += counts.get(i);
+		}
+		return total;
+	}
+
+	/**
+	 * This method returns the largest sample
+	 *
+	 * @return the largest sample, or 0 if there are none
+	 */
+	public long getMax() {
+		if (window != null) {
+			return getWindowMax();
+		}
+		return max.get();
+	}
+
+	/**
+	 * This method returns the average of the samples
+	 *
+	 * @return the mean, or 0 if there are no samples
+	 */
+	public double getMean() {
+		long samples = getCount();
+		return samples == 0 ? 0 : (double) sum.sum() / samples;
+	}
+
+	/**
+	 * This method returns the name of the measurement
+	 *
+	 * @return a String
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * This method counts the samples in each bucket holding any, by the smallest
+	 * value of the bucket
+	 *
+	 * @return the count of each bucket that isn't empty, smallest first
+	 */
+	public LinkedHashMap<Long, Long> getBuckets() {
+		LinkedHashMap<Long, Long> buckets = new LinkedHashMap<>();
+		for (int i = 0; i < BUCKETS; i++) {
+			long count = counts.get(i);
+			if (count != 0) {
+				buckets.put(lowestValueOf(i), count);
+			}
+		}
+		return buckets;
+	}
+
+	/**
+	 * This method writes the summary and buckets of the samples as lines of text
+	 *
+	 * @return a string
+	 */
+	@Override
+	public String toString() {
+		StringBuilder text = new StringBuilder();
+		text.append(name).append(": count ").append(getCount());
+		text.append(String.format(", mean %.1f", getMean()));
+		text.append(", p50 ").append(getPercentile(50));
+		text.append(", p95 ").append(getPercentile(95));
+		text.append(", p99 ").append(getPercentile(99));
+		text.append(", max ").append(getMax()).append(System.lineSeparator());
+		for (Map.Entry<Long, Long> bucket : getBuckets().entrySet()) {
+			text.append("  >= ").append(bucket.getKey()).append(": ").append(bucket.getValue())
+					.append(System.lineSeparator());
+		}
+		return text.toString();
+	}
+
+	/**
+	 * This method counts a sample in the window, forgetting the oldest sample
+	 * once the window is full
+	 *
+	 * @param value a long of at least 0
+	 */
+	private synchronized void recordInWindow(long value) {
+		if (windowCount == window.length) {
+			long oldest = window[next];
+			counts.decrementAndGet(bucketOf(oldest));
+			sum.add(-oldest);
+		} else {
+			windowCount++;
+		}
+		window[next] = value;
+		next = (next + 1) % window.length;
+		counts.incrementAndGet(bucketOf(value));
+		sum.add(value);
+	}
+
+	/**
+	 * This method finds the largest sample in the window
+	 *
+	 * @return the largest sample, or 0 if there are none
+	 */
+	private synchronized long getWindowMax() {
+		long windowMax = 0;
+		for (int i = 0; i < windowCount; i++) {
+			windowMax = Math.max(windowMax, window[i]);
+		}
+		return windowMax;
+	}
+
+	/**
+	 * This method finds the bucket a value is counted in
+	 *
+	 * @param value a long of at least 0
+	 * @return the index of the bucket
+	 */
+	private static int bucketOf(long value) {
+		if (value < LINEAR_VALUES) {
+			return (int) value;
+		}
+		int exponent = 63 - Long.numberOfLeadingZeros(value);
+		int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+		return LINEAR_VALUES + (exponent - FIRST_EXPONENT) * SUB_BUCKETS + subBucket;
+	}
+
+	/**
+	 * This method finds the smallest value counted in a bucket
+	 *
+	 * @param bucket the index of the bucket
+	 * @return a long
+	 */
+	private static long lowestValueOf(int bucket) {
+		if (bucket < LINEAR_VALUES) {
+			return bucket;
+		}
+		int exponent = (bucket - LINEAR_VALUES) / SUB_BUCKETS + FIRST_EXPONENT;
+		int subBucket = (bucket - LINEAR_VALUES) % SUB_BUCKETS;
+		return (1L << exponent) + ((long) subBucket << (exponent - SUB_BUCKET_BITS));
+	}
+}
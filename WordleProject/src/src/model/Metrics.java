@@ -0,0 +1,126 @@
+/**
+ * This class keeps the counters, gauges and histograms the game records about
+ * itself, such as how long guesses take to check and score. Metrics are turned
+ * on by starting Java with -Dwordle.metrics=true. Code that records checks
+ * ENABLED first, and because ENABLED is a static final the JIT removes those
+ * checks and the timing inside them when metrics are off.
+ *
+ * Every metric can be read as a snapshot, written out as text with dump, and
+ * read through JMX, as the attributes of the src.model:type=Metrics MBean.
+ *
+ * Date: 10/19/2026
+ *
+ * @author Connor Kippes, Luke Laurie, Sean Eddy, Zachary Hansen
+ */
+
+package src.model;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+public class Metrics {
+	public static final boolean ENABLED = Boolean.getBoolean("wordle.metrics");
+	public static final String OBJECT_NAME = "src.model:type=Metrics";
+	private static final ConcurrentHashMap<String, LongAdder> counters = new ConcurrentHashMap<>();
+	private static final ConcurrentHashMap<String, LongSupplier> gauges = new ConcurrentHashMap<>();
+	private static final ConcurrentHashMap<String, MetricHistogram> histograms = new ConcurrentHashMap<>();
+
+	static {
+		if (ENABLED) {
+			registerMBean();
+		}
+	}
+
+	/**
+	 * This method finds a counter, making it the first time it is asked for
+	 *
+	 * @param name is a String naming the counter
+	 * @return the LongAdder the counter is kept in
+	 */
+	public static LongAdder counter(String name) {
+		return counters.computeIfAbsent(name, key -> new LongAdder());
+	}
+
+	/**
+	 * This method finds a histogram, making it the first time it is asked for
+	 *
+	 * @param name is a String naming the histogram, with its unit
+	 * @return the MetricHistogram
+	 */
+	public static MetricHistogram histogram(String name) {
+		return histograms.computeIfAbsent(name, MetricHistogram::new);
+	}
+
+	/**
+	 * This method adds a gauge, a value read whenever a snapshot is taken. A gauge
+	 * with the same name is replaced.
+	 *
+	 * @param name  is a String naming the gauge
+	 * @param value reads the value
+	 */
+	public static void gauge(String name, LongSupplier value) {
+		gauges.put(name, value);
+	}
+
+	/**
+	 * This method reads every metric. A histogram is read as its count, mean,
+	 * 50th, 90th and 99th percentiles and max.
+	 *
+	 * @return a TreeMap of every value by name
+	 */
+	public static TreeMap<String, Number> snapshot() {
+		TreeMap<String, Number> snapshot = new TreeMap<>();
+		for (Map.Entry<String, LongAdder> entry : counters.entrySet()) {
+			snapshot.put(entry.getKey(), entry.getValue().sum());
+		}
+		for (Map.Entry<String, LongSupplier> entry : gauges.entrySet()) {
+			snapshot.put(entry.getKey(), entry.getValue().getAsLong());
+		}
+		for (MetricHistogram histogram : histograms.values()) {
+			String name = histogram.getName();
+			snapshot.put(name + ".count", histogram.getCount());
+			snapshot.put(name + ".mean", Math.round(histogram.getMean()));
+			snapshot.put(name + ".p50", histogram.getPercentile(50));
+			snapshot.put(name + ".p90", histogram.getPercentile(90));
+			snapshot.put(name + ".p99", histogram.getPercentile(99));
+			snapshot.put(name + ".max", histogram.getMax());
+		}
+		return snapshot;
+	}
+
+	/**
+	 * This method writes every metric as text, one name and value a line
+	 *
+	 * @return a String
+	 */
+	public static String dump() {
+		StringBuilder dump = new StringBuilder("Metrics " + (ENABLED ? "enabled" : "disabled")
+				+ System.lineSeparator());
+		for (Map.Entry<String, Number> entry : snapshot().entrySet()) {
+			dump.append(String.format("%-36s %d%n", entry.getKey(), entry.getValue().longValue()));
+		}
+		return dump.toString();
+	}
+
+	/**
+	 * This method puts the metrics in the platform MBean server so JMX tools such
+	 * as JConsole can read them
+	 */
+	private static void registerMBean() {
+		try {
+			ObjectName objectName = new ObjectName(OBJECT_NAME);
+			if (!ManagementFactory.getPlatformMBeanServer().isRegistered(objectName)) {
+				ManagementFactory.getPlatformMBeanServer().registerMBean(new MetricsMBean(), objectName);
+			}
+		} catch (JMException e) {
+			System.out.println("Registering the metrics MBean failed: " + e.getMessage());
+		}
+	}
+}
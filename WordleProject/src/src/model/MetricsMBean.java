@@ -0,0 +1,111 @@
+/**
+ * This class shows the Metrics through JMX. Metrics are made while the game
+ * runs, so instead of a fixed interface every value of a snapshot is an
+ * attribute, and the dump operation returns the text of every metric.
+ *
+ * Date: 10/19/2026
+ *
+ * @author Connor Kippes, Luke Laurie, Sean Eddy, Zachary Hansen
+ */
+
+package src.model;
+
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.TreeMap;
+
+import javax.management.Attribute;
+import javax.management.AttributeList;
+import javax.management.AttributeNotFoundException;
+import javax.management.DynamicMBean;
+import javax.management.MBeanAttributeInfo;
+import javax.management.MBeanInfo;
+import javax.management.MBeanOperationInfo;
+import javax.management.MBeanParameterInfo;
+import javax.management.ReflectionException;
+
+public class MetricsMBean implements DynamicMBean {
+	private static final String DUMP = "dump";
+
+	/**
+	 * This method reads one metric
+	 *
+	 * @param attribute is the name of the metric
+	 * @return its value
+	 */
+	@Override
+	public Object getAttribute(String attribute) throws AttributeNotFoundException {
+		Number value = Metrics.snapshot().get(attribute);
+		if (value == null) {
+			throw new AttributeNotFoundException(attribute);
+		}
+		return value.longValue();
+	}
+
+	/**
+	 * Metrics can't be changed through JMX
+	 */
+	@Override
+	public void setAttribute(Attribute attribute) throws AttributeNotFoundException {
+		throw new AttributeNotFoundException(attribute.getName() + " can't be set");
+	}
+
+	/**
+	 * This method reads several metrics from one snapshot
+	 *
+	 * @param attributes is the names of the metrics
+	 * @return the ones that exist
+	 */
+	@Override
+	public AttributeList getAttributes(String[] attributes) {
+		TreeMap<String, Number> snapshot = Metrics.snapshot();
+		AttributeList list = new AttributeList();
+		for (String name : attributes) {
+			if (snapshot.containsKey(name)) {
+				list.add(new Attribute(name, snapshot.get(name).longValue()));
+			}
+		}
+		return list;
+	}
+
+	/**
+	 * Metrics can't be changed through JMX
+	 *
+	 * @return an empty list
+	 */
+	@Override
+	public AttributeList setAttributes(AttributeList attributes) {
+		return new AttributeList();
+	}
+
+	/**
+	 * This method runs the dump operation
+	 *
+	 * @return the text of every metric
+	 */
+	@Override
+	public Object invoke(String actionName, Object[] params, String[] signature) throws ReflectionException {
+		if (!actionName.equals(DUMP)) {
+			throw new ReflectionException(new NoSuchMethodException(actionName));
+		}
+		return Metrics.dump();
+	}
+
+	/**
+	 * This method describes every metric there is now as a read only attribute
+	 *
+	 * @return the MBeanInfo
+	 */
+	@Override
+	public MBeanInfo getMBeanInfo() {
+		ArrayList<MBeanAttributeInfo> attributes = new ArrayList<>();
+		for (Map.Entry<String, Number> entry : Metrics.snapshot().entrySet()) {
+			attributes.add(new MBeanAttributeInfo(entry.getKey(), Long.class.getName(), entry.getKey(), true,
+					false, false));
+		}
+		MBeanOperationInfo dump = new MBeanOperationInfo(DUMP, "Every metric as text", new MBeanParameterInfo[0],
+				String.class.getName(), MBeanOperationInfo.INFO);
+		return new MBeanInfo(getClass().getName(), "Wordle metrics", attributes.toArray(new MBeanAttributeInfo[0]),
+				null, new MBeanOperationInfo[] { dump }, null);
+	}
+}
@@ -0,0 +1,386 @@
+/**
+ * This class plays whole games of Wordle without a window, against every
+ * pickable answer of each board size, on all of the cores. It reports how many
+ * games it played a second, the win rate and the guess distribution of each
+ * size in the same shape as WordleUser, so it doubles as a throughput benchmark
+ * of the Dictionary and Guess path.
+ *
+ * Guesses are made by one of three guessers: random guesses any valid word,
+ * solver guesses a random word that still fits every hint so far, and opening
+ * starts with a fixed word and then solves. Every game has its own seeded
+ * Random, so the results don't depend on the number of threads.
+ *
+ * Date: 10/19/2026
+ *
+ * @author Connor Kippes, Luke Laurie, Sean Eddy, Zachary Hansen
+ */
+
+package src.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class Simulator {
+	public static final String RANDOM = "random";
+	public static final String SOLVER = "solver";
+	public static final String OPENING = "opening";
+	public static final int MIN_SIZE = 3;
+	public static final int MAX_SIZE = 7;
+	// answers played by one task, small enough to keep every core busy
+	private static final int ANSWERS_PER_TASK = 64;
+	private String guesser;
+	private long seed;
+	private HashMap<Integer, ArrayList<String>> openings = new HashMap<>();
+	// sorted once so games don't copy the dictionary, only read after the constructor
+	private HashMap<Integer, ArrayList<ArrayList<String>>> pickableWords = new HashMap<>();
+	private HashMap<Integer, ArrayList<ArrayList<String>>> possibleWords = new HashMap<>();
+	// the words left after each hint an opening can get, shared by every game
+	private ConcurrentHashMap<ArrayList<String>, ArrayList<ArrayList<String>>> openingFits = new ConcurrentHashMap<>();
+	// keyed by [rowSize, colSize] like the distributions of WordleUser
+	private HashMap<ArrayList<Integer>, HashMap<Integer, Integer>> guessDistribution = new HashMap<>();
+	private HashMap<ArrayList<Integer>, Long> gamesBySize = new HashMap<>();
+	private long games;
+	private long wins;
+	private long elapsedNanos;
+
+	/**
+	 * This initializes a simulator
+	 *
+	 * @param dictionary is the Dictionary the answers and guesses come from
+	 * @param guesser    is RANDOM, SOLVER or OPENING
+	 * @param seed       is a long the Random of every game is made from
+	 */
+	public Simulator(Dictionary dictionary, String guesser, long seed) {
+		this.guesser = guesser;
+		this.seed = seed;
+		for (int colSize = MIN_SIZE; colSize <= MAX_SIZE; colSize++) {
+			pickableWords.put(colSize, dictionary.getPickableWords(colSize));
+			possibleWords.put(colSize, dictionary.getPossibleWords(colSize));
+		}
+	}
+
+	public static void main(String[] args) throws InterruptedException {
+		String guesser = SOLVER;
+		int passes = 1;
+		int threads = Runtime.getRuntime().availableProcessors();
+		int[] rows = { MIN_SIZE, MAX_SIZE };
+		int[] cols = { MIN_SIZE, MAX_SIZE };
+		long seed = 0;
+		ArrayList<String> opening = null;
+		try {
+			for (String arg : args) {
+				String value = arg.substring(arg.indexOf('=') + 1);
+				if (arg.startsWith("--guesser=")) {
+					guesser = value;
+				} else if (arg.startsWith("--opening=")) {
+					opening = new ArrayList<>(Arrays.asList(value.toLowerCase().split("")));
+				} else if (arg.startsWith("--passes=")) {
+					passes = Integer.parseInt(value);
+				} else if (arg.startsWith("--threads=")) {
+					threads = Integer.parseInt(value);
+				} else if (arg.startsWith("--rows=")) {
+					rows = range(value);
+				} else if (arg.startsWith("--cols=")) {
+					cols = range(value);
+				} else if (arg.startsWith("--seed=")) {
+					seed = Long.parseLong(value);
+				} else {
+					throw new IllegalArgumentException("unknown option " + arg);
+				}
+			}
+			if (!guesser.equals(RANDOM) && !guesser.equals(SOLVER) && !guesser.equals(OPENING)) {
+				throw new IllegalArgumentException("guesser must be random, solver or opening");
+			}
+		} catch (IllegalArgumentException e) {
+			System.out.println(e.getMessage());
+			System.out.println("Usage: Simulator [--guesser=random|solver|opening] [--opening=word]"
+					+ " [--rows=3-7] [--cols=3-7] [--passes=1] [--threads=cores] [--seed=0]");
+			return;
+		}
+		Simulator simulator = new Simulator(Word.getInstance(5).getDict(), guesser, seed);
+		if (opening != null) {
+			simulator.setOpening(opening);
+		}
+		simulator.run(rows[0], rows[1], cols[0], cols[1], passes, threads);
+		System.out.print(simulator.report());
+		if (Metrics.ENABLED) {
+			System.out.print(Metrics.dump());
+		}
+	}
+
+	/**
+	 * This method sets the first guess of the opening guesser for words of its
+	 * size. Sizes without one open with the first pickable word.
+	 *
+	 * @param opening is the letters of the first guess
+	 */
+	public void setOpening(ArrayList<String> opening) {
+		openings.put(opening.size(), opening);
+	}
+
+	/**
+	 * This method plays every pickable answer of every board size in a range,
+	 * adding the games to the results
+	 *
+	 * @param minRows is the fewest rows of a board
+	 * @param maxRows is the most rows of a board
+	 * @param minCols is the shortest word
+	 * @param maxCols is the longest word
+	 * @param passes  is how many times every answer is played
+	 * @param threads is how many games are played at once
+	 */
+	public void run(int minRows, int maxRows, int minCols, int maxCols, int passes, int threads)
+			throws InterruptedException {
+		AtomicInteger threadNumber = new AtomicInteger();
+		ExecutorService executor = Executors.newFixedThreadPool(threads, task -> {
+			Thread thread = new Thread(task, "simulator-" + threadNumber.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+		long start = System.nanoTime();
+		ArrayList<Future<?>> tasks = new ArrayList<>();
+		for (int colSize = minCols; colSize <= maxCols; colSize++) {
+			ArrayList<ArrayList<String>> answers = pickableWords.get(colSize);
+			for (int rowSize = minRows; rowSize <= maxRows; rowSize++) {
+				for (int pass = 0; pass < passes; pass++) {
+					for (int first = 0; first < answers.size(); first += ANSWERS_PER_TASK) {
+						int taskRows = rowSize;
+						int taskPass = pass;
+						int taskFirst = first;
+						tasks.add(executor.submit(() -> playAnswers(taskRows, answers, taskPass, taskFirst)));
+					}
+				}
+			}
+		}
+		try {
+			for (Future<?> task : tasks) {
+				task.get();
+			}
+		} catch (ExecutionException e) {
+			throw new IllegalStateException("Simulation failed", e.getCause());
+		} finally {
+			executor.shutdownNow();
+		}
+		synchronized (this) {
+			elapsedNanos += System.nanoTime() - start;
+		}
+	}
+
+	/**
+	 * This method plays one game against an answer
+	 *
+	 * @param rowSize is an int representing the number of rows in the game
+	 * @param answer  is the letters of the word to guess
+	 * @param random  is the Random the guesser picks words with
+	 * @param scratch is a Guess used to score words against possible answers
+	 * @return the number of guesses it took to win, or 0 if the game was lost
+	 */
+	public int play(int rowSize, ArrayList<String> answer, Random random, Guess scratch) {
+		int colSize = answer.size();
+		GameSession session = new GameSession(rowSize, answer);
+		// the lists of words are shared, narrowing them always makes a new list
+		ArrayList<ArrayList<String>> candidates = guesser.equals(RANDOM) ? possibleWords.get(colSize)
+				: pickableWords.get(colSize);
+		ArrayList<String> opening = guesser.equals(OPENING) ? openings.getOrDefault(colSize, candidates.get(0))
+				: null;
+		while (!session.isOver() && !candidates.isEmpty()) {
+			boolean isOpening = opening != null;
+			ArrayList<String> word = isOpening ? opening : candidates.get(random.nextInt(candidates.size()));
+			opening = null;
+			GuessResult result = session.submit(word);
+			if (guesser.equals(RANDOM)) {
+				continue;
+			}
+			if (!result.isAccepted()) {
+				candidates = new ArrayList<>(candidates);
+				candidates.remove(word);
+				continue;
+			}
+			if (!isOpening) {
+				candidates = fitting(candidates, word, result.getPlacements(), scratch);
+				continue;
+			}
+			// every game with this opening and these hints is left with the same words
+			ArrayList<String> key = new ArrayList<>(word);
+			key.addAll(result.getPlacements());
+			ArrayList<ArrayList<String>> fits = openingFits.get(key);
+			if (fits == null) {
+				fits = fitting(candidates, word, result.getPlacements(), scratch);
+				openingFits.putIfAbsent(key, fits);
+			}
+			candidates = fits;
+		}
+		return session.isWon() ? session.getCurRow() : 0;
+	}
+
+	/**
+	 * This method returns the number of games played
+	 *
+	 * @return a long
+	 */
+	public synchronized long getGames() {
+		return games;
+	}
+
+	/**
+	 * This method returns the number of games played of a board size
+	 *
+	 * @param rowSize is an int representing the number of rows in the game
+	 * @param colSize is an int representing the number of columns in the game
+	 * @return a long
+	 */
+	public synchronized long getGames(int rowSize, int colSize) {
+		return gamesBySize.getOrDefault(new ArrayList<>(Arrays.asList(rowSize, colSize)), 0L);
+	}
+
+	/**
+	 * This method returns the number of games won
+	 *
+	 * @return a long
+	 */
+	public synchronized long getWins() {
+		return wins;
+	}
+
+	/**
+	 * This method returns the share of games won
+	 *
+	 * @return a double from 0 to 1
+	 */
+	public synchronized double getWinRate() {
+		return games == 0 ? 0 : (double) wins / games;
+	}
+
+	/**
+	 * This method returns how many games were played a second
+	 *
+	 * @return a double
+	 */
+	public synchronized double getGamesPerSecond() {
+		return elapsedNanos == 0 ? 0 : games * 1e9 / elapsedNanos;
+	}
+
+	/**
+	 * This returns the guess distribution of a board size, the number of games
+	 * won with each number of guesses
+	 *
+	 * @param rowSize is an int representing the number of rows in the game
+	 * @param colSize is an int representing the number of columns in the game
+	 * @return A HashMap from the number of guesses to the number of games
+	 */
+	public synchronized HashMap<Integer, Integer> getGuessDistribution(int rowSize, int colSize) {
+		ArrayList<Integer> keyArrayList = new ArrayList<>(Arrays.asList(rowSize, colSize));
+		if (!guessDistribution.containsKey(keyArrayList)) {
+			HashMap<Integer, Integer> emptyPair = new HashMap<Integer, Integer>();
+			for (int guessCount = 1; guessCount <= rowSize; guessCount++) {
+				emptyPair.put(guessCount, 0);
+			}
+			guessDistribution.put(keyArrayList, emptyPair);
+		}
+		return guessDistribution.get(keyArrayList);
+	}
+
+	/**
+	 * This method describes the results, one line for all of the games and one
+	 * for each board size
+	 *
+	 * @return a String
+	 */
+	public synchronized String report() {
+		StringBuilder report = new StringBuilder();
+		report.append(String.format("%s: %d games in %.2f s, %.0f games/sec, win rate %.3f%n", guesser, games,
+				elapsedNanos / 1e9, getGamesPerSecond(), getWinRate()));
+		for (int colSize = MIN_SIZE; colSize <= MAX_SIZE; colSize++) {
+			for (int rowSize = MIN_SIZE; rowSize <= MAX_SIZE; rowSize++) {
+				long sizeGames = getGames(rowSize, colSize);
+				if (sizeGames == 0) {
+					continue;
+				}
+				HashMap<Integer, Integer> distribution = getGuessDistribution(rowSize, colSize);
+				long sizeWins = 0;
+				for (int count : distribution.values()) {
+					sizeWins += count;
+				}
+				report.append(String.format("%dx%d: %d games, win rate %.3f, guesses %s%n", rowSize, colSize,
+						sizeGames, (double) sizeWins / sizeGames, distribution));
+			}
+		}
+		return report.toString();
+	}
+
+	/**
+	 * This method plays one task's share of the answers of a board size and adds
+	 * the games to the results
+	 *
+	 * @param rowSize is an int representing the number of rows in the game
+	 * @param answers is every pickable answer of the word size
+	 * @param pass    is which time the answers are being played
+	 * @param first   is the index of the first answer to play
+	 */
+	private void playAnswers(int rowSize, ArrayList<ArrayList<String>> answers, int pass, int first) {
+		int colSize = answers.get(0).size();
+		Guess scratch = new Guess(colSize);
+		int last = Math.min(first + ANSWERS_PER_TASK, answers.size());
+		int[] counts = new int[rowSize + 1];
+		for (int i = first; i < last; i++) {
+			Random random = new Random(seed + Arrays.hashCode(new int[] { rowSize, colSize, pass, i }));
+			counts[play(rowSize, answers.get(i), random, scratch)]++;
+		}
+		synchronized (this) {
+			ArrayList<Integer> keyArrayList = new ArrayList<>(Arrays.asList(rowSize, colSize));
+			HashMap<Integer, Integer> distribution = getGuessDistribution(rowSize, colSize);
+			for (int guessCount = 1; guessCount <= rowSize; guessCount++) {
+				distribution.put(guessCount, distribution.get(guessCount) + counts[guessCount]);
+				wins += counts[guessCount];
+			}
+			games += last - first;
+			gamesBySize.put(keyArrayList, gamesBySize.getOrDefault(keyArrayList, 0L) + last - first);
+		}
+	}
+
+	/**
+	 * This method keeps the words that would have given the same hints to a guess
+	 *
+	 * @param candidates is the words the answer could still be
+	 * @param word       is the letters of the guess
+	 * @param placements is the colors the guess got
+	 * @param scratch    is a Guess used to score the guess against each word
+	 * @return a new ArrayList of the words that fit
+	 */
+	private static ArrayList<ArrayList<String>> fitting(ArrayList<ArrayList<String>> candidates,
+			ArrayList<String> word, ArrayList<String> placements, Guess scratch) {
+		ArrayList<ArrayList<String>> fitting = new ArrayList<>();
+		for (ArrayList<String> candidate : candidates) {
+			scratch.setAnswer(candidate);
+			// the number of rows only matters for the word of the day, not a set answer
+			if (placements.equals(scratch.makeGuess(word, 0))) {
+				fitting.add(candidate);
+			}
+		}
+		return fitting;
+	}
+
+	/**
+	 * This method reads a range of sizes such as 3-7, or one size such as 5
+	 *
+	 * @param value is the range
+	 * @return the smallest and largest size
+	 */
+	private static int[] range(String value) {
+		String[] ends = value.split("-");
+		int low = Integer.parseInt(ends[0]);
+		int high = Integer.parseInt(ends[ends.length - 1]);
+		if (low < MIN_SIZE || high > MAX_SIZE || low > high) {
+			throw new IllegalArgumentException("sizes must be from " + MIN_SIZE + " to " + MAX_SIZE);
+		}
+		return new int[] { low, high };
+	}
+}
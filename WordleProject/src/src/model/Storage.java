@@ -0,0 +1,444 @@
+/**
+ * The one place files are written for the game. Whole files are written to a
+ * temporary file, forced to disk and then renamed over the old file, and the
+ * directory is forced after the rename, so a crash leaves either the old or the
+ * new file and never a truncated one. Journals are made of records with a
+ * length and checksum so a torn last record is found and cut off when the
+ * journal is read again, while damage before the end is reported.
+ *
+ * Forcing to disk can be batched: with a group commit window set, writers wait
+ * for one shared force every window instead of forcing their own file or
+ * directory.
+ *
+ * Date: 10/19/2026
+ *
+ * @author Connor Kippes, Luke Laurie, Sean Eddy, Zachary Hansen
+ */
+
+package src.model;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.zip.CRC32;
+
+public class Storage {
+	// marks a file written by writeBytes, old files start with the serialization header
+	private static final int MAGIC = 0x57524445;
+	private static final int HEADER_BYTES = 16;
+	private static final int RECORD_HEADER_BYTES = 12;
+
+	private static long groupCommitMillis = 0;
+	private static final Object commitLock = new Object();
+	// the batch writers join until the committer takes it to force
+	private static CommitBatch openBatch = new CommitBatch();
+	private static Thread committer;
+
+	/**
+	 * This method serializes an object and writes it to a file atomically
+	 *
+	 * @param fileName is a String representing the file
+	 * @param object   is the object to write, may be null
+	 */
+	public static void writeObject(String fileName, Object object) throws IOException {
+		writeBytes(fileName, serialize(object));
+	}
+
+	/**
+	 * This method reads an object written by writeObject. Files written before
+	 * the storage layer existed are read as plain serialized files.
+	 *
+	 * @param fileName is a String representing the file
+	 * @return the object in the file
+	 */
+	public static Object readObject(String fileName) throws IOException, ClassNotFoundException {
+		byte[] contents = Files.readAllBytes(Path.of(fileName));
+		ByteBuffer buffer = ByteBuffer.wrap(contents);
+		if (contents.length < HEADER_BYTES || buffer.getInt() != MAGIC) {
+			return deserialize(contents);
+		}
+		return deserialize(checkedPayload(buffer, fileName));
+	}
+
+	/**
+	 * This method writes bytes to a temporary file, forces it to disk, renames it
+	 * over the file and forces the directory so the rename lasts
+	 *
+	 * @param fileName is a String representing the file
+	 * @param contents is the bytes to write
+	 */
+	public static void writeBytes(String fileName, byte[] contents) throws IOException {
+		Path target = Path.of(fileName).toAbsolutePath();
+		Files.createDirectories(target.getParent());
+		Path temp = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+		try {
+			ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + contents.length);
+			buffer.putInt(MAGIC);
+			buffer.putInt(contents.length);
+			buffer.putLong(checksum(contents));
+			buffer.put(contents);
+			buffer.flip();
+			FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE);
+			while (buffer.hasRemaining()) {
+				channel.write(buffer);
+			}
+			if (groupCommitMillis <= 0) {
+				channel.force(true);
+				channel.close();
+			} else {
+				channel.close();
+				waitForCommit(temp, false);
+			}
+			try {
+				Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+			} catch (AtomicMoveNotSupportedException e) {
+				Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+			}
+			syncDirectory(target.getParent());
+		} finally {
+			Files.deleteIfExists(temp);
+		}
+	}
+
+	/**
+	 * This method reads bytes written by writeBytes
+	 *
+	 * @param fileName is a String representing the file
+	 * @return the bytes in the file
+	 */
+	public static byte[] readBytes(String fileName) throws IOException {
+		ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(Path.of(fileName)));
+		if (buffer.remaining() < HEADER_BYTES || buffer.getInt() != MAGIC) {
+			throw new IOException(fileName + " was not written by Storage");
+		}
+		return checkedPayload(buffer, fileName);
+	}
+
+	/**
+	 * This method adds a record with its length and checksum to the end of a
+	 * journal and forces it to disk
+	 *
+	 * @param journal is the File of the journal
+	 * @param record  is the bytes of the record
+	 */
+	public static void appendRecord(File journal, byte[] record) throws IOException {
+		Path path = journal.toPath().toAbsolutePath();
+		Files.createDirectories(path.getParent());
+		ByteBuffer buffer = ByteBuffer.allocate(RECORD_HEADER_BYTES + record.length);
+		buffer.putInt(record.length);
+		buffer.putLong(checksum(record));
+		buffer.put(record);
+		buffer.flip();
+		boolean isNew = !Files.exists(path);
+		FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+				StandardOpenOption.APPEND);
+		while (buffer.hasRemaining()) {
+			channel.write(buffer);
+		}
+		if (groupCommitMillis <= 0) {
+			channel.force(false);
+			channel.close();
+		} else {
+			channel.close();
+			waitForCommit(path, false);
+		}
+		// a new journal is only found again once its directory entry is on disk
+		if (isNew) {
+			syncDirectory(path.getParent());
+		}
+	}
+
+	/**
+	 * This method reads every record of a journal. Records whose checksum does not
+	 * match are skipped, and a torn record at the end is cut off the journal so
+	 * later records are added after the last good one. A record length that runs
+	 * past the end while good records still follow it is damage in the middle of
+	 * the journal, which is reported and left alone so those records aren't lost.
+	 *
+	 * @param journal is the File of the journal
+	 * @return an ArrayList of the good records
+	 * @throws IOException if the journal can't be read or is damaged before its
+	 *                     end
+	 */
+	public static ArrayList<byte[]> readRecords(File journal) throws IOException {
+		ArrayList<byte[]> records = new ArrayList<>();
+		if (!journal.exists()) {
+			return records;
+		}
+		ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(journal.toPath()));
+		int goodEnd = 0;
+		while (buffer.remaining() >= RECORD_HEADER_BYTES) {
+			int length = buffer.getInt();
+			long expected = buffer.getLong();
+			if (length < 0 || length > buffer.remaining()) {
+				if (hasRecordAfter(buffer, goodEnd + 1)) {
+					throw new IOException(journal.getName() + " is damaged at byte " + goodEnd);
+				}
+				break;
+			}
+			byte[] record = new byte[length];
+			buffer.get(record);
+			goodEnd = buffer.position();
+			if (checksum(record) == expected) {
+				records.add(record);
+			} else {
+				System.out.println("Skipped a damaged record in " + journal.getName());
+			}
+		}
+		if (goodEnd < buffer.limit()) {
+			System.out.println("Cut a torn record off the end of " + journal.getName());
+			FileChannel channel = FileChannel.open(journal.toPath(), StandardOpenOption.WRITE);
+			channel.truncate(goodEnd);
+			channel.force(true);
+			channel.close();
+		}
+		return records;
+	}
+
+	/**
+	 * This method sets how long writers wait to share one force to disk. Zero
+	 * forces every write on its own.
+	 *
+	 * @param millis is a long representing the group commit window
+	 */
+	public static void setGroupCommitWindow(long millis) {
+		synchronized (commitLock) {
+			groupCommitMillis = millis;
+		}
+	}
+
+	/**
+	 * This method serializes an object on its own
+	 *
+	 * @param object is the object to serialize
+	 * @return the bytes of the object
+	 */
+	public static byte[] serialize(Object object) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		ObjectOutputStream out = new ObjectOutputStream(bytes);
+		out.writeObject(object);
+		out.close();
+		return bytes.toByteArray();
+	}
+
+	/**
+	 * This method reads an object written by serialize
+	 *
+	 * @param bytes the bytes of the object
+	 * @return the object
+	 */
+	public static Object deserialize(byte[] bytes) throws IOException, ClassNotFoundException {
+		ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes));
+		Object object = in.readObject();
+		in.close();
+		return object;
+	}
+
+	/**
+	 * This method reads the rest of a file after the magic number and checks the
+	 * length and checksum
+	 *
+	 * @param buffer   the contents positioned after the magic number
+	 * @param fileName is a String representing the file
+	 * @return the payload of the file
+	 */
+	private static byte[] checkedPayload(ByteBuffer buffer, String fileName) throws IOException {
+		int length = buffer.getInt();
+		long expected = buffer.getLong();
+		if (length < 0 || length != buffer.remaining()) {
+			throw new IOException(fileName + " is truncated");
+		}
+		byte[] payload = new byte[length];
+		buffer.get(payload);
+		if (checksum(payload) != expected) {
+			throw new IOException(fileName + " failed its checksum");
+		}
+		return payload;
+	}
+
+	/**
+	 * This method looks for a whole record with a good checksum starting anywhere
+	 * from a position on, which tells damage in the middle of a journal from a
+	 * torn end. Empty records are not counted since zeroed space matches them.
+	 *
+	 * @param buffer the contents of the journal
+	 * @param from   the first position to look at
+	 * @return true if a good record was found
+	 */
+	private static boolean hasRecordAfter(ByteBuffer buffer, int from) {
+		for (int start = from; start + RECORD_HEADER_BYTES < buffer.limit(); start++) {
+			int length = buffer.getInt(start);
+			int end = start + RECORD_HEADER_BYTES + length;
+			if (length <= 0 || end > buffer.limit() || end < 0) {
+				continue;
+			}
+			byte[] record = new byte[length];
+			buffer.get(start + RECORD_HEADER_BYTES, record);
+			if (checksum(record) == buffer.getLong(start + 4)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * This method forces a directory to disk, on its own or with the next group
+	 * commit when a window is set
+	 *
+	 * @param directory the Path of the directory
+	 */
+	private static void syncDirectory(Path directory) throws IOException {
+		if (groupCommitMillis <= 0) {
+			forceDirectory(directory);
+		} else {
+			waitForCommit(directory, true);
+		}
+	}
+
+	/**
+	 * This method forces a directory to disk so files renamed or made in it are
+	 * still there after a crash. On systems that can't open a directory, such
+	 * as Windows, this does nothing.
+	 *
+	 * @param directory the Path of the directory
+	 */
+	private static void forceDirectory(Path directory) throws IOException {
+		FileChannel channel;
+		try {
+			channel = FileChannel.open(directory, StandardOpenOption.READ);
+		} catch (IOException e) {
+			return;
+		}
+		try {
+			channel.force(true);
+		} finally {
+			channel.close();
+		}
+	}
+
+	/**
+	 * This method computes the CRC32 checksum of bytes
+	 *
+	 * @param bytes the bytes to check
+	 * @return a long
+	 */
+	private static long checksum(byte[] bytes) {
+		CRC32 crc = new CRC32();
+		crc.update(bytes);
+		return crc.getValue();
+	}
+
+	/**
+	 * This method waits until a file written without forcing, or a directory, has
+	 * been forced by the committer thread
+	 *
+	 * @param path        the Path of the written file or directory
+	 * @param isDirectory true if the path is a directory
+	 */
+	private static void waitForCommit(Path path, boolean isDirectory) throws IOException {
+		synchronized (commitLock) {
+			CommitBatch batch = openBatch;
+			if (isDirectory) {
+				batch.directories.add(path);
+			} else {
+				batch.files.add(path);
+			}
+			if (committer == null) {
+				committer = new Thread(Storage::commitLoop, "storage-group-commit");
+				committer.setDaemon(true);
+				committer.start();
+			}
+			commitLock.notifyAll();
+			while (!batch.isCommitted) {
+				try {
+					commitLock.wait();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new IOException("Interrupted waiting for group commit", e);
+				}
+			}
+			// each batch keeps its own result, so a later failed batch can't hide this one
+			if (batch.isFailed) {
+				throw new IOException("Group commit failed for " + path);
+			}
+		}
+	}
+
+	/**
+	 * Forces every pending file and directory once per group commit window
+	 */
+	private static void commitLoop() {
+		while (true) {
+			CommitBatch batch;
+			long window;
+			synchronized (commitLock) {
+				while (openBatch.isEmpty()) {
+					try {
+						commitLock.wait();
+					} catch (InterruptedException e) {
+						return;
+					}
+				}
+				window = groupCommitMillis;
+			}
+			try {
+				Thread.sleep(Math.max(window, 0));
+			} catch (InterruptedException e) {
+				return;
+			}
+			synchronized (commitLock) {
+				batch = openBatch;
+				openBatch = new CommitBatch();
+			}
+			boolean failed = false;
+			for (Path path : batch.files) {
+				try {
+					FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE);
+					channel.force(true);
+					channel.close();
+				} catch (IOException ioe) {
+					failed = true;
+				}
+			}
+			for (Path directory : batch.directories) {
+				try {
+					forceDirectory(directory);
+				} catch (IOException ioe) {
+					failed = true;
+				}
+			}
+			synchronized (commitLock) {
+				batch.isFailed = failed;
+				batch.isCommitted = true;
+				commitLock.notifyAll();
+			}
+		}
+	}
+
+	/**
+	 * The files and directories forced together by one group commit, and whether
+	 * forcing them is done and failed
+	 */
+	private static class CommitBatch {
+		private HashSet<Path> files = new HashSet<>();
+		private HashSet<Path> directories = new HashSet<>();
+		private boolean isCommitted;
+		private boolean isFailed;
+
+		public boolean isEmpty() {
+			return files.isEmpty() && directories.isEmpty();
+		}
+	}
+}
@@ -0,0 +1,238 @@
+/**
+ * Keeps recently used WordleUsers in memory in front of the UserStore. The
+ * cache is bounded by a number of users and by how long a user may sit unused.
+ * Saving a user writes it to the store right away, so dropping a user never
+ * loses a change and reading it again gives it back as it was last saved.
+ * The store is read and written outside the lock of the cache, so users whose
+ * emails fall in different stripes are read and saved at the same time.
+ *
+ * Date: 10/19/2026
+ *
+ * @author Connor Kippes, Luke Laurie, Sean Eddy, Zachary Hansen
+ */
+
+package src.model;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class UserCache {
+	// reads and saves of emails in the same stripe wait on each other
+	private static final int EMAIL_STRIPES = 64;
+	private UserStore store;
+	private int maxUsers;
+	private long maxIdleMillis;
+	// access ordered so the least recently used user is first
+	private LinkedHashMap<String, CachedUser> users = new LinkedHashMap<>(16, 0.75f, true);
+	private long hits;
+	private long misses;
+	private long evictions;
+	private Object[] emailLocks = new Object[EMAIL_STRIPES];
+
+	/**
+	 * This initializes the cache over a store
+	 *
+	 * @param store         is the UserStore the users are read from and written to
+	 * @param maxUsers      is an int representing the most users kept in memory
+	 * @param maxIdleMillis is a long representing how long an unused user is kept
+	 */
+	public UserCache(UserStore store, int maxUsers, long maxIdleMillis) {
+		this.store = store;
+		this.maxUsers = maxUsers;
+		this.maxIdleMillis = maxIdleMillis;
+		for (int i = 0; i < EMAIL_STRIPES; i++) {
+			emailLocks[i] = new Object();
+		}
+	}
+
+	/**
+	 * This method finds the WordleUser with a given email, reading it from the
+	 * store if it is not cached
+	 *
+	 * @param email a string
+	 * @return a WordleUser object or null
+	 * @throws IOException if the user's shard could not be read
+	 */
+	public WordleUser getUser(String email) throws IOException {
+		// one read per email at a time, so every caller gets the same user
+		synchronized (lockOf(email)) {
+			WordleUser cachedUser = findCached(email);
+			if (cachedUser != null) {
+				return cachedUser;
+			}
+			WordleUser user = store.findUser(email);
+			if (user != null) {
+				synchronized (this) {
+					add(user);
+				}
+			}
+			return user;
+		}
+	}
+
+	/**
+	 * This method puts a user in the cache and writes it to the store right away
+	 *
+	 * @param user a WordleUser object
+	 * @throws IOException if the user could not be written, it isn't cached then
+	 */
+	public void saveUser(WordleUser user) throws IOException {
+		synchronized (lockOf(user.getEmail())) {
+			try {
+				store.saveUser(user);
+			} catch (IOException ioe) {
+				// the next read gets the user as it was last saved
+				synchronized (this) {
+					users.remove(user.getEmail());
+				}
+				throw ioe;
+			}
+			// the user is added before idle users are dropped, so the time the write
+			// took doesn't make the saved user look idle
+			synchronized (this) {
+				add(user);
+				evictIdle();
+			}
+		}
+	}
+
+	/**
+	 * This method returns the number of users in memory
+	 *
+	 * @return an integer
+	 */
+	public synchronized int size() {
+		return users.size();
+	}
+
+	/**
+	 * This method returns the number of lookups found in memory
+	 *
+	 * @return a long
+	 */
+	public synchronized long getHits() {
+		return hits;
+	}
+
+	/**
+	 * This method returns the number of lookups that had to read the store
+	 *
+	 * @return a long
+	 */
+	public synchronized long getMisses() {
+		return misses;
+	}
+
+	/**
+	 * This method returns the number of users dropped from memory
+	 *
+	 * @return a long
+	 */
+	public synchronized long getEvictions() {
+		return evictions;
+	}
+
+	/**
+	 * This method finds a user in memory, counting the hit or miss
+	 *
+	 * @param email a string
+	 * @return the cached WordleUser, or null if it isn't cached
+	 */
+	private synchronized WordleUser findCached(String email) {
+		evictIdle();
+		CachedUser cached = users.get(email);
+		if (cached == null) {
+			misses++;
+			return null;
+		}
+		hits++;
+		cached.lastUsed = System.currentTimeMillis();
+		return cached.user;
+	}
+
+	/**
+	 * This method returns the lock of the stripe an email is in
+	 *
+	 * @param email a string
+	 * @return the lock Object
+	 */
+	private Object lockOf(String email) {
+		return emailLocks[Math.floorMod(email.hashCode(), EMAIL_STRIPES)];
+	}
+
+	/**
+	 * This method adds a user and drops the least recently used users while the
+	 * cache is too big
+	 *
+	 * @param user a WordleUser object
+	 */
+	private void add(WordleUser user) {
+		CachedUser cached = users.get(user.getEmail());
+		if (cached == null) {
+			cached = new CachedUser(user);
+			users.put(user.getEmail(), cached);
+		}
+		cached.user = user;
+		cached.lastUsed = System.currentTimeMillis();
+		Iterator<Map.Entry<String, CachedUser>> iterator = users.entrySet().iterator();
+		while (users.size() > maxUsers && iterator.hasNext()) {
+			evict(iterator);
+		}
+	}
+
+	/**
+	 * This method drops every user that has not been used in maxIdleMillis
+	 */
+	private void evictIdle() {
+		long oldest = System.currentTimeMillis() - maxIdleMillis;
+		Iterator<Map.Entry<String, CachedUser>> iterator = users.entrySet().iterator();
+		// the least recently used come first so stop at the first recent one
+		while (iterator.hasNext()) {
+			if (!evictIfOlder(iterator, oldest)) {
+				break;
+			}
+		}
+	}
+
+	/**
+	 * This method drops the next user if it was last used before a time
+	 *
+	 * @param iterator the iterator over the cached users
+	 * @param oldest   the time in milliseconds
+	 * @return true if the user was dropped
+	 */
+	private boolean evictIfOlder(Iterator<Map.Entry<String, CachedUser>> iterator, long oldest) {
+		Map.Entry<String, CachedUser> entry = iterator.next();
+		if (entry.getValue().lastUsed >= oldest) {
+			return false;
+		}
+		iterator.remove();
+		evictions++;
+		return true;
+	}
+
+	/**
+	 * This method drops the next user
+	 *
+	 * @param iterator the iterator over the cached users
+	 */
+	private void evict(Iterator<Map.Entry<String, CachedUser>> iterator) {
+		iterator.next();
+		iterator.remove();
+		evictions++;
+	}
+
+	/**
+	 * A user in the cache along with when it was last used
+	 */
+	private static class CachedUser {
+		private WordleUser user;
+		private long lastUsed;
+
+		public CachedUser(WordleUser user) {
+			this.user = user;
+		}
+	}
+}
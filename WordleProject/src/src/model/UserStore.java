@@ -0,0 +1,391 @@
+/**
+ * Stores every WordleUser split over a number of shard files chosen by the hash
+ * of the user's email. Each shard has its own lock and journal, so saves to
+ * different shards don't wait on each other and finding a user only has to
+ * read the shard that user is in. A shard that was read is kept in memory as
+ * the saved bytes of each user, so later lookups only read one user, and it is
+ * read again if its files were changed by anything but this store.
+ *
+ * Date: 10/19/2026
+ *
+ * @author Connor Kippes, Luke Laurie, Sean Eddy, Zachary Hansen
+ */
+
+package src.model;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+public class UserStore {
+	// journals are folded back into their shard once they grow past this size
+	private static final long MAX_JOURNAL_BYTES = 128 * 1024;
+	private static final MetricHistogram LOAD_NANOS = Metrics.histogram("user.load.ns");
+	private static final MetricHistogram SAVE_NANOS = Metrics.histogram("user.save.ns");
+	private static final LongAdder SAVE_FAILURES = Metrics.counter("user.saveFailures");
+	private File directory;
+	private int shardCount;
+	private Object[] shardLocks;
+	// the users of each shard read so far, null until the shard is read whole
+	private ShardIndex[] shardIndexes;
+	// shards that could not be read, which aren't compacted until they are read
+	private boolean[] isUnreadable;
+
+	/**
+	 * This initializes the store in a directory. If the directory already holds a
+	 * store its shard count is used instead of the given one.
+	 *
+	 * @param directory  is a String representing the directory of the shards
+	 * @param shardCount is an int representing the number of shards for a new
+	 *                   store
+	 */
+	public UserStore(String directory, int shardCount) {
+		this.directory = new File(directory);
+		this.directory.mkdirs();
+		File countFile = new File(this.directory, "shard-count");
+		this.shardCount = shardCount;
+		if (countFile.exists()) {
+			try {
+				this.shardCount = Integer.parseInt(new String(Storage.readBytes(countFile.toString())));
+			} catch (Exception e) {
+				System.out.println("shard-count file could not be read");
+			}
+		} else {
+			try {
+				Storage.writeBytes(countFile.toString(), Integer.toString(shardCount).getBytes());
+			} catch (IOException ioe) {
+				System.out.println("Writing shard-count failed");
+			}
+		}
+		shardLocks = new Object[this.shardCount];
+		for (int i = 0; i < this.shardCount; i++) {
+			shardLocks[i] = new Object();
+		}
+		shardIndexes = new ShardIndex[this.shardCount];
+		isUnreadable = new boolean[this.shardCount];
+	}
+
+	/**
+	 * This method finds the WordleUser with a given email, reading only its shard
+	 *
+	 * @param email a string
+	 * @return a WordleUser object or null
+	 * @throws IOException if the shard of the user could not be read
+	 */
+	public WordleUser findUser(String email) throws IOException {
+		long start = Metrics.ENABLED ? System.nanoTime() : 0;
+		int shard = shardOf(email);
+		byte[] record;
+		synchronized (shardLocks[shard]) {
+			record = indexOf(shard).records.get(email);
+		}
+		WordleUser user = record == null ? null : toUser(record, shard);
+		if (Metrics.ENABLED) {
+			LOAD_NANOS.record(System.nanoTime() - start);
+		}
+		return user;
+	}
+
+	/**
+	 * This method saves a user by adding it to the end of its shard's journal
+	 *
+	 * @param user a WordleUser object
+	 * @throws IOException if the user could not be written
+	 */
+	public void saveUser(WordleUser user) throws IOException {
+		long start = Metrics.ENABLED ? System.nanoTime() : 0;
+		int shard = shardOf(user.getEmail());
+		byte[] record = Storage.serialize(user);
+		synchronized (shardLocks[shard]) {
+			ShardIndex index = shardIndexes[shard];
+			boolean isIndexed = index != null && index.isCurrent(shard);
+			try {
+				Storage.appendRecord(journalFile(shard), record);
+			} catch (IOException ioe) {
+				if (Metrics.ENABLED) {
+					SAVE_FAILURES.increment();
+				}
+				// the journal may hold part of the record, so the shard is read again
+				shardIndexes[shard] = null;
+				throw ioe;
+			}
+			if (isIndexed) {
+				index.records.put(user.getEmail(), record);
+				index.readSizes(shard);
+			} else {
+				shardIndexes[shard] = null;
+			}
+			// a shard that can't be read is left alone until it is read again
+			if (journalFile(shard).length() > MAX_JOURNAL_BYTES && !isUnreadable[shard]) {
+				try {
+					compactShard(shard);
+				} catch (IOException ioe) {
+					// the journal is kept, so nothing is lost until the shard can be read
+					System.out.println("Compacting shard " + shard + " failed: " + ioe);
+				}
+			}
+		}
+		if (Metrics.ENABLED) {
+			SAVE_NANOS.record(System.nanoTime() - start);
+		}
+	}
+
+	/**
+	 * This method returns every user in the store, one shard at a time
+	 *
+	 * @return an ArrayList of every WordleUser
+	 * @throws IOException if a shard could not be read
+	 */
+	public ArrayList<WordleUser> getAllUsers() throws IOException {
+		ArrayList<WordleUser> allUsers = new ArrayList<>();
+		for (int shard = 0; shard < shardCount; shard++) {
+			synchronized (shardLocks[shard]) {
+				allUsers.addAll(usersOf(shard).values());
+			}
+		}
+		return allUsers;
+	}
+
+	/**
+	 * This method determines if the store has no users yet
+	 *
+	 * @return a boolean operator
+	 */
+	public boolean isEmpty() {
+		for (int shard = 0; shard < shardCount; shard++) {
+			if (shardFile(shard).exists() || journalFile(shard).exists()) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * This method returns the shard an email belongs to
+	 *
+	 * @param email a string
+	 * @return an integer
+	 */
+	public int shardOf(String email) {
+		return Math.floorMod(email.hashCode(), shardCount);
+	}
+
+	/**
+	 * This method returns the number of shards
+	 *
+	 * @return an integer
+	 */
+	public int getShardCount() {
+		return shardCount;
+	}
+
+	/**
+	 * This method folds a shard's journal into the shard file and removes the
+	 * journal. The shard file is replaced atomically before the journal goes, and
+	 * nothing is written unless the shard and its journal were read whole.
+	 *
+	 * @param shard an integer
+	 * @throws IOException if the shard could not be read or written
+	 */
+	public void compactShard(int shard) throws IOException {
+		synchronized (shardLocks[shard]) {
+			ShardIndex index = indexOf(shard);
+			Storage.writeObject(shardFile(shard).toString(), usersOf(shard));
+			journalFile(shard).delete();
+			index.readSizes(shard);
+		}
+	}
+
+	/**
+	 * This method returns the index of a shard, reading the shard if it wasn't
+	 * read yet or its files changed since. Must be called while holding the
+	 * shard's lock.
+	 *
+	 * @param shard an integer
+	 * @return the ShardIndex
+	 * @throws IOException if the shard or its journal could not be read
+	 */
+	private ShardIndex indexOf(int shard) throws IOException {
+		ShardIndex index = shardIndexes[shard];
+		if (index != null && index.isCurrent(shard)) {
+			return index;
+		}
+		shardIndexes[shard] = null;
+		index = new ShardIndex();
+		try {
+			for (WordleUser user : readShard(shard).values()) {
+				index.records.put(user.getEmail(), Storage.serialize(user));
+			}
+		} catch (IOException ioe) {
+			isUnreadable[shard] = true;
+			throw ioe;
+		}
+		index.readSizes(shard);
+		isUnreadable[shard] = false;
+		shardIndexes[shard] = index;
+		return index;
+	}
+
+	/**
+	 * This method returns every user of a shard. Must be called while holding the
+	 * shard's lock.
+	 *
+	 * @param shard an integer
+	 * @return a HashMap of emails to users
+	 * @throws IOException if the shard or its journal could not be read
+	 */
+	private HashMap<String, WordleUser> usersOf(int shard) throws IOException {
+		HashMap<String, WordleUser> users = new HashMap<>();
+		for (byte[] record : indexOf(shard).records.values()) {
+			WordleUser user = toUser(record, shard);
+			users.put(user.getEmail(), user);
+		}
+		return users;
+	}
+
+	/**
+	 * This method reads a user from its saved bytes
+	 *
+	 * @param record the bytes of the user
+	 * @param shard  the shard the user is in
+	 * @return a WordleUser object
+	 * @throws IOException if the bytes don't hold a WordleUser
+	 */
+	private static WordleUser toUser(byte[] record, int shard) throws IOException {
+		try {
+			return (WordleUser) Storage.deserialize(record);
+		} catch (ClassNotFoundException | ClassCastException e) {
+			throw new IOException("Shard " + shard + " does not hold WordleUsers", e);
+		}
+	}
+
+	/**
+	 * This method reads a shard file and replays its journal on top of it. A torn
+	 * record at the end of the journal is dropped, anything else that can't be
+	 * read fails the whole shard so a partial shard is never used or written
+	 * back. Must be called while holding the shard's lock.
+	 *
+	 * @param shard an integer
+	 * @return a HashMap of emails to users
+	 * @throws IOException if the shard or its journal could not be read
+	 */
+	@SuppressWarnings("unchecked")
+	private HashMap<String, WordleUser> readShard(int shard) throws IOException {
+		HashMap<String, WordleUser> users = new HashMap<>();
+		try {
+			if (shardFile(shard).exists()) {
+				users = (HashMap<String, WordleUser>) Storage.readObject(shardFile(shard).toString());
+			}
+			// later records replace earlier ones for the same user
+			for (byte[] record : Storage.readRecords(journalFile(shard))) {
+				WordleUser user = (WordleUser) Storage.deserialize(record);
+				users.put(user.getEmail(), user);
+			}
+		} catch (ClassNotFoundException | ClassCastException e) {
+			throw new IOException("Shard " + shard + " does not hold WordleUsers", e);
+		}
+		return users;
+	}
+
+	/**
+	 * This method returns the file of a shard
+	 *
+	 * @param shard an integer
+	 * @return a File
+	 */
+	private File shardFile(int shard) {
+		return new File(directory, "shard-" + shard + ".ser");
+	}
+
+	/**
+	 * This method returns the journal file of a shard
+	 *
+	 * @param shard an integer
+	 * @return a File
+	 */
+	private File journalFile(int shard) {
+		return new File(directory, "shard-" + shard + ".journal");
+	}
+
+	/**
+	 * This method splits an existing users.ser file into a sharded store
+	 *
+	 * @param usersFile  is a String representing the old users.ser file
+	 * @param directory  is a String representing the directory of the new store
+	 * @param shardCount is an int representing the number of shards
+	 * @return the new UserStore
+	 */
+	@SuppressWarnings("unchecked")
+	public static UserStore reshard(String usersFile, String directory, int shardCount) throws IOException {
+		ArrayList<WordleUser> allUsers;
+		try {
+			allUsers = (ArrayList<WordleUser>) Storage.readObject(usersFile);
+		} catch (ClassNotFoundException e) {
+			throw new IOException(usersFile + " does not hold WordleUsers", e);
+		}
+		UserStore store = new UserStore(directory, shardCount);
+		// groups the users so each shard file is written once
+		ArrayList<HashMap<String, WordleUser>> shards = new ArrayList<>();
+		for (int shard = 0; shard < store.getShardCount(); shard++) {
+			shards.add(store.readShard(shard));
+		}
+		for (WordleUser curUser : allUsers) {
+			shards.get(store.shardOf(curUser.getEmail())).put(curUser.getEmail(), curUser);
+		}
+		for (int shard = 0; shard < store.getShardCount(); shard++) {
+			Storage.writeObject(store.shardFile(shard).toString(), shards.get(shard));
+			store.journalFile(shard).delete();
+		}
+		return store;
+	}
+
+	/**
+	 * Re-shards a users.ser file from the command line. Arguments are the users.ser
+	 * file, the new store directory and the number of shards.
+	 *
+	 * @param args the command line arguments
+	 */
+	public static void main(String[] args) throws IOException {
+		if (args.length != 3) {
+			System.out.println("usage: UserStore <users.ser> <directory> <shards>");
+			return;
+		}
+		UserStore store = reshard(args[0], args[1], Integer.parseInt(args[2]));
+		System.out.println(store.getAllUsers().size() + " users written to " + store.getShardCount() + " shards");
+	}
+
+	/**
+	 * The saved bytes of each user of a shard, along with the sizes of the
+	 * shard's files when they matched it
+	 */
+	private class ShardIndex {
+		private HashMap<String, byte[]> records = new HashMap<>();
+		private long shardModified;
+		private long shardLength;
+		private long journalLength;
+
+		/**
+		 * Remembers the sizes of the shard's files as they are now
+		 *
+		 * @param shard an integer
+		 */
+		public void readSizes(int shard) {
+			shardModified = shardFile(shard).lastModified();
+			shardLength = shardFile(shard).length();
+			journalLength = journalFile(shard).length();
+		}
+
+		/**
+		 * Checks that nothing else changed the shard's files since they were read
+		 *
+		 * @param shard an integer
+		 * @return true if the records are still those of the files
+		 */
+		public boolean isCurrent(int shard) {
+			return shardModified == shardFile(shard).lastModified() && shardLength == shardFile(shard).length()
+					&& journalLength == journalFile(shard).length();
+		}
+	}
+}
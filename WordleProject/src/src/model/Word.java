@@ -9,16 +9,13 @@
 package src.model;
 
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.concurrent.atomic.LongAdder;
 
 public class Word implements Serializable {
 	private Dictionary wordDict;
@@ -26,6 +23,7 @@ public class Word implements Serializable {
 	private HashMap<ArrayList<Integer>, ArrayList<String>> curWord;
 	private static Word instance;
 	private int colSize;
+	private static final LongAdder DAY_ROLLOVERS = Metrics.counter("word.dayRollovers");
 
 	// singleton design pattern
 	public synchronized static Word getInstance(int colSize) {
@@ -52,7 +50,8 @@ public class Word implements Serializable {
 		return curDate.toString();
 	}
 
-	public ArrayList<String> getCurWord(int colSize, int rowSize) {
+	// synchronized since guesses are judged on the engine thread
+	public synchronized ArrayList<String> getCurWord(int colSize, int rowSize) {
 		// determines if a new word is needed
 		readDate();
 		updateTime();
@@ -65,6 +64,9 @@ public class Word implements Serializable {
 	 */
 	public void updateTime() {
 		if (checkNewDate()) {
+			if (Metrics.ENABLED) {
+				DAY_ROLLOVERS.increment();
+			}
 			curDate = LocalDate.now();
 			createWordMapping();
 			saveDate();
@@ -151,12 +153,9 @@ public class Word implements Serializable {
 	
 	public void saveDate() {
 		try {
-			FileOutputStream fileOut = new FileOutputStream("date.ser");
-			ObjectOutputStream out = new ObjectOutputStream(fileOut);
-			out.writeObject(curDate);
-			out.close();
-			fileOut.close();
-		} catch (Exception e) {
+			Storage.writeObject("date.ser", curDate);
+		} catch (IOException e) {
+			System.out.println("Writing date.ser failed: " + e.getMessage());
 		}
 	}
 
@@ -167,17 +166,16 @@ public class Word implements Serializable {
 		File file = new File("date.ser");
 		if (file.exists()) {
 			try {
-				FileInputStream fileIn = new FileInputStream("date.ser");
-				ObjectInputStream in = new ObjectInputStream(fileIn);
-				curDate = (LocalDate) in.readObject();
-				// checks if value in file
-				if (curDate == null) {
-					curDate = LocalDate.now();
-					saveDate();
-				}
-				in.close();
-				fileIn.close();
+				curDate = (LocalDate) Storage.readObject("date.ser");
 			} catch (Exception e) {
+				// a damaged file is replaced the same way as a missing one
+				System.out.println("Reading date.ser failed: " + e.getMessage());
+				curDate = null;
+			}
+			// checks if value in file
+			if (curDate == null) {
+				curDate = LocalDate.now();
+				saveDate();
 			}
 		} else {
 			// saves the file if not yet created
@@ -191,12 +189,9 @@ public class Word implements Serializable {
 	 */
 	public void saveWord() {
 		try {
-			FileOutputStream fileOut = new FileOutputStream("word.ser");
-			ObjectOutputStream out = new ObjectOutputStream(fileOut);
-			out.writeObject(curWord);
-			out.close();
-			fileOut.close();
-		} catch (Exception e) {
+			Storage.writeObject("word.ser", curWord);
+		} catch (IOException e) {
+			System.out.println("Writing word.ser failed: " + e.getMessage());
 		}
 	}
 	
@@ -208,18 +203,17 @@ public class Word implements Serializable {
 		File file = new File("word.ser");
 		if (file.exists()) {
 			try {
-				FileInputStream fileIn = new FileInputStream("word.ser");
-				ObjectInputStream in = new ObjectInputStream(fileIn);
-				curWord = (HashMap<ArrayList<Integer>, ArrayList<String>>) in.readObject();
-				// checks if value in file
-				if (curWord == null) {
-					// gets all the possible word sizes
-					createWordMapping();
-					saveWord();
-				}
-				in.close();
-				fileIn.close();
+				curWord = (HashMap<ArrayList<Integer>, ArrayList<String>>) Storage.readObject("word.ser");
 			} catch (Exception e) {
+				// a damaged file is replaced the same way as a missing one
+				System.out.println("Reading word.ser failed: " + e.getMessage());
+				curWord = null;
+			}
+			// checks if value in file
+			if (curWord == null) {
+				// gets all the possible word sizes
+				createWordMapping();
+				saveWord();
 			}
 		} else {
 			// gets all the possible word sizes
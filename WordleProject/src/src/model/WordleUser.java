@@ -8,19 +8,18 @@
 
 package src.model;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Date;
 import java.util.HashMap;
+import java.util.HashSet;
 
-import org.hamcrest.core.Is;
-
-import javafx.scene.chart.PieChart.Data;
-
-@SuppressWarnings("serial")
 public class WordleUser implements Serializable {
+	// kept the same as before the boards were split out so old users.ser files load
+	private static final long serialVersionUID = 5847255383060505559L;
 	private int gamesPlayed;
 	private int winCount;
 	private int lossCount;
@@ -28,7 +27,9 @@ public class WordleUser implements Serializable {
 	private int curStreak;
 	private int maxStreak;
 	private HashMap<ArrayList<Integer>, HashMap<Integer, Integer>> guessDistribution;
-	private HashMap<ArrayList<Integer>, ArrayList<ArrayList<String>>> guessChoices;
+	// boards are saved separately by BoardStore and only loaded when needed
+	private transient HashMap<ArrayList<Integer>, ArrayList<ArrayList<String>>> guessChoices;
+	private transient HashSet<ArrayList<Integer>> changedBoards;
 	private String email;
 	private String password;
 	private LocalDate curDate;
@@ -49,14 +50,12 @@ public class WordleUser implements Serializable {
 		curStreak = 0;
 		maxStreak = 0;
 
-		guessChoices = new HashMap<>();
 		// initializes the guesses and their distributions
 		initializeInfo(false);
 		initializeInfo(true);
 		// information needed for login system
 		this.email = email;
 		this.password = password;
-		curDate = LocalDate.now();
 		isDarkMode = false;
 		isContrastMode = false;
 	}
@@ -99,8 +98,7 @@ public class WordleUser implements Serializable {
 		winRate = (double) winCount / gamesPlayed;
 		if (won) {
 			// finds the map to update
-			ArrayList<Integer> keyArrayList = new ArrayList<>(Arrays.asList(rowSize, colSize));
-			HashMap<Integer, Integer> mapToUpdate = guessDistribution.get(keyArrayList);
+			HashMap<Integer, Integer> mapToUpdate = getGuessDistribution(rowSize, colSize);
 			int guessSize = findSize(rowSize, colSize);
 			mapToUpdate.put(guessSize, mapToUpdate.get(guessSize) + 1);
 		}
@@ -171,6 +169,14 @@ public class WordleUser implements Serializable {
 	public HashMap<Integer, Integer> getGuessDistribution(int rowSize, int colSize) {
 		// create the key to determine which wordle size to look at
 		ArrayList<Integer> keyArrayList = new ArrayList<>(Arrays.asList(rowSize, colSize));
+		// distributions are only created for sizes that have been played
+		if (!guessDistribution.containsKey(keyArrayList)) {
+			HashMap<Integer, Integer> emptyPair = new HashMap<Integer, Integer>();
+			for (int guessCount = 1; guessCount <= rowSize; guessCount++) {
+				emptyPair.put(guessCount, 0);
+			}
+			guessDistribution.put(keyArrayList, emptyPair);
+		}
 		return guessDistribution.get(keyArrayList);
 	}
 
@@ -185,6 +191,18 @@ public class WordleUser implements Serializable {
 	public ArrayList<ArrayList<String>> getGuesses(int rowSize, int colSize) {
 		// create the key to determine which wordle size to look at
 		ArrayList<Integer> keyArrayList = new ArrayList<>(Arrays.asList(rowSize, colSize));
+		// loads the board from disk the first time it is needed
+		if (!guessChoices.containsKey(keyArrayList)) {
+			ArrayList<ArrayList<String>> savedGuesses = BoardStore.loadBoard(email, rowSize, colSize, curDate);
+			if (savedGuesses == null) {
+				savedGuesses = createEmptyGuess(colSize, rowSize);
+			}
+			// adds guesses made after the board was last saved
+			if (CheckpointStore.restore(email, curDate, savedGuesses)) {
+				changedBoards.add(keyArrayList);
+			}
+			guessChoices.put(keyArrayList, savedGuesses);
+		}
 		return guessChoices.get(keyArrayList);
 	}
 
@@ -218,6 +236,21 @@ public class WordleUser implements Serializable {
 		// updates the value
 		ArrayList<Integer> keyArrayList = new ArrayList<>(Arrays.asList(rowSize, colSize));
 		guessChoices.put(keyArrayList, allGuesses);
+		changedBoards.add(keyArrayList);
+	}
+
+	/**
+	 * This saves every board that changed since it was loaded and then drops the
+	 * loaded boards so they are only kept in memory while needed
+	 */
+	public void saveBoards() {
+		for (ArrayList<Integer> curPair : changedBoards) {
+			BoardStore.saveBoard(email, curDate, guessChoices.get(curPair));
+			// the checkpoint is only needed until the board itself is saved
+			CheckpointStore.clear(email, curPair.get(0), curPair.get(1));
+		}
+		changedBoards.clear();
+		guessChoices.clear();
 	}
 
 	/**
@@ -238,9 +271,9 @@ public class WordleUser implements Serializable {
 	 * @return row size
 	 */
 	private int findSize(int rowSize, int colSize) {
-		ArrayList<Integer> keyArrayList = new ArrayList<>(Arrays.asList(rowSize, colSize));
+		ArrayList<ArrayList<String>> curGuesses = getGuesses(rowSize, colSize);
 		for (int i = 0; i < rowSize; i++) {
-			if (guessChoices.get(keyArrayList).get(i).get(0).equals(" ")) {
+			if (curGuesses.get(i).get(0).equals(" ")) {
 				return i;
 			}
 		}
@@ -269,42 +302,32 @@ public class WordleUser implements Serializable {
 	}
 
 	/**
-	 * This initializes date and guess objects
+	 * This initializes date and guess objects. Boards and distributions are
+	 * created when a size is first used instead of for every size up front.
 	 * 
 	 * @param isGuesses is a boolean representing whether there are guesses
 	 */
 	public void initializeInfo(boolean isGuesses) {
 		if (isGuesses) {
+			// boards saved on an earlier date are ignored when loaded
 			curDate = LocalDate.now();
 			guessChoices = new HashMap<>();
+			changedBoards = new HashSet<>();
 		} else {
 			guessDistribution = new HashMap<>();
 		}
-		// adds every possible pair of sizes
-		for (int col = 3; col <= 7; col++) {
-			for (int row = 3; row <= 7; row++) {
-				ArrayList<Integer> curPair = new ArrayList<>();
-				curPair.add(row);
-				curPair.add(col);
-				// determines which map to add to
-				if (isGuesses) {
-					if (!guessChoices.containsKey(curPair)) {
-						ArrayList<ArrayList<String>> emptyPair = createEmptyGuess(col, row);
-						// adds to the hashmap of all guesses
-						guessChoices.put(curPair, emptyPair);
-					}
-				} else {
-					if (!guessDistribution.containsKey(curPair)) {
-						HashMap<Integer, Integer> emptyPair = new HashMap<Integer, Integer>();
-						for (int guessCount = 1; guessCount <= row; guessCount++) {
-							emptyPair.put(guessCount, 0);
-						}
-						// adds to the hashmap to remember distribution of guesses
-						guessDistribution.put(curPair, emptyPair);
-					}
-				}
-			}
-		}
+	}
+
+	/**
+	 * This reads the user and creates the maps for the boards which are not part
+	 * of the serialized user
+	 * 
+	 * @param in is the ObjectInputStream the user is read from
+	 */
+	private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+		in.defaultReadObject();
+		guessChoices = new HashMap<>();
+		changedBoards = new HashSet<>();
 	}
 
 	/**
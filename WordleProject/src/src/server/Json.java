@@ -0,0 +1,184 @@
+/**
+ * Writes the small JSON objects the server answers with and reads the fields
+ * of the ones it is sent. Only flat objects of strings, numbers, booleans and
+ * arrays are needed, so this is written by hand instead of adding a library.
+ *
+ * Date: 10/19/2026
+ *
+ * @author Connor Kippes, Luke Laurie, Sean Eddy, Zachary Hansen
+ */
+
+package src.server;
+
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public class Json {
+	private StringBuilder text = new StringBuilder("{");
+
+	/**
+	 * Adds a string field.
+	 *
+	 * @param name  is the name of the field.
+	 * @param value is the string, written as null when null.
+	 *
+	 * @return this object to add more fields.
+	 */
+	public Json add(String name, String value) {
+		return field(name, value == null ? "null" : quote(value));
+	}
+
+	/**
+	 * Adds a number field.
+	 *
+	 * @param name  is the name of the field.
+	 * @param value is the number.
+	 *
+	 * @return this object to add more fields.
+	 */
+	public Json add(String name, Number value) {
+		return field(name, String.valueOf(value));
+	}
+
+	/**
+	 * Adds a boolean field.
+	 *
+	 * @param name  is the name of the field.
+	 * @param value is the boolean.
+	 *
+	 * @return this object to add more fields.
+	 */
+	public Json add(String name, boolean value) {
+		return field(name, String.valueOf(value));
+	}
+
+	/**
+	 * Adds a field holding an array of strings.
+	 *
+	 * @param name   is the name of the field.
+	 * @param values is the strings.
+	 *
+	 * @return this object to add more fields.
+	 */
+	public Json add(String name, List<String> values) {
+		return field(name, array(values));
+	}
+
+	/**
+	 * Adds a field holding an array of arrays of strings.
+	 *
+	 * @param name   is the name of the field.
+	 * @param values is the arrays of strings.
+	 *
+	 * @return this object to add more fields.
+	 */
+	public Json addRows(String name, List<? extends List<String>> values) {
+		StringBuilder rows = new StringBuilder("[");
+		for (int i = 0; i < values.size(); i++) {
+			if (i > 0) {
+				rows.append(',');
+			}
+			rows.append(array(values.get(i)));
+		}
+		return field(name, rows.append(']').toString());
+	}
+
+	/**
+	 * Returns the finished object.
+	 *
+	 * @return the JSON text.
+	 */
+	@Override
+	public String toString() {
+		return text.toString() + "}";
+	}
+
+	/**
+	 * Reads a string field from a flat JSON object.
+	 *
+	 * @param json is the JSON text.
+	 * @param name is the name of the field.
+	 *
+	 * @return the string, or null if the field is missing or not a string.
+	 */
+	public static String readString(String json, String name) {
+		Matcher matcher = Pattern.compile("\"" + Pattern.quote(name) + "\"\\s*:\\s*\"((?:[^\"\\\\]|\\\\.)*)\"")
+				.matcher(json);
+		if (!matcher.find()) {
+			return null;
+		}
+		return matcher.group(1).replace("\\\"", "\"").replace("\\\\", "\\");
+	}
+
+	/**
+	 * Writes a string with the characters JSON needs escaped.
+	 *
+	 * @param value is the string.
+	 *
+	 * @return the quoted string.
+	 */
+	public static String quote(String value) {
+		StringBuilder quoted = new StringBuilder("\"");
+		for (char c : value.toCharArray()) {
+			switch (c) {
+			case '"':
+				quoted.append("\\\"");
+				break;
+			case '\\':
+				quoted.append("\\\\");
+				break;
+			case '\n':
+				quoted.append("\\n");
+				break;
+			case '\r':
+				quoted.append("\\r");
+				break;
+			case '\t':
+				quoted.append("\\t");
+				break;
+			default:
+				if (c < 0x20) {
+					quoted.append(String.format("\\u%04x", (int) c));
+				} else {
+					quoted.append(c);
+				}
+			}
+		}
+		return quoted.append('"').toString();
+	}
+
+	/**
+	 * Writes an array of strings.
+	 *
+	 * @param values is the strings.
+	 *
+	 * @return the JSON array.
+	 */
+	private static String array(List<String> values) {
+		StringBuilder array = new StringBuilder("[");
+		for (int i = 0; i < values.size(); i++) {
+			if (i > 0) {
+				array.append(',');
+			}
+			array.append(quote(values.get(i)));
+		}
+		return array.append(']').toString();
+	}
+
+	/**
+	 * Adds a field whose value is already JSON.
+	 *
+	 * @param name  is the name of the field.
+	 * @param value is the JSON of the value.
+	 *
+	 * @return this object to add more fields.
+	 */
+	private Json field(String name, String value) {
+		if (text.length() > 1) {
+			text.append(',');
+		}
+		text.append(quote(name)).append(':').append(value);
+		return this;
+	}
+}
@@ -0,0 +1,127 @@
+/**
+ * One game hosted by the server: the session being played, who is playing it
+ * and when it was last used. Requests for the same game lock on it so its
+ * session is only ever played by one request at a time. The id of a game
+ * starts with its size, so a game spilled to disk can be found again from its
+ * id alone.
+ *
+ * Date: 10/19/2026
+ *
+ * @author Connor Kippes, Luke Laurie, Sean Eddy, Zachary Hansen
+ */
+
+package src.server;
+
+import java.util.UUID;
+
+import src.model.GameSession;
+
+public class ServerGame {
+	private String id;
+	private String player;
+	private GameSession session;
+	private volatile long lastUsed = System.currentTimeMillis();
+	// set once the game has been dropped from memory, must hold the lock of the game
+	private boolean isEvicted;
+
+	/**
+	 * Makes a hosted game.
+	 *
+	 * @param id      is the id the game is found by.
+	 * @param player  is the name of the player, null for an anonymous game.
+	 * @param session is the session being played.
+	 */
+	public ServerGame(String id, String player, GameSession session) {
+		this.id = id;
+		this.player = player;
+		this.session = session;
+	}
+
+	/**
+	 * Makes a new id for a game of a size.
+	 *
+	 * @param rows is the number of rows of the game.
+	 * @param cols is the number of columns of the game.
+	 *
+	 * @return the id, such as 6x5-followed by a random UUID.
+	 */
+	public static String newId(int rows, int cols) {
+		return rows + "x" + cols + "-" + UUID.randomUUID();
+	}
+
+	/**
+	 * Reads the size of a game from its id.
+	 *
+	 * @param id is the id of the game.
+	 *
+	 * @return the rows and columns, or null if the id isn't one made by newId.
+	 */
+	public static int[] sizeOf(String id) {
+		if (id == null || !id.matches("\\d{1,2}x\\d{1,2}-[0-9a-f-]+")) {
+			return null;
+		}
+		int x = id.indexOf('x');
+		return new int[] { Integer.parseInt(id.substring(0, x)),
+				Integer.parseInt(id.substring(x + 1, id.indexOf('-'))) };
+	}
+
+	/**
+	 * Marks the game as dropped from memory. Requests that still hold it have to
+	 * find it again. Must hold the lock of the game.
+	 */
+	public void evict() {
+		isEvicted = true;
+	}
+
+	/**
+	 * Returns if the game was dropped from memory. Must hold the lock of the game.
+	 *
+	 * @return true if the game was dropped.
+	 */
+	public boolean isEvicted() {
+		return isEvicted;
+	}
+
+	/**
+	 * Marks the game as used now.
+	 */
+	public void touch() {
+		lastUsed = System.currentTimeMillis();
+	}
+
+	/**
+	 * Returns the id of the game.
+	 *
+	 * @return the id.
+	 */
+	public String getId() {
+		return id;
+	}
+
+	/**
+	 * Returns the name of the player.
+	 *
+	 * @return the name, or null for an anonymous game.
+	 */
+	public String getPlayer() {
+		return player;
+	}
+
+	/**
+	 * Returns the session being played.
+	 *
+	 * @return the session.
+	 */
+	public GameSession getSession() {
+		return session;
+	}
+
+	/**
+	 * Returns when the game was last used.
+	 *
+	 * @return the time in milliseconds since the epoch.
+	 */
+	public long getLastUsed() {
+		return lastUsed;
+	}
+}
@@ -0,0 +1,372 @@
+/**
+ * Keeps the games the server is hosting in memory, bounded by a number of games
+ * and by how long a game may sit unused. A game dropped before it is over is
+ * spilled to the CheckpointStore with its answer, and read back the next time
+ * it is asked for, so a player who comes back later can still finish it.
+ * Spilled games are kept until the end of the day, like the checkpoints of the
+ * daily boards, and the first use of the store on a new day removes the
+ * checkpoints of earlier days. Games are spilled and read back outside the lock
+ * of the store, so one slow write doesn't hold up every other game.
+ *
+ * Date: 10/19/2026
+ *
+ * @author Connor Kippes, Luke Laurie, Sean Eddy, Zachary Hansen
+ */
+
+package src.server;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import src.model.CheckpointStore;
+import src.model.GameSession;
+
+public class SessionStore {
+	private static final String ANSWER = "answer";
+	private static final String PLAYER = "player";
+	private static final String HARD = "hard";
+	// restores of ids in the same stripe wait on each other
+	private static final int ID_STRIPES = 64;
+	private int maxSessions;
+	private long maxIdleMillis;
+	// access ordered so the least recently used game is first
+	private LinkedHashMap<String, ServerGame> games = new LinkedHashMap<>(16, 0.75f, true);
+	// games taken out of memory whose spill hasn't finished yet
+	private HashMap<String, ServerGame> spilling = new HashMap<>();
+	private Object[] idLocks = new Object[ID_STRIPES];
+	// the day the checkpoints of earlier days were last removed
+	private LocalDate purgedDate;
+	private long hits;
+	private long misses;
+	private long evictions;
+	private long spills;
+	private long spillFailures;
+	private long restores;
+
+	/**
+	 * Makes an empty store.
+	 *
+	 * @param maxSessions   is the most games kept in memory.
+	 * @param maxIdleMillis is how long an unused game is kept in memory.
+	 */
+	public SessionStore(int maxSessions, long maxIdleMillis) {
+		this.maxSessions = maxSessions;
+		this.maxIdleMillis = maxIdleMillis;
+		for (int i = 0; i < ID_STRIPES; i++) {
+			idLocks[i] = new Object();
+		}
+	}
+
+	/**
+	 * Adds a game, dropping the least recently used games while there are too
+	 * many.
+	 *
+	 * @param game is the game.
+	 */
+	public void put(ServerGame game) {
+		purgeIfNewDay();
+		ArrayList<ServerGame> dropped = new ArrayList<>();
+		synchronized (this) {
+			takeIdle(dropped);
+			game.touch();
+			games.put(game.getId(), game);
+			Iterator<Map.Entry<String, ServerGame>> iterator = games.entrySet().iterator();
+			while (games.size() > maxSessions && iterator.hasNext()) {
+				ServerGame oldest = iterator.next().getValue();
+				iterator.remove();
+				take(oldest, dropped);
+			}
+		}
+		evict(dropped);
+	}
+
+	/**
+	 * Finds a game, reading it back from the CheckpointStore if it was spilled.
+	 *
+	 * @param id is the id of the game.
+	 *
+	 * @return the game, or null if there is no such game.
+	 */
+	public ServerGame get(String id) {
+		purgeIfNewDay();
+		ArrayList<ServerGame> dropped = new ArrayList<>();
+		ServerGame game;
+		synchronized (this) {
+			takeIdle(dropped);
+			game = games.get(id);
+			if (game != null) {
+				hits++;
+				game.touch();
+			} else {
+				misses++;
+			}
+		}
+		evict(dropped);
+		if (game != null) {
+			return game;
+		}
+		// one restore per id at a time, so a game is never read back twice
+		synchronized (idLocks[Math.floorMod(id.hashCode(), ID_STRIPES)]) {
+			synchronized (this) {
+				// a game being spilled is read back once its spill is written
+				while (spilling.containsKey(id)) {
+					try {
+						wait();
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+						return null;
+					}
+				}
+				// another request may have read it back already
+				game = games.get(id);
+				if (game != null) {
+					game.touch();
+					return game;
+				}
+			}
+			game = restore(id);
+			if (game != null) {
+				synchronized (this) {
+					restores++;
+				}
+				put(game);
+			}
+		}
+		return game;
+	}
+
+	/**
+	 * Drops every game that has sat unused too long. Called on every use of the
+	 * store, and can be called on a timer so a quiet server lets go of its games.
+	 */
+	public void evictIdle() {
+		purgeIfNewDay();
+		ArrayList<ServerGame> dropped = new ArrayList<>();
+		synchronized (this) {
+			takeIdle(dropped);
+		}
+		evict(dropped);
+	}
+
+	/**
+	 * Returns the number of games in memory.
+	 *
+	 * @return the number of games.
+	 */
+	public synchronized int size() {
+		return games.size();
+	}
+
+	/**
+	 * Returns the number of lookups found in memory.
+	 *
+	 * @return the number of hits.
+	 */
+	public synchronized long getHits() {
+		return hits;
+	}
+
+	/**
+	 * Returns the number of lookups not found in memory.
+	 *
+	 * @return the number of misses.
+	 */
+	public synchronized long getMisses() {
+		return misses;
+	}
+
+	/**
+	 * Returns the number of games dropped from memory.
+	 *
+	 * @return the number of evictions.
+	 */
+	public synchronized long getEvictions() {
+		return evictions;
+	}
+
+	/**
+	 * Returns the number of games dropped before they were over and spilled.
+	 *
+	 * @return the number of spills.
+	 */
+	public synchronized long getSpills() {
+		return spills;
+	}
+
+	/**
+	 * Returns the number of games that could not be spilled and were lost.
+	 *
+	 * @return the number of failed spills.
+	 */
+	public synchronized long getSpillFailures() {
+		return spillFailures;
+	}
+
+	/**
+	 * Returns the number of spilled games read back.
+	 *
+	 * @return the number of restores.
+	 */
+	public synchronized long getRestores() {
+		return restores;
+	}
+
+	/**
+	 * Takes every game that has sat unused too long out of memory. Must hold the
+	 * lock of the store.
+	 *
+	 * @param dropped is the list the games are added to, to be evicted once the
+	 *                lock of the store is let go.
+	 */
+	private void takeIdle(ArrayList<ServerGame> dropped) {
+		long oldest = System.currentTimeMillis() - maxIdleMillis;
+		Iterator<ServerGame> iterator = games.values().iterator();
+		while (iterator.hasNext()) {
+			ServerGame game = iterator.next();
+			// games are in order of use, so the rest were used more recently
+			if (game.getLastUsed() >= oldest) {
+				break;
+			}
+			iterator.remove();
+			take(game, dropped);
+		}
+	}
+
+	/**
+	 * Counts a game taken out of memory and marks it as being spilled, so it
+	 * isn't read back before its spill is written. Must hold the lock of the
+	 * store.
+	 *
+	 * @param game    is the game.
+	 * @param dropped is the list the game is added to.
+	 */
+	private void take(ServerGame game, ArrayList<ServerGame> dropped) {
+		evictions++;
+		spilling.put(game.getId(), game);
+		dropped.add(game);
+	}
+
+	/**
+	 * Drops games taken out of memory, spilling the ones that aren't over. Must
+	 * not hold the lock of the store.
+	 *
+	 * @param dropped is the games.
+	 */
+	private void evict(ArrayList<ServerGame> dropped) {
+		for (ServerGame game : dropped) {
+			boolean isSpilled = false;
+			boolean isFailed = false;
+			// takes the lock of the game, so a guess being made finishes first
+			synchronized (game) {
+				game.evict();
+				if (!game.getSession().isOver()) {
+					try {
+						spill(game);
+						isSpilled = true;
+					} catch (IOException ioe) {
+						// a partly written spill would be read back as a different game
+						CheckpointStore.clear(game.getId(), game.getSession().getRowSize(),
+								game.getSession().getColSize());
+						System.out.println("Spilling game " + game.getId() + " failed: " + ioe.getMessage());
+						isFailed = true;
+					}
+				}
+			}
+			synchronized (this) {
+				if (isSpilled) {
+					spills++;
+				}
+				if (isFailed) {
+					spillFailures++;
+				}
+				spilling.remove(game.getId());
+				notifyAll();
+			}
+		}
+	}
+
+	/**
+	 * Writes a game to the CheckpointStore with its answer. Must hold the lock of
+	 * the game.
+	 *
+	 * @param game is the game.
+	 *
+	 * @throws IOException if any of the game could not be written.
+	 */
+	private void spill(ServerGame game) throws IOException {
+		GameSession session = game.getSession();
+		String id = game.getId();
+		int rowSize = session.getRowSize();
+		int colSize = session.getColSize();
+		LocalDate today = LocalDate.now();
+		CheckpointStore.clear(id, rowSize, colSize);
+		CheckpointStore.appendValue(id, rowSize, colSize, today, ANSWER, String.join("", session.getAnswer()));
+		CheckpointStore.appendValue(id, rowSize, colSize, today, HARD, String.valueOf(session.isHardMode()));
+		if (game.getPlayer() != null) {
+			CheckpointStore.appendValue(id, rowSize, colSize, today, PLAYER, game.getPlayer());
+		}
+		ArrayList<ArrayList<String>> rows = session.getRows();
+		for (int row = 0; row < session.getCurRow(); row++) {
+			CheckpointStore.appendGuess(id, rowSize, today, row, rows.get(row));
+		}
+	}
+
+	/**
+	 * Removes the spills and checkpoints of earlier days the first time the store
+	 * is used on a day. Games spilled on an earlier day can't be read back, so
+	 * without this their files and directories would be kept forever.
+	 */
+	private void purgeIfNewDay() {
+		LocalDate today = LocalDate.now();
+		synchronized (this) {
+			if (today.equals(purgedDate)) {
+				return;
+			}
+			purgedDate = today;
+		}
+		CheckpointStore.purgeBefore(today);
+	}
+
+	/**
+	 * Reads a spilled game back, removing it from the CheckpointStore.
+	 *
+	 * @param id is the id of the game.
+	 *
+	 * @return the game, or null if it wasn't spilled today.
+	 */
+	private ServerGame restore(String id) {
+		int[] size = ServerGame.sizeOf(id);
+		if (size == null) {
+			return null;
+		}
+		int rowSize = size[0];
+		int colSize = size[1];
+		LocalDate today = LocalDate.now();
+		String answer = CheckpointStore.readValue(id, rowSize, colSize, today, ANSWER);
+		if (answer == null || answer.length() != colSize) {
+			return null;
+		}
+		ArrayList<String> letters = new ArrayList<>();
+		for (String letter : answer.split("")) {
+			letters.add(letter);
+		}
+		GameSession session = new GameSession(rowSize, letters);
+		session.setHardMode(Boolean.parseBoolean(CheckpointStore.readValue(id, rowSize, colSize, today, HARD)));
+		ArrayList<ArrayList<String>> rows = session.getSavedGuesses();
+		CheckpointStore.restore(id, today, rows);
+		for (ArrayList<String> row : rows) {
+			if (row.get(0).equals(" ")) {
+				break;
+			}
+			session.replay(row);
+		}
+		String player = CheckpointStore.readValue(id, rowSize, colSize, today, PLAYER);
+		CheckpointStore.clear(id, rowSize, colSize);
+		return new ServerGame(id, player, session);
+	}
+}
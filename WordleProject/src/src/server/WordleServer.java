@@ -0,0 +1,576 @@
+/**
+ * Hosts games of Wordle for many players over HTTP with JSON bodies, using the
+ * server built into the JDK. Every game is a GameSession with its own random
+ * answer kept in a SessionStore, and each request runs on its own virtual
+ * thread when the JDK has them, or on a pool of threads when it doesn't.
+ *
+ * POST /games?rows=6&cols=5&player=name&hard=true starts a game,
+ * GET /games/{id} returns its board, POST /games/{id}/guesses with
+ * {"guess":"smart"} makes a guess, GET /players/{name}/stats returns the
+ * statistics of a player, GET /stats the counts of the server and GET /metrics
+ * the Metrics as text. Players are WordleUsers named by their player name,
+ * kept in a UserStore behind a UserCache like the users of the game.
+ *
+ * Date: 10/19/2026
+ *
+ * @author Connor Kippes, Luke Laurie, Sean Eddy, Zachary Hansen
+ */
+
+package src.server;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Method;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import src.model.Dictionary;
+import src.model.GameSession;
+import src.model.GuessResult;
+import src.model.Metrics;
+import src.model.UserCache;
+import src.model.UserStore;
+import src.model.Word;
+import src.model.WordleUser;
+
+public class WordleServer {
+	public static final int DEFAULT_PORT = 8080;
+	private static final int MAX_BODY_BYTES = 4096;
+	private static final int MIN_COLS = 3;
+	private static final int MAX_COLS = 7;
+	private static final int MAX_ROWS = 10;
+	public static final int DEFAULT_MAX_SESSIONS = 100000;
+	public static final long DEFAULT_MAX_IDLE_MILLIS = 30 * 60 * 1000;
+	public static final String DEFAULT_PLAYERS_DIRECTORY = "players";
+	private static final int PLAYER_SHARDS = 16;
+	private static final int CACHED_PLAYERS = 10000;
+	// reading, changing and saving a player happens under the lock of its stripe
+	private static final int PLAYER_STRIPES = 64;
+	private HttpServer server;
+	private ExecutorService executor;
+	private boolean isVirtual;
+	private Dictionary dictionary;
+	private SessionStore games;
+	private UserCache players;
+	private Object[] playerLocks = new Object[PLAYER_STRIPES];
+	private AtomicLong gamesStarted = new AtomicLong();
+	private AtomicLong guessesMade = new AtomicLong();
+	private AtomicLong gamesWon = new AtomicLong();
+	private AtomicLong gamesLost = new AtomicLong();
+
+	/**
+	 * Makes a server on a port, loading the dictionary. The server doesn't take
+	 * requests until it is started.
+	 *
+	 * @param port is the port to listen on, 0 for any free port.
+	 *
+	 * @throws IOException if the port can't be opened.
+	 */
+	public WordleServer(int port) throws IOException {
+		this(port, DEFAULT_MAX_SESSIONS, DEFAULT_MAX_IDLE_MILLIS);
+	}
+
+	/**
+	 * Makes a server on a port with bounds on the games kept in memory.
+	 *
+	 * @param port          is the port to listen on, 0 for any free port.
+	 * @param maxSessions   is the most games kept in memory.
+	 * @param maxIdleMillis is how long an unused game is kept in memory.
+	 *
+	 * @throws IOException if the port can't be opened.
+	 */
+	public WordleServer(int port, int maxSessions, long maxIdleMillis) throws IOException {
+		this(port, maxSessions, maxIdleMillis, DEFAULT_PLAYERS_DIRECTORY);
+	}
+
+	/**
+	 * Makes a server on a port with bounds on the games kept in memory, keeping
+	 * its players in a directory.
+	 *
+	 * @param port             is the port to listen on, 0 for any free port.
+	 * @param maxSessions      is the most games kept in memory.
+	 * @param maxIdleMillis    is how long an unused game is kept in memory.
+	 * @param playersDirectory is the directory of the UserStore of the players.
+	 *
+	 * @throws IOException if the port can't be opened.
+	 */
+	public WordleServer(int port, int maxSessions, long maxIdleMillis, String playersDirectory)
+			throws IOException {
+		games = new SessionStore(maxSessions, maxIdleMillis);
+		players = new UserCache(new UserStore(playersDirectory, PLAYER_SHARDS), CACHED_PLAYERS, maxIdleMillis);
+		for (int i = 0; i < PLAYER_STRIPES; i++) {
+			playerLocks[i] = new Object();
+		}
+		dictionary = Word.getInstance(5).getDict();
+		server = HttpServer.create(new InetSocketAddress(port), 0);
+		executor = newRequestExecutor();
+		server.setExecutor(executor);
+		server.createContext("/games", this::handleGames);
+		server.createContext("/players", this::handlePlayers);
+		server.createContext("/stats", this::handleStats);
+		server.createContext("/metrics", this::handleMetrics);
+		Metrics.gauge("server.liveGames", games::size);
+		Metrics.gauge("server.sessionEvictions", games::getEvictions);
+		Metrics.gauge("server.sessionSpills", games::getSpills);
+		Metrics.gauge("server.sessionSpillFailures", games::getSpillFailures);
+	}
+
+	public static void main(String[] args) throws IOException {
+		// the JDK server writes headers and body apart, so without this every small
+		// answer waits about 40 ms for the client to acknowledge the headers. It is
+		// read when the server classes load, so it is set before the server is made
+		if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+			System.setProperty("sun.net.httpserver.nodelay", "true");
+		}
+		int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+		WordleServer wordleServer = new WordleServer(port);
+		wordleServer.start();
+		System.out.println("Wordle server listening on port " + wordleServer.getPort()
+				+ (wordleServer.isVirtual ? " with virtual threads" : " with a thread pool"));
+	}
+
+	/**
+	 * Starts taking requests.
+	 */
+	public void start() {
+		server.start();
+	}
+
+	/**
+	 * Stops taking requests and ends the request threads.
+	 */
+	public void stop() {
+		server.stop(0);
+		executor.shutdown();
+		try {
+			executor.awaitTermination(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Returns the port the server listens on.
+	 *
+	 * @return the port.
+	 */
+	public int getPort() {
+		return server.getAddress().getPort();
+	}
+
+	/**
+	 * Returns the number of games kept in memory.
+	 *
+	 * @return the number of games.
+	 */
+	public int getLiveGames() {
+		return games.size();
+	}
+
+	/**
+	 * Returns the store the games are kept in.
+	 *
+	 * @return the store.
+	 */
+	public SessionStore getSessionStore() {
+		return games;
+	}
+
+	/**
+	 * Makes the executor requests run on, with one virtual thread per request
+	 * when the JDK has virtual threads. They are looked up by reflection so the
+	 * game still builds and runs on older JDKs.
+	 *
+	 * @return the executor.
+	 */
+	private ExecutorService newRequestExecutor() {
+		try {
+			Method method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+			ExecutorService virtualExecutor = (ExecutorService) method.invoke(null);
+			isVirtual = true;
+			return virtualExecutor;
+		} catch (ReflectiveOperationException | RuntimeException e) {
+			AtomicInteger threadNumber = new AtomicInteger();
+			return Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors() * 8, task -> {
+				Thread thread = new Thread(task, "wordle-server-" + threadNumber.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			});
+		}
+	}
+
+	/**
+	 * Handles starting games, reading their boards and guessing.
+	 *
+	 * @param exchange is the request and its response.
+	 */
+	private void handleGames(HttpExchange exchange) throws IOException {
+		try {
+			String[] path = parts(exchange);
+			String method = exchange.getRequestMethod();
+			if (path.length == 1 && method.equals("POST")) {
+				newGame(exchange);
+			} else if (path.length == 2 && method.equals("GET")) {
+				ServerGame game = findGame(exchange, path[1]);
+				if (game != null) {
+					Json json;
+					synchronized (game) {
+						json = board(game);
+					}
+					send(exchange, 200, json);
+				}
+			} else if (path.length == 3 && path[2].equals("guesses") && method.equals("POST")) {
+				ServerGame game = findGame(exchange, path[1]);
+				if (game != null) {
+					guess(exchange, game);
+				}
+			} else {
+				sendError(exchange, 404, "no such endpoint");
+			}
+		} catch (RuntimeException e) {
+			sendError(exchange, 500, e.toString());
+		}
+	}
+
+	/**
+	 * Handles reading the statistics of a player.
+	 *
+	 * @param exchange is the request and its response.
+	 */
+	private void handlePlayers(HttpExchange exchange) throws IOException {
+		try {
+			String[] path = parts(exchange);
+			if (path.length != 3 || !path[2].equals("stats") || !exchange.getRequestMethod().equals("GET")) {
+				sendError(exchange, 404, "no such endpoint");
+				return;
+			}
+			Json json = new Json().add("player", path[1]);
+			synchronized (lockOf(path[1])) {
+				WordleUser player;
+				try {
+					player = players.getUser(path[1]);
+				} catch (IOException ioe) {
+					sendError(exchange, 500, "player could not be read");
+					return;
+				}
+				if (player == null) {
+					sendError(exchange, 404, "no such player");
+					return;
+				}
+				json.add("gamesPlayed", player.getGamesPlayed()).add("winCount", player.getWinCount())
+						.add("lossCount", player.getLossCount()).add("winRate", player.getWinRate())
+						.add("curStreak", player.getCurStreak()).add("maxStreak", player.getMaxStreak());
+			}
+			send(exchange, 200, json);
+		} catch (RuntimeException e) {
+			sendError(exchange, 500, e.toString());
+		}
+	}
+
+	/**
+	 * Handles reading the counts of the server.
+	 *
+	 * @param exchange is the request and its response.
+	 */
+	private void handleStats(HttpExchange exchange) throws IOException {
+		try {
+			Json json = new Json().add("liveGames", games.size()).add("evictions", games.getEvictions())
+					.add("spills", games.getSpills()).add("spillFailures", games.getSpillFailures())
+					.add("restores", games.getRestores())
+					.add("players", players.size()).add("gamesStarted", gamesStarted.get())
+					.add("guesses", guessesMade.get()).add("gamesWon", gamesWon.get())
+					.add("gamesLost", gamesLost.get()).add("virtualThreads", isVirtual);
+			send(exchange, 200, json);
+		} catch (RuntimeException e) {
+			sendError(exchange, 500, e.toString());
+		}
+	}
+
+	/**
+	 * Handles reading the Metrics as text.
+	 *
+	 * @param exchange is the request and its response.
+	 */
+	private void handleMetrics(HttpExchange exchange) throws IOException {
+		byte[] body = Metrics.dump().getBytes(StandardCharsets.UTF_8);
+		exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+		exchange.sendResponseHeaders(200, body.length);
+		try (OutputStream out = exchange.getResponseBody()) {
+			out.write(body);
+		}
+	}
+
+	/**
+	 * Starts a game with a random answer.
+	 *
+	 * @param exchange is the request and its response.
+	 */
+	private void newGame(HttpExchange exchange) throws IOException {
+		HashMap<String, String> query = query(exchange);
+		int rows;
+		int cols;
+		try {
+			rows = Integer.parseInt(query.getOrDefault("rows", "6"));
+			cols = Integer.parseInt(query.getOrDefault("cols", "5"));
+		} catch (NumberFormatException e) {
+			sendError(exchange, 400, "rows and cols must be numbers");
+			return;
+		}
+		if (rows < 1 || rows > MAX_ROWS || cols < MIN_COLS || cols > MAX_COLS) {
+			sendError(exchange, 400, "rows must be 1 to " + MAX_ROWS + " and cols " + MIN_COLS + " to " + MAX_COLS);
+			return;
+		}
+		String player = query.get("player");
+		if (player != null) {
+			try {
+				addPlayer(player);
+			} catch (IOException ioe) {
+				sendError(exchange, 500, "player could not be saved");
+				return;
+			}
+		}
+		GameSession session = new GameSession(rows, new ArrayList<>(dictionary.getRandomWord(cols)));
+		session.setHardMode(Boolean.parseBoolean(query.get("hard")));
+		ServerGame game = new ServerGame(ServerGame.newId(rows, cols), player, session);
+		games.put(game);
+		gamesStarted.incrementAndGet();
+		Json json;
+		synchronized (game) {
+			json = board(game);
+		}
+		send(exchange, 201, json);
+	}
+
+	/**
+	 * Makes a guess in a game, reporting the game to its player once it is over.
+	 *
+	 * @param exchange is the request and its response.
+	 * @param game     is the game to guess in.
+	 */
+	private void guess(HttpExchange exchange, ServerGame game) throws IOException {
+		byte[] body = exchange.getRequestBody().readNBytes(MAX_BODY_BYTES);
+		String word = Json.readString(new String(body, StandardCharsets.UTF_8), "guess");
+		GameSession session = game.getSession();
+		if (word == null || word.length() != session.getColSize() || !word.matches("[a-zA-Z]+")) {
+			sendError(exchange, 400, "guess must be " + session.getColSize() + " letters");
+			return;
+		}
+		ArrayList<String> letters = new ArrayList<>();
+		for (String letter : word.toLowerCase().split("")) {
+			letters.add(letter);
+		}
+		Json json = play(game, letters);
+		// a game spilled while this request waited for it is read back from the store
+		while (json == null) {
+			game = findGame(exchange, game.getId());
+			if (game == null) {
+				return;
+			}
+			json = play(game, letters);
+		}
+		send(exchange, 200, json);
+	}
+
+	/**
+	 * Plays a guess in a game under the lock of the game.
+	 *
+	 * @param game    is the game to guess in.
+	 * @param letters is the guessed word as letters.
+	 *
+	 * @return the JSON of the verdict, or null if the game was dropped from
+	 *         memory and has to be found again.
+	 */
+	private Json play(ServerGame game, ArrayList<String> letters) {
+		GameSession session = game.getSession();
+		Json json;
+		synchronized (game) {
+			if (game.isEvicted()) {
+				return null;
+			}
+			boolean wasOver = session.isOver();
+			GuessResult result = session.submit(letters);
+			guessesMade.incrementAndGet();
+			if (!wasOver && session.isOver()) {
+				reportGame(game);
+			}
+			json = new Json().add("verdict", result.getVerdict()).add("message", result.getMessage());
+			if (result.isAccepted()) {
+				json.add("placements", result.getPlacements());
+			}
+			json.add("state", session.getState()).add("row", session.getCurRow());
+			if (session.isOver()) {
+				json.add("answer", String.join("", session.getAnswer()));
+			}
+		}
+		return json;
+	}
+
+	/**
+	 * Counts a finished game and reports it to the statistics of its player.
+	 *
+	 * @param game is the finished game.
+	 */
+	private void reportGame(ServerGame game) {
+		GameSession session = game.getSession();
+		(session.isWon() ? gamesWon : gamesLost).incrementAndGet();
+		if (game.getPlayer() == null) {
+			return;
+		}
+		synchronized (lockOf(game.getPlayer())) {
+			try {
+				WordleUser player = players.getUser(game.getPlayer());
+				if (player == null) {
+					return;
+				}
+				// the guess distribution counts the rows of the board being reported
+				player.setGuesses(session.getRows());
+				player.reportGame(session.isWon(), session.getRowSize(), session.getColSize());
+				players.saveUser(player);
+			} catch (IOException ioe) {
+				System.out.println("Reporting a game to " + game.getPlayer() + " failed: " + ioe);
+			}
+		}
+	}
+
+	/**
+	 * Saves a new player with no games, unless there already is one by the name.
+	 *
+	 * @param name is the name of the player.
+	 *
+	 * @throws IOException if the player could not be read or saved.
+	 */
+	private void addPlayer(String name) throws IOException {
+		synchronized (lockOf(name)) {
+			if (players.getUser(name) == null) {
+				players.saveUser(new WordleUser(name, ""));
+			}
+		}
+	}
+
+	/**
+	 * Returns the lock of the stripe a player is in, held while the player is read,
+	 * changed and saved so two games can't report over each other.
+	 *
+	 * @param name is the name of the player.
+	 *
+	 * @return the lock.
+	 */
+	private Object lockOf(String name) {
+		return playerLocks[Math.floorMod(name.hashCode(), PLAYER_STRIPES)];
+	}
+
+	/**
+	 * Describes the board of a game. Must hold the lock of the game.
+	 *
+	 * @param game is the game.
+	 *
+	 * @return the JSON of the board.
+	 */
+	private Json board(ServerGame game) {
+		GameSession session = game.getSession();
+		Json json = new Json().add("id", game.getId()).add("player", game.getPlayer())
+				.add("rows", session.getRowSize()).add("cols", session.getColSize())
+				.add("hard", session.isHardMode()).add("state", session.getState())
+				.add("row", session.getCurRow()).addRows("board", session.getRows())
+				.addRows("placements", session.getPlacements());
+		if (session.isOver()) {
+			json.add("answer", String.join("", session.getAnswer()));
+		}
+		return json;
+	}
+
+	/**
+	 * Finds a game, answering 404 if there isn't one.
+	 *
+	 * @param exchange is the request and its response.
+	 * @param id       is the id of the game.
+	 *
+	 * @return the game, or null if the response was already sent.
+	 */
+	private ServerGame findGame(HttpExchange exchange, String id) throws IOException {
+		ServerGame game = games.get(id);
+		if (game == null) {
+			sendError(exchange, 404, "no such game");
+		}
+		return game;
+	}
+
+	/**
+	 * Splits the path of a request into its parts, without empty ones.
+	 *
+	 * @param exchange is the request.
+	 *
+	 * @return the parts of the path.
+	 */
+	private static String[] parts(HttpExchange exchange) {
+		String path = exchange.getRequestURI().getPath();
+		ArrayList<String> parts = new ArrayList<>();
+		for (String part : path.split("/")) {
+			if (!part.isEmpty()) {
+				parts.add(part);
+			}
+		}
+		return parts.toArray(new String[0]);
+	}
+
+	/**
+	 * Reads the query string of a request.
+	 *
+	 * @param exchange is the request.
+	 *
+	 * @return each parameter by name.
+	 */
+	private static HashMap<String, String> query(HttpExchange exchange) {
+		HashMap<String, String> query = new HashMap<>();
+		String rawQuery = exchange.getRequestURI().getRawQuery();
+		if (rawQuery == null) {
+			return query;
+		}
+		for (String pair : rawQuery.split("&")) {
+			int equals = pair.indexOf('=');
+			if (equals > 0) {
+				query.put(URLDecoder.decode(pair.substring(0, equals), StandardCharsets.UTF_8),
+						URLDecoder.decode(pair.substring(equals + 1), StandardCharsets.UTF_8));
+			}
+		}
+		return query;
+	}
+
+	/**
+	 * Sends an error response.
+	 *
+	 * @param exchange is the request and its response.
+	 * @param status   is the HTTP status.
+	 * @param message  is what went wrong.
+	 */
+	private static void sendError(HttpExchange exchange, int status, String message) throws IOException {
+		send(exchange, status, new Json().add("error", message));
+	}
+
+	/**
+	 * Sends a JSON response and ends the exchange.
+	 *
+	 * @param exchange is the request and its response.
+	 * @param status   is the HTTP status.
+	 * @param json     is the body.
+	 */
+	private static void send(HttpExchange exchange, int status, Json json) throws IOException {
+		byte[] body = json.toString().getBytes(StandardCharsets.UTF_8);
+		exchange.getResponseHeaders().set("Content-Type", "application/json");
+		exchange.sendResponseHeaders(status, body.length);
+		try (OutputStream out = exchange.getResponseBody()) {
+			out.write(body);
+		}
+	}
+}
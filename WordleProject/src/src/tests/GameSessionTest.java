@@ -0,0 +1,112 @@
+/**
+ * This will create all of the unit testing that is needed
+ * for the GameSession class.
+ *
+ * Date: 10/19/2026
+ *
+ * @author Connor Kippes, Luke Laurie, Sean Eddy, Zachary Hansen
+ */
+
+package src.tests;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import src.model.GameSession;
+import src.model.GuessResult;
+
+class GameSessionTest {
+
+	@Test
+	void testNewSession() {
+		GameSession session = new GameSession(6, letters("thank"));
+		assertEquals(0, session.getCurRow());
+		assertEquals(GameSession.IN_PROGRESS, session.getState());
+		assertEquals(5, session.getColSize());
+		assertEquals(letters("thank"), session.getAnswer());
+		assertEquals(letters("     "), session.getRows().get(0));
+	}
+
+	@Test
+	void testRejectedGuessKeepsRow() {
+		GameSession session = new GameSession(6, letters("thank"));
+		GuessResult result = session.submit(letters("abcde"));
+		assertFalse(result.isAccepted());
+		assertEquals(0, session.getCurRow());
+		assertEquals(0, session.getPlacements().size());
+	}
+
+	@Test
+	void testWin() {
+		GameSession session = new GameSession(6, letters("thank"));
+		session.submit(letters("smart"));
+		assertEquals(1, session.getCurRow());
+		assertEquals(letters("smart"), session.getRows().get(0));
+		GuessResult result = session.submit(letters("thank"));
+		assertTrue(result.isWon());
+		assertTrue(session.isWon());
+		assertTrue(session.isOver());
+		// no guesses are taken after the game is over
+		assertEquals(GuessResult.GAME_OVER, session.submit(letters("smart")).getVerdict());
+		assertEquals(2, session.getCurRow());
+	}
+
+	@Test
+	void testLoss() {
+		GameSession session = new GameSession(3, letters("thank"));
+		session.submit(letters("smart"));
+		session.submit(letters("build"));
+		assertFalse(session.isOver());
+		session.submit(letters("beach"));
+		assertTrue(session.isLost());
+		assertEquals(3, session.getPlacements().size());
+	}
+
+	@Test
+	void testHardMode() {
+		GameSession session = new GameSession(6, letters("thank"));
+		session.setHardMode(true);
+		session.submit(letters("smart"));
+		GuessResult result = session.submit(letters("build"));
+		assertEquals(GuessResult.HARD_MODE, result.getVerdict());
+		assertEquals(1, session.getCurRow());
+	}
+
+	@Test
+	void testJudgeDoesNotPlay() {
+		GameSession session = new GameSession(6, letters("thank"));
+		GuessResult result = session.judge(letters("thank"));
+		assertTrue(result.isWon());
+		assertEquals(0, session.getCurRow());
+		assertFalse(session.isOver());
+		session.accept(result);
+		assertEquals(1, session.getCurRow());
+		assertTrue(session.isWon());
+	}
+
+	@Test
+	void testReplay() {
+		GameSession session = new GameSession(6, letters("thank"));
+		assertTrue(session.replay(letters("smart")).isAccepted());
+		assertEquals(1, session.getCurRow());
+		assertEquals(letters("     "), session.getSavedGuesses().get(1));
+	}
+
+	@Test
+	void testReplayNotLookedUp() {
+		GameSession session = new GameSession(6, letters("thank"));
+		assertFalse(session.submit(letters("qzxjv")).isAccepted());
+		// a saved guess was accepted when it was made, so it is only colored again
+		GuessResult replayed = session.replay(letters("qzxjv"));
+		assertTrue(replayed.isAccepted());
+		assertEquals(letters("qzxjv"), session.getRows().get(0));
+	}
+
+	ArrayList<String> letters(String word) {
+		return new ArrayList<>(Arrays.asList(word.split("")));
+	}
+}
@@ -18,6 +18,7 @@ import org.junit.jupiter.api.Test;
 
 import src.model.Dictionary;
 import src.model.Guess;
+import src.model.GuessResult;
 import src.model.Word;
 import src.view.WordleGUI;
 
@@ -257,6 +258,45 @@ class GuessTest {
 		assertEquals(null, placements);
 	}
 
+	@Test
+	void testEvaluateAccepted() {
+		curGuess = new Guess(5);
+		setData("smart", "thank");
+		GuessResult result = curGuess.evaluate(word, 5, false);
+		assertTrue(result.isAccepted());
+		assertFalse(result.isWon());
+		assertEquals("[Yellow, Dark Gray, Green, Dark Gray, Dark Gray]", result.getPlacements().toString());
+		assertEquals(1, curGuess.getGuessNumber());
+	}
+
+	@Test
+	void testEvaluateNotInWordList() {
+		curGuess = new Guess(5);
+		setData("smart", "abcde");
+		GuessResult result = curGuess.evaluate(word, 5, false);
+		assertEquals(GuessResult.NOT_IN_WORD_LIST, result.getVerdict());
+		assertEquals("Not in word list", result.getMessage());
+		assertNull(result.getPlacements());
+		assertEquals(0, curGuess.getGuessNumber());
+	}
+
+	@Test
+	void testEvaluateHardMode() {
+		curGuess = new Guess(5);
+		setData("smart", "thank");
+		curGuess.evaluate(word, 5, true);
+		// T is yellow and A green, so tough keeps T but moves A
+		setData("smart", "tough");
+		GuessResult result = curGuess.evaluate(word, 5, true);
+		assertEquals(GuessResult.HARD_MODE, result.getVerdict());
+		assertEquals("3rd letter must be A", result.getMessage());
+		setData("smart", "beach");
+		result = curGuess.evaluate(word, 5, true);
+		assertEquals("Guess must contain T", result.getMessage());
+		setData("smart", "smart");
+		assertTrue(curGuess.evaluate(word, 5, true).isWon());
+	}
+
 	void setData(String correctWord, String guessedWord) {
 		// sets custom word
 		ArrayList<String> correctWordList = new ArrayList<>();
@@ -267,7 +307,8 @@ class GuessTest {
 			correctWordList.add(charOne);
 			word.add(charTwo);
 		}
-		curWord.setNewWord(correctWordList);
+		// a fixed answer, so the word of the day and date.ser are left alone
+		curGuess.setAnswer(correctWordList);
 		curGuess.setWord(curWord);
 	}
 }
\ No newline at end of file
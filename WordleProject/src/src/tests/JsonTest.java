@@ -0,0 +1,52 @@
+/**
+ * This will create all of the unit testing that is needed
+ * for the Json class.
+ *
+ * Date: 10/19/2026
+ *
+ * @author Connor Kippes, Luke Laurie, Sean Eddy, Zachary Hansen
+ */
+
+package src.tests;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import src.server.Json;
+
+class JsonTest {
+
+	@Test
+	void testWriteFields() {
+		Json json = new Json().add("id", "a1").add("row", 2).add("over", false).add("player", (String) null)
+				.add("placements", Arrays.asList("Green", "Yellow"));
+		assertEquals("{\"id\":\"a1\",\"row\":2,\"over\":false,\"player\":null,\"placements\":[\"Green\",\"Yellow\"]}",
+				json.toString());
+	}
+
+	@Test
+	void testWriteRows() {
+		ArrayList<ArrayList<String>> rows = new ArrayList<>();
+		rows.add(new ArrayList<>(Arrays.asList("a", "b")));
+		rows.add(new ArrayList<>());
+		assertEquals("{\"board\":[[\"a\",\"b\"],[]]}", new Json().addRows("board", rows).toString());
+	}
+
+	@Test
+	void testEscape() {
+		assertEquals("\"say \\\"hi\\\"\\n\"", Json.quote("say \"hi\"\n"));
+	}
+
+	@Test
+	void testReadString() {
+		String json = "{ \"other\": 1, \"guess\" : \"smart\" }";
+		assertEquals("smart", Json.readString(json, "guess"));
+		assertNull(Json.readString(json, "missing"));
+		assertNull(Json.readString(json, "other"));
+		assertEquals("a\"b", Json.readString("{\"guess\":\"a\\\"b\"}", "guess"));
+	}
+}
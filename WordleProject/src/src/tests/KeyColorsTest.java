@@ -0,0 +1,61 @@
+/**
+ * This will create all of the unit testing that is needed
+ * for the KeyColors class.
+ *
+ * Date: 10/19/2026
+ *
+ * @author Connor Kippes, Luke Laurie, Sean Eddy, Zachary Hansen
+ */
+
+package src.tests;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import src.model.KeyColors;
+
+class KeyColorsTest {
+
+	@Test
+	void testFirstColor() {
+		KeyColors keyColors = new KeyColors();
+		assertEquals("Dark Gray", keyColors.update("A", "Dark Gray"));
+		assertEquals("Dark Gray", keyColors.getColors().get("A"));
+	}
+
+	@Test
+	void testGreenIsKept() {
+		KeyColors keyColors = new KeyColors();
+		keyColors.update("E", "Green");
+		assertEquals("Green", keyColors.update("E", "Yellow"));
+		assertEquals("Green", keyColors.update("E", "Dark Gray"));
+		keyColors.update("O", "Orange");
+		assertEquals("Orange", keyColors.update("O", "Blue"));
+	}
+
+	@Test
+	void testYellowOnlyTurnsGreen() {
+		KeyColors keyColors = new KeyColors();
+		keyColors.update("E", "Yellow");
+		assertEquals("Yellow", keyColors.update("E", "Dark Gray"));
+		assertEquals("Green", keyColors.update("E", "Green"));
+		assertEquals("Green", keyColors.getColors().get("E"));
+	}
+
+	@Test
+	void testGrayIsReplaced() {
+		KeyColors keyColors = new KeyColors();
+		keyColors.update("S", "dm Dark Gray");
+		assertEquals("Yellow", keyColors.update("S", "Yellow"));
+	}
+
+	@Test
+	void testClear() {
+		KeyColors keyColors = new KeyColors();
+		keyColors.update("E", "Green");
+		keyColors.clear();
+		assertTrue(keyColors.getColors().isEmpty());
+		assertEquals("Yellow", keyColors.update("E", "Yellow"));
+	}
+}
@@ -0,0 +1,90 @@
+/**
+ * This will create all of the unit testing that is needed
+ * for the MetricHistogram class.
+ *
+ * Date: 10/19/2026
+ *
+ * @author Connor Kippes, Luke Laurie, Sean Eddy, Zachary Hansen
+ */
+
+package src.tests;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import src.model.MetricHistogram;
+
+class MetricHistogramTest {
+
+	@Test
+	void testEmpty() {
+		MetricHistogram histogram = new MetricHistogram("empty");
+		assertEquals(0, histogram.getPercentile(50));
+		assertEquals(0, histogram.getCount());
+		assertEquals(0, histogram.getMean());
+		assertEquals("empty", histogram.getName());
+	}
+
+	@Test
+	void testSmallValuesAreExact() {
+		MetricHistogram histogram = new MetricHistogram("small");
+		for (int i = 1; i <= 10; i++) {
+			histogram.record(i);
+		}
+		assertEquals(5, histogram.getPercentile(50));
+		assertEquals(9, histogram.getPercentile(90));
+		assertEquals(10, histogram.getPercentile(100));
+		assertEquals(10, histogram.getMax());
+		assertEquals(5.5, histogram.getMean());
+	}
+
+	@Test
+	void testLargeValuesWithinAnEighth() {
+		MetricHistogram histogram = new MetricHistogram("large");
+		for (long i = 1; i <= 1000; i++) {
+			histogram.record(i * 1000);
+		}
+		assertEquals(1000, histogram.getCount());
+		assertEquals(1_000_000, histogram.getMax());
+		long p50 = histogram.getPercentile(50);
+		assertTrue(p50 <= 500_000 && p50 >= 500_000 * 7 / 8, "p50 was " + p50);
+		long p99 = histogram.getPercentile(99);
+		assertTrue(p99 <= 990_000 && p99 >= 990_000 * 7 / 8, "p99 was " + p99);
+	}
+
+	@Test
+	void testExtremes() {
+		MetricHistogram histogram = new MetricHistogram("extremes");
+		histogram.record(-5);
+		histogram.record(Long.MAX_VALUE);
+		assertEquals(0, histogram.getPercentile(50));
+		assertEquals(Long.MAX_VALUE, histogram.getMax());
+		assertTrue(histogram.getPercentile(100) > Long.MAX_VALUE / 2);
+	}
+
+	@Test
+	void testWindow() {
+		MetricHistogram histogram = new MetricHistogram("frame us", 3);
+		histogram.record(100);
+		histogram.record(1);
+		histogram.record(2);
+		histogram.record(3);
+		// the oldest sample was forgotten
+		assertEquals(3, histogram.getCount());
+		assertEquals(3, histogram.getMax());
+		assertEquals(2, histogram.getMean());
+		assertEquals(3, histogram.getPercentile(100));
+	}
+
+	@Test
+	void testBuckets() {
+		MetricHistogram histogram = new MetricHistogram("queue depth", 10);
+		histogram.record(0);
+		histogram.record(3);
+		histogram.record(3);
+		histogram.record(40);
+		assertEquals("{0=1, 3=2, 40=1}", histogram.getBuckets().toString());
+		assertTrue(histogram.toString().startsWith("queue depth: count 4, mean 11.5, p50 3"));
+	}
+}
@@ -0,0 +1,65 @@
+/**
+ * This will create all of the unit testing that is needed
+ * for the Metrics class.
+ *
+ * Date: 10/19/2026
+ *
+ * @author Connor Kippes, Luke Laurie, Sean Eddy, Zachary Hansen
+ */
+
+package src.tests;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.TreeMap;
+
+import javax.management.AttributeNotFoundException;
+
+import org.junit.jupiter.api.Test;
+
+import src.model.Metrics;
+import src.model.MetricsMBean;
+
+class MetricsTest {
+
+	@Test
+	void testCounter() {
+		assertSame(Metrics.counter("test.counter"), Metrics.counter("test.counter"));
+		Metrics.counter("test.counter").add(3);
+		assertEquals(3L, Metrics.snapshot().get("test.counter"));
+	}
+
+	@Test
+	void testGauge() {
+		Metrics.gauge("test.gauge", () -> 42);
+		assertEquals(42L, Metrics.snapshot().get("test.gauge"));
+	}
+
+	@Test
+	void testHistogramSnapshot() {
+		Metrics.histogram("test.histogram.ns").record(7);
+		TreeMap<String, Number> snapshot = Metrics.snapshot();
+		assertEquals(1L, snapshot.get("test.histogram.ns.count"));
+		assertEquals(7L, snapshot.get("test.histogram.ns.p50"));
+		assertEquals(7L, snapshot.get("test.histogram.ns.max"));
+	}
+
+	@Test
+	void testDump() {
+		Metrics.counter("test.dump").increment();
+		String dump = Metrics.dump();
+		assertTrue(dump.startsWith("Metrics "));
+		assertTrue(dump.matches("(?s).*test\\.dump +1\\R.*"));
+	}
+
+	@Test
+	void testMBean() throws Exception {
+		Metrics.counter("test.mbean").add(2);
+		MetricsMBean mbean = new MetricsMBean();
+		assertEquals(2L, mbean.getAttribute("test.mbean"));
+		assertThrows(AttributeNotFoundException.class, () -> mbean.getAttribute("test.none"));
+		assertTrue(mbean.getMBeanInfo().getAttributes().length > 0);
+		assertEquals(Metrics.dump().lines().count(),
+				((String) mbean.invoke("dump", new Object[0], new String[0])).lines().count());
+	}
+}
@@ -0,0 +1,172 @@
+/**
+ * This will create all of the unit testing that is needed
+ * for the SessionStore class.
+ *
+ * Date: 10/19/2026
+ *
+ * @author Connor Kippes, Luke Laurie, Sean Eddy, Zachary Hansen
+ */
+
+package src.tests;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import src.model.CheckpointStore;
+import src.model.GameSession;
+import src.server.ServerGame;
+import src.server.SessionStore;
+
+class SessionStoreTest {
+
+	@BeforeEach
+	void setupDirectory() throws IOException {
+		CheckpointStore.setDirectory(Files.createTempDirectory("sessions").toString());
+	}
+
+	@Test
+	void testHitsAndMisses() {
+		SessionStore store = new SessionStore(10, 60000);
+		ServerGame game = newGame(null);
+		store.put(game);
+		assertSame(game, store.get(game.getId()));
+		assertNull(store.get(ServerGame.newId(6, 5)));
+		assertNull(store.get("not an id"));
+		assertEquals(1, store.getHits());
+		assertEquals(2, store.getMisses());
+		assertEquals(1, store.size());
+	}
+
+	@Test
+	void testSizeEviction() {
+		SessionStore store = new SessionStore(2, 60000);
+		ServerGame first = newGame(null);
+		ServerGame second = newGame(null);
+		store.put(first);
+		store.put(second);
+		// first was used again so second is the one dropped
+		store.get(first.getId());
+		store.put(newGame(null));
+		assertEquals(2, store.size());
+		assertEquals(1, store.getEvictions());
+		assertEquals(1, store.getSpills());
+		synchronized (second) {
+			assertTrue(second.isEvicted());
+		}
+	}
+
+	@Test
+	void testSpillAndRestore() {
+		SessionStore store = new SessionStore(1, 60000);
+		ServerGame game = newGame("ann");
+		game.getSession().setHardMode(true);
+		game.getSession().submit(letters("smart"));
+		store.put(game);
+		store.put(newGame(null));
+		ServerGame restored = store.get(game.getId());
+		assertNotSame(game, restored);
+		assertEquals(1, store.getRestores());
+		assertEquals("ann", restored.getPlayer());
+		GameSession session = restored.getSession();
+		assertTrue(session.isHardMode());
+		assertEquals(letters("thank"), session.getAnswer());
+		assertEquals(1, session.getCurRow());
+		assertEquals(letters("smart"), session.getRows().get(0));
+		// a restored game can be finished and is only read back once
+		assertTrue(session.submit(letters("thank")).isWon());
+		store.put(newGame(null));
+		assertNull(store.get(game.getId()));
+	}
+
+	@Test
+	void testFinishedGamesAreNotSpilled() {
+		SessionStore store = new SessionStore(1, 60000);
+		ServerGame game = newGame(null);
+		game.getSession().submit(letters("thank"));
+		store.put(game);
+		store.put(newGame(null));
+		assertEquals(1, store.getEvictions());
+		assertEquals(0, store.getSpills());
+		assertNull(store.get(game.getId()));
+	}
+
+	@Test
+	void testIdleEviction() throws InterruptedException {
+		SessionStore store = new SessionStore(10, 20);
+		ServerGame game = newGame(null);
+		store.put(game);
+		Thread.sleep(50);
+		store.evictIdle();
+		assertEquals(0, store.size());
+		assertEquals(1, store.getSpills());
+		assertEquals(letters("thank"), store.get(game.getId()).getSession().getAnswer());
+	}
+
+	@Test
+	void testFailedSpillCounted() throws IOException {
+		// a file where the directory should be makes every spill fail
+		CheckpointStore.setDirectory(Files.createTempFile("sessions", "").toString());
+		SessionStore store = new SessionStore(1, 60000);
+		ServerGame game = newGame(null);
+		store.put(game);
+		store.put(newGame(null));
+		assertEquals(1, store.getEvictions());
+		assertEquals(0, store.getSpills());
+		assertEquals(1, store.getSpillFailures());
+		assertNull(store.get(game.getId()));
+	}
+
+	@Test
+	void testEarlierSpillsPurged() throws IOException {
+		File directory = Files.createTempDirectory("sessions").toFile();
+		CheckpointStore.setDirectory(directory.toString());
+		SessionStore store = new SessionStore(1, 60000);
+		store.put(newGame(null));
+		store.put(newGame(null));
+		File[] gameDirectories = directory.listFiles();
+		assertEquals(1, gameDirectories.length);
+		// the spill was written yesterday
+		long yesterday = System.currentTimeMillis() - 24 * 60 * 60 * 1000;
+		for (File spill : gameDirectories[0].listFiles()) {
+			assertTrue(spill.setLastModified(yesterday));
+		}
+		new SessionStore(1, 60000).evictIdle();
+		assertEquals(0, directory.listFiles().length);
+	}
+
+	@Test
+	void testRestoreRemovesDirectory() throws IOException {
+		File directory = Files.createTempDirectory("sessions").toFile();
+		CheckpointStore.setDirectory(directory.toString());
+		SessionStore store = new SessionStore(1, 60000);
+		ServerGame game = newGame(null);
+		store.put(game);
+		store.put(newGame(null));
+		assertNotNull(store.get(game.getId()));
+		// the other game was spilled to make room
+		assertEquals(1, directory.listFiles().length);
+	}
+
+	@Test
+	void testSizeOf() {
+		assertArrayEquals(new int[] { 6, 5 }, ServerGame.sizeOf(ServerGame.newId(6, 5)));
+		assertNull(ServerGame.sizeOf("6x5"));
+		assertNull(ServerGame.sizeOf(null));
+	}
+
+	ServerGame newGame(String player) {
+		return new ServerGame(ServerGame.newId(6, 5), player, new GameSession(6, letters("thank")));
+	}
+
+	ArrayList<String> letters(String word) {
+		return new ArrayList<>(Arrays.asList(word.split("")));
+	}
+}
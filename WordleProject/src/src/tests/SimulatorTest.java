@@ -0,0 +1,83 @@
+/**
+ * This will create all of the unit testing that is needed
+ * for the Simulator class.
+ *
+ * Date: 10/19/2026
+ *
+ * @author Connor Kippes, Luke Laurie, Sean Eddy, Zachary Hansen
+ */
+
+package src.tests;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import src.model.Dictionary;
+import src.model.Guess;
+import src.model.Simulator;
+import src.model.Word;
+
+class SimulatorTest {
+	private Dictionary dictionary = Word.getInstance(5).getDict();
+
+	@Test
+	void testOpeningWinsAtOnce() {
+		Simulator simulator = new Simulator(dictionary, Simulator.OPENING, 0);
+		simulator.setOpening(letters("thank"));
+		assertEquals(1, simulator.play(6, letters("thank"), new Random(0), new Guess(5)));
+	}
+
+	@Test
+	void testSolverWins() {
+		Simulator simulator = new Simulator(dictionary, Simulator.SOLVER, 0);
+		int guesses = simulator.play(7, letters("cat"), new Random(0), new Guess(3));
+		assertTrue(guesses >= 1 && guesses <= 7);
+	}
+
+	@Test
+	void testRunPlaysEveryAnswer() throws InterruptedException {
+		Simulator simulator = new Simulator(dictionary, Simulator.SOLVER, 1);
+		simulator.run(5, 6, 3, 3, 1, 2);
+		int answers = dictionary.getPickableWords(3).size();
+		assertEquals(2 * answers, simulator.getGames());
+		assertEquals(answers, simulator.getGames(6, 3));
+		HashMap<Integer, Integer> distribution = simulator.getGuessDistribution(6, 3);
+		assertEquals(6, distribution.size());
+		long wins = 0;
+		for (int count : simulator.getGuessDistribution(5, 3).values()) {
+			wins += count;
+		}
+		for (int count : distribution.values()) {
+			wins += count;
+		}
+		assertEquals(simulator.getWins(), wins);
+		assertTrue(simulator.getGamesPerSecond() > 0);
+	}
+
+	@Test
+	void testResultsDontDependOnThreads() throws InterruptedException {
+		Simulator oneThread = new Simulator(dictionary, Simulator.SOLVER, 7);
+		oneThread.run(4, 4, 3, 3, 1, 1);
+		Simulator manyThreads = new Simulator(dictionary, Simulator.SOLVER, 7);
+		manyThreads.run(4, 4, 3, 3, 1, 4);
+		assertEquals(oneThread.getGuessDistribution(4, 3), manyThreads.getGuessDistribution(4, 3));
+	}
+
+	@Test
+	void testPickableWordsAreSorted() {
+		ArrayList<ArrayList<String>> words = dictionary.getPickableWords(3);
+		assertFalse(words.isEmpty());
+		assertTrue(String.join("", words.get(0)).compareTo(String.join("", words.get(1))) < 0);
+		assertTrue(dictionary.getPickableWords(9).isEmpty());
+	}
+
+	ArrayList<String> letters(String word) {
+		return new ArrayList<>(Arrays.asList(word.split("")));
+	}
+}
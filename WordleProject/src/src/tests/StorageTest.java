@@ -0,0 +1,162 @@
+/**
+ * This will create all of the unit testing that is needed 
+ * for the Storage class.
+ * 
+ * Date: 10/19/2026
+ * 
+ * @author Connor Kippes, Luke Laurie, Sean Eddy, Zachary Hansen
+ */
+
+package src.tests;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.time.LocalDate;
+import java.util.ArrayList;
+
+import org.junit.jupiter.api.Test;
+
+import src.model.Storage;
+
+class StorageTest {
+
+	@Test
+	void testWriteAndRead() throws Exception {
+		File file = new File(Files.createTempDirectory("storage").toFile(), "date.ser");
+		Storage.writeObject(file.toString(), LocalDate.of(2023, 4, 30));
+		assertEquals(LocalDate.of(2023, 4, 30), Storage.readObject(file.toString()));
+		// no temporary files are left behind
+		assertEquals(1, file.getParentFile().list().length);
+		Storage.writeObject(file.toString(), null);
+		assertNull(Storage.readObject(file.toString()));
+	}
+
+	@Test
+	void testReadOldFile() throws Exception {
+		File file = File.createTempFile("word", ".ser");
+		ObjectOutputStream out = new ObjectOutputStream(new FileOutputStream(file));
+		out.writeObject("crane");
+		out.close();
+		assertEquals("crane", Storage.readObject(file.toString()));
+	}
+
+	@Test
+	void testTruncatedFile() throws Exception {
+		File file = File.createTempFile("word", ".ser");
+		Storage.writeObject(file.toString(), "crane");
+		RandomAccessFile raw = new RandomAccessFile(file, "rw");
+		raw.setLength(raw.length() - 3);
+		raw.close();
+		assertThrows(IOException.class, () -> Storage.readObject(file.toString()));
+	}
+
+	@Test
+	void testTornRecord() throws Exception {
+		File journal = File.createTempFile("shard", ".journal");
+		journal.delete();
+		Storage.appendRecord(journal, "first".getBytes());
+		Storage.appendRecord(journal, "second".getBytes());
+		long goodLength = journal.length();
+		Storage.appendRecord(journal, "third".getBytes());
+		RandomAccessFile raw = new RandomAccessFile(journal, "rw");
+		raw.setLength(raw.length() - 2);
+		raw.close();
+		ArrayList<byte[]> records = Storage.readRecords(journal);
+		assertEquals(2, records.size());
+		assertEquals("second", new String(records.get(1)));
+		// the torn record is cut off so new records follow the good ones
+		assertEquals(goodLength, journal.length());
+		Storage.appendRecord(journal, "fourth".getBytes());
+		assertEquals(3, Storage.readRecords(journal).size());
+	}
+
+	@Test
+	void testDamagedRecordSkipped() throws Exception {
+		File journal = File.createTempFile("shard", ".journal");
+		journal.delete();
+		Storage.appendRecord(journal, "first".getBytes());
+		Storage.appendRecord(journal, "second".getBytes());
+		RandomAccessFile raw = new RandomAccessFile(journal, "rw");
+		// changes a byte inside the first record
+		raw.seek(13);
+		raw.write('X');
+		raw.close();
+		ArrayList<byte[]> records = Storage.readRecords(journal);
+		assertEquals(1, records.size());
+		assertEquals("second", new String(records.get(0)));
+	}
+
+	@Test
+	void testDamageBeforeEndReported() throws Exception {
+		File journal = File.createTempFile("shard", ".journal");
+		journal.delete();
+		Storage.appendRecord(journal, "first".getBytes());
+		Storage.appendRecord(journal, "second".getBytes());
+		Storage.appendRecord(journal, "third".getBytes());
+		long length = journal.length();
+		RandomAccessFile raw = new RandomAccessFile(journal, "rw");
+		// makes the length of the second record run past the end
+		raw.seek(17);
+		raw.writeInt(1000);
+		raw.close();
+		assertThrows(IOException.class, () -> Storage.readRecords(journal));
+		// the third record is not cut off
+		assertEquals(length, journal.length());
+	}
+
+	@Test
+	void testGroupCommit() throws Exception {
+		File journal = File.createTempFile("shard", ".journal");
+		journal.delete();
+		Storage.setGroupCommitWindow(5);
+		ArrayList<Thread> writers = new ArrayList<>();
+		for (int i = 0; i < 8; i++) {
+			Thread writer = new Thread(() -> {
+				try {
+					Storage.appendRecord(journal, "record".getBytes());
+				} catch (IOException e) {
+					fail(e);
+				}
+			});
+			writers.add(writer);
+			writer.start();
+		}
+		for (Thread writer : writers) {
+			writer.join();
+		}
+		Storage.setGroupCommitWindow(0);
+		assertEquals(8, Storage.readRecords(journal).size());
+	}
+
+	@Test
+	void testGroupCommitWrite() throws Exception {
+		File file = File.createTempFile("snapshot", ".ser");
+		Storage.setGroupCommitWindow(5);
+		ArrayList<Thread> writers = new ArrayList<>();
+		for (int i = 0; i < 4; i++) {
+			String contents = "snapshot " + i;
+			Thread writer = new Thread(() -> {
+				try {
+					// the file and then the directory are forced in shared batches
+					Storage.writeObject(file.toString(), contents);
+				} catch (IOException e) {
+					fail(e);
+				}
+			});
+			writers.add(writer);
+			writer.start();
+		}
+		for (Thread writer : writers) {
+			writer.join();
+		}
+		Storage.setGroupCommitWindow(0);
+		assertTrue(((String) Storage.readObject(file.toString())).startsWith("snapshot "));
+		file.delete();
+	}
+}
@@ -0,0 +1,41 @@
+/**
+ * This will create all of the unit testing that is needed
+ * for the TileDrawing class, checking where the canvas
+ * renderer places and scales the tiles.
+ *
+ * Date: 10/19/2026
+ *
+ * @author Connor Kippes, Luke Laurie, Sean Eddy, Zachary Hansen
+ */
+
+package src.tests;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import src.view.Letter;
+import src.view.Palette;
+import src.view.TileDrawing;
+
+class TileDrawingTest {
+	@Test
+	void testPlacement() {
+		Palette palette = Palette.of(false, false);
+		TileDrawing tile = new TileDrawing(palette, 2, 1, Letter.FILLED, "A", 3, 0, 1, 1);
+		// each tile after the first moves by its size and the rounded spacing of the rows
+		assertEquals(5, TileDrawing.GAP);
+		assertEquals(55 + 25 + 3, tile.centerX);
+		assertEquals(110 + 25, tile.centerY);
+		assertEquals(5 * 55 - 5, TileDrawing.boardWidth(5));
+		assertEquals(6 * 55 - 5, TileDrawing.boardHeight(6));
+	}
+
+	@Test
+	void testFlipSquashes() {
+		Palette palette = Palette.of(false, false);
+		assertEquals(1, new TileDrawing(palette, 0, 0, Letter.CORRECT, "A", 0, -360, 1, 1).scaleY, 1e-9);
+		assertEquals(0, new TileDrawing(palette, 0, 0, Letter.CORRECT, "A", 0, -270, 1, 1).scaleY, 1e-9);
+		assertEquals(1.2, new TileDrawing(palette, 0, 0, Letter.FILLED, "A", 0, 0, 1.2, 1.2).scaleX, 1e-9);
+	}
+}
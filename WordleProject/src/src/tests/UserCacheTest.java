@@ -0,0 +1,134 @@
+/**
+ * This will create all of the unit testing that is needed 
+ * for the UserCache class.
+ * 
+ * Date: 10/19/2026
+ * 
+ * @author Connor Kippes, Luke Laurie, Sean Eddy, Zachary Hansen
+ */
+
+package src.tests;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+
+import src.model.UserCache;
+import src.model.UserStore;
+import src.model.WordleUser;
+
+class UserCacheTest {
+	private UserStore store;
+
+	void setupStore() throws IOException {
+		store = new UserStore(Files.createTempDirectory("users").toString(), 4);
+		for (int i = 0; i < 5; i++) {
+			store.saveUser(new WordleUser("user" + i, "password"));
+		}
+	}
+
+	@Test
+	void testHitsAndMisses() throws IOException {
+		setupStore();
+		UserCache cache = new UserCache(store, 10, 60000);
+		WordleUser curUser = cache.getUser("user1");
+		assertSame(curUser, cache.getUser("user1"));
+		assertNull(cache.getUser("nobody"));
+		assertEquals(1, cache.getHits());
+		assertEquals(2, cache.getMisses());
+		assertEquals(1, cache.size());
+	}
+
+	@Test
+	void testSizeEviction() throws IOException {
+		setupStore();
+		UserCache cache = new UserCache(store, 2, 60000);
+		cache.getUser("user0");
+		cache.getUser("user1");
+		// user0 was used again so user1 is the one dropped
+		cache.getUser("user0");
+		cache.getUser("user2");
+		assertEquals(2, cache.size());
+		assertEquals(1, cache.getEvictions());
+		cache.getUser("user1");
+		assertEquals(4, cache.getMisses());
+	}
+
+	@Test
+	void testSaveWritesThrough() throws IOException {
+		setupStore();
+		UserCache cache = new UserCache(store, 1, 60000);
+		WordleUser curUser = cache.getUser("user0");
+		curUser.reportGame(false, 6, 5);
+		cache.saveUser(curUser);
+		assertEquals(1, store.findUser("user0").getGamesPlayed());
+		assertSame(curUser, cache.getUser("user0"));
+		// a dropped user is read back as it was saved
+		cache.getUser("user1");
+		assertEquals(1, cache.getUser("user0").getGamesPlayed());
+	}
+
+	@Test
+	void testIdleEviction() throws IOException, InterruptedException {
+		setupStore();
+		UserCache cache = new UserCache(store, 10, 1);
+		WordleUser curUser = cache.getUser("user0");
+		curUser.reportGame(false, 6, 5);
+		cache.saveUser(curUser);
+		Thread.sleep(10);
+		cache.getUser("user1");
+		assertEquals(1, cache.getEvictions());
+		assertEquals(1, store.findUser("user0").getGamesPlayed());
+	}
+
+	@Test
+	void testFailedSaveNotCached() throws IOException {
+		File directory = Files.createTempDirectory("users").toFile();
+		UserCache cache = new UserCache(new UserStore(directory.toString(), 1), 10, 60000);
+		// a file where the shard journal goes makes every save fail
+		new File(directory, "shard-0.journal").mkdir();
+		assertThrows(IOException.class, () -> cache.saveUser(new WordleUser("email", "password")));
+		assertEquals(0, cache.size());
+	}
+
+	@Test
+	void testStoreReadOutsideCacheLock() throws Exception {
+		setupStore();
+		CountDownLatch isReading = new CountDownLatch(1);
+		CountDownLatch canFinish = new CountDownLatch(1);
+		UserStore slowStore = new UserStore(Files.createTempDirectory("users").toString(), 4) {
+			@Override
+			public WordleUser findUser(String email) throws IOException {
+				if (email.equals("slow")) {
+					isReading.countDown();
+					try {
+						canFinish.await();
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					}
+				}
+				return store.findUser(email);
+			}
+		};
+		UserCache cache = new UserCache(slowStore, 10, 60000);
+		Thread slowReader = new Thread(() -> {
+			try {
+				cache.getUser("slow");
+			} catch (IOException e) {
+				fail(e);
+			}
+		});
+		slowReader.start();
+		isReading.await();
+		// another user is found while the slow read is still going
+		assertTimeoutPreemptively(Duration.ofSeconds(5), () -> assertNotNull(cache.getUser("user1")));
+		canFinish.countDown();
+		slowReader.join();
+	}
+}
@@ -0,0 +1,110 @@
+/**
+ * This will create all of the unit testing that is needed 
+ * for the UserStore class.
+ * 
+ * Date: 10/19/2026
+ * 
+ * @author Connor Kippes, Luke Laurie, Sean Eddy, Zachary Hansen
+ */
+
+package src.tests;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+
+import org.junit.jupiter.api.Test;
+
+import src.model.UserStore;
+import src.model.WordleUser;
+
+class UserStoreTest {
+
+	@Test
+	void testSaveAndFind() throws IOException {
+		UserStore store = new UserStore(Files.createTempDirectory("users").toString(), 4);
+		assertTrue(store.isEmpty());
+		WordleUser curUser = new WordleUser("email", "password");
+		curUser.reportGame(false, 6, 5);
+		store.saveUser(curUser);
+		assertFalse(store.isEmpty());
+		assertEquals(1, store.findUser("email").getGamesPlayed());
+		assertNull(store.findUser("other"));
+	}
+
+	@Test
+	void testLatestSaveWins() throws IOException {
+		UserStore store = new UserStore(Files.createTempDirectory("users").toString(), 4);
+		WordleUser curUser = new WordleUser("email", "password");
+		store.saveUser(curUser);
+		curUser.reportGame(false, 6, 5);
+		curUser.reportGame(false, 6, 5);
+		store.saveUser(curUser);
+		assertEquals(2, store.findUser("email").getGamesPlayed());
+		// compacting keeps the latest version
+		store.compactShard(store.shardOf("email"));
+		assertEquals(2, store.findUser("email").getGamesPlayed());
+	}
+
+	@Test
+	void testShardCountKept() throws IOException {
+		String directory = Files.createTempDirectory("users").toString();
+		UserStore store = new UserStore(directory, 8);
+		store.saveUser(new WordleUser("email", "password"));
+		UserStore reopened = new UserStore(directory, 2);
+		assertEquals(8, reopened.getShardCount());
+		assertNotNull(reopened.findUser("email"));
+	}
+
+	@Test
+	void testChangesByAnotherStoreSeen() throws IOException {
+		String directory = Files.createTempDirectory("users").toString();
+		UserStore store = new UserStore(directory, 2);
+		WordleUser curUser = new WordleUser("email", "password");
+		store.saveUser(curUser);
+		assertEquals(0, store.findUser("email").getGamesPlayed());
+		// the shard read into memory is read again once its journal changes
+		curUser.reportGame(false, 6, 5);
+		new UserStore(directory, 2).saveUser(curUser);
+		assertEquals(1, store.findUser("email").getGamesPlayed());
+	}
+
+	@Test
+	void testUnreadableShardNotCompacted() throws IOException {
+		String directory = Files.createTempDirectory("users").toString();
+		UserStore store = new UserStore(directory, 1);
+		store.saveUser(new WordleUser("email", "password"));
+		store.compactShard(0);
+		File shardFile = new File(directory, "shard-0.ser");
+		Files.write(shardFile.toPath(), new byte[] { 1, 2, 3 });
+		assertThrows(IOException.class, () -> store.findUser("email"));
+		// saves keep going to the journal, which is never folded into a partial shard
+		for (int i = 0; i < 400; i++) {
+			store.saveUser(new WordleUser("user" + i, "password"));
+		}
+		assertTrue(new File(directory, "shard-0.journal").length() > 128 * 1024);
+		assertArrayEquals(new byte[] { 1, 2, 3 }, Files.readAllBytes(shardFile.toPath()));
+		assertThrows(IOException.class, () -> store.compactShard(0));
+	}
+
+	@Test
+	void testReshard() throws IOException {
+		File usersFile = File.createTempFile("users", ".ser");
+		ArrayList<WordleUser> allUsers = new ArrayList<>();
+		for (int i = 0; i < 20; i++) {
+			allUsers.add(new WordleUser("user" + i, "password"));
+		}
+		ObjectOutputStream outFile = new ObjectOutputStream(new FileOutputStream(usersFile));
+		outFile.writeObject(allUsers);
+		outFile.close();
+		UserStore store = UserStore.reshard(usersFile.toString(),
+				Files.createTempDirectory("users").toString(), 3);
+		assertEquals(20, store.getAllUsers().size());
+		assertEquals("password", store.findUser("user7").getPassword());
+	}
+}
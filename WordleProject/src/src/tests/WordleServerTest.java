@@ -0,0 +1,114 @@
+/**
+ * This will create all of the unit testing that is needed
+ * for the WordleServer class.
+ *
+ * Date: 10/19/2026
+ *
+ * @author Connor Kippes, Luke Laurie, Sean Eddy, Zachary Hansen
+ */
+
+package src.tests;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import src.server.Json;
+import src.server.WordleServer;
+
+class WordleServerTest {
+	private WordleServer server;
+	private int status;
+
+	@BeforeEach
+	void startServer() throws IOException {
+		server = new WordleServer(0, WordleServer.DEFAULT_MAX_SESSIONS, WordleServer.DEFAULT_MAX_IDLE_MILLIS,
+				Files.createTempDirectory("players").toString());
+		server.start();
+	}
+
+	@AfterEach
+	void stopServer() {
+		server.stop();
+	}
+
+	@Test
+	void testNewGame() throws IOException {
+		String game = request("POST", "/games?rows=4&cols=6", null);
+		assertEquals(201, status);
+		assertTrue(game.contains("\"rows\":4"));
+		assertTrue(game.contains("\"cols\":6"));
+		assertTrue(game.contains("\"state\":\"in progress\""));
+		String id = Json.readString(game, "id");
+		assertTrue(request("GET", "/games/" + id, null).contains("\"row\":0"));
+		assertEquals(200, status);
+		assertEquals(1, server.getLiveGames());
+	}
+
+	@Test
+	void testBadRequests() throws IOException {
+		request("POST", "/games?cols=9", null);
+		assertEquals(400, status);
+		request("GET", "/games/nothing", null);
+		assertEquals(404, status);
+		String id = Json.readString(request("POST", "/games", null), "id");
+		request("POST", "/games/" + id + "/guesses", "{\"guess\":\"toolong\"}");
+		assertEquals(400, status);
+	}
+
+	@Test
+	void testGuess() throws IOException {
+		String id = Json.readString(request("POST", "/games?player=ann", null), "id");
+		String result = request("POST", "/games/" + id + "/guesses", "{\"guess\":\"abcde\"}");
+		assertEquals("not in word list", Json.readString(result, "verdict"));
+		result = request("POST", "/games/" + id + "/guesses", "{\"guess\":\"SMART\"}");
+		assertEquals("accepted", Json.readString(result, "verdict"));
+		assertTrue(result.contains("\"row\":1"));
+		assertTrue(request("GET", "/stats", null).contains("\"guesses\":2"));
+		assertTrue(request("GET", "/players/ann/stats", null).contains("\"gamesPlayed\":0"));
+		request("GET", "/players/bob/stats", null);
+		assertEquals(404, status);
+	}
+
+	@Test
+	void testPlayersSaved() throws IOException {
+		String directory = Files.createTempDirectory("players").toString();
+		WordleServer first = new WordleServer(0, 10, 60000, directory);
+		server.stop();
+		server = first;
+		server.start();
+		request("POST", "/games?player=ann", null);
+		server.stop();
+		server = new WordleServer(0, 10, 60000, directory);
+		server.start();
+		assertTrue(request("GET", "/players/ann/stats", null).contains("\"gamesPlayed\":0"));
+		assertEquals(200, status);
+	}
+
+	String request(String method, String path, String body) throws IOException {
+		HttpURLConnection connection = (HttpURLConnection) new URL("http://localhost:" + server.getPort() + path)
+				.openConnection();
+		connection.setRequestMethod(method);
+		if (body != null) {
+			connection.setDoOutput(true);
+			try (OutputStream out = connection.getOutputStream()) {
+				out.write(body.getBytes(StandardCharsets.UTF_8));
+			}
+		}
+		status = connection.getResponseCode();
+		InputStream in = status < 400 ? connection.getInputStream() : connection.getErrorStream();
+		try (InputStream response = in) {
+			return new String(response.readAllBytes(), StandardCharsets.UTF_8);
+		}
+	}
+}
@@ -11,12 +11,20 @@ package src.tests;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Currency;
 
 import org.junit.jupiter.api.Test;
 
+import src.model.BoardStore;
+import src.model.CheckpointStore;
 import src.model.Guess;
+import src.model.Storage;
 import src.model.WordleUser;
 
 class WordleUserTest {
@@ -194,4 +202,55 @@ class WordleUserTest {
 		assertFalse(curUser.isContrastMode());
 	}
 
-}
\ No newline at end of file
+	@Test
+	void testSavedBoards() throws IOException {
+		BoardStore.setDirectory(Files.createTempDirectory("boards").toString());
+		curUser = new WordleUser("email", "password");
+		setupGuess();
+		curUser.setGuesses(curGuess);
+		// boards are dropped from memory once saved and read back when needed
+		curUser.saveBoards();
+		assertEquals(curGuess, curUser.getGuesses(6, 5));
+		assertEquals(" ", curUser.getGuesses(6, 4).get(0).get(0));
+		BoardStore.setDirectory("boards");
+	}
+
+	@Test
+	void testOldBoardFormat() throws Exception {
+		String directory = Files.createTempDirectory("boards").toString();
+		BoardStore.setDirectory(directory);
+		curUser = new WordleUser("email", "password");
+		setupGuess();
+		// boards used to be the date and the board written one after the other
+		File file = new File(directory, "656d61696c/6x5.ser");
+		file.getParentFile().mkdirs();
+		ObjectOutputStream out = new ObjectOutputStream(new FileOutputStream(file));
+		out.writeObject(curUser.getDate());
+		out.writeObject(curGuess);
+		out.close();
+		assertEquals(curGuess, BoardStore.loadBoard("email", 6, 5, curUser.getDate()));
+		// the board is saved again in the new format
+		assertNotNull(Storage.readBytes(file.toString()));
+		assertEquals(curGuess, BoardStore.loadBoard("email", 6, 5, curUser.getDate()));
+		BoardStore.setDirectory("boards");
+	}
+
+	@Test
+	void testCheckpointRestore() throws IOException {
+		BoardStore.setDirectory(Files.createTempDirectory("boards").toString());
+		CheckpointStore.setDirectory(Files.createTempDirectory("checkpoints").toString());
+		curUser = new WordleUser("email", "password");
+		setupGuess();
+		// the guesses were checkpointed but the board was never saved
+		CheckpointStore.appendGuess("email", 6, curUser.getDate(), 0, curGuess.get(0));
+		CheckpointStore.appendGuess("email", 6, curUser.getDate(), 1, curGuess.get(1));
+		assertEquals(curGuess, curUser.getGuesses(6, 5));
+		// once saved the board no longer needs the checkpoint
+		curUser.saveBoards();
+		CheckpointStore.clear("email", 6, 5);
+		assertEquals(curGuess, curUser.getGuesses(6, 5));
+		BoardStore.setDirectory("boards");
+		CheckpointStore.setDirectory("checkpoints");
+	}
+
+}
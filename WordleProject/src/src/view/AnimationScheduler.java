@@ -0,0 +1,78 @@
+/**
+ * Runs delayed animation steps and animations on the JavaFX pulse instead of
+ * starting a sleeping thread for every step. Everything that is waiting or
+ * running can be cancelled at once, for example when a new game starts.
+ * 
+ * Date: 10/19/2026
+ * 
+ * @author Connor Kippes, Luke Laurie, Sean Eddy, Zachary Hansen
+ */
+
+package src.view;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+
+import javafx.animation.Animation;
+import javafx.animation.PauseTransition;
+import javafx.event.ActionEvent;
+import javafx.event.EventHandler;
+import javafx.util.Duration;
+
+public class AnimationScheduler {
+	private static HashSet<Animation> pending = new HashSet<>();
+
+	/**
+	 * Runs an action on the JavaFX thread after a delay. Must be called from the
+	 * JavaFX thread.
+	 * 
+	 * @param millis is the time to wait in milliseconds.
+	 * @param action is what to run once the time has passed.
+	 * 
+	 * @return the pause, which can be stopped to cancel the action.
+	 */
+	public static PauseTransition schedule(long millis, Runnable action) {
+		PauseTransition pause = new PauseTransition(Duration.millis(millis));
+		pause.setOnFinished(event -> action.run());
+		play(pause);
+		return pause;
+	}
+
+	/**
+	 * Plays an animation and keeps it until it finishes so it can be cancelled.
+	 * Must be called from the JavaFX thread.
+	 * 
+	 * @param animation is the animation to play.
+	 */
+	public static void play(Animation animation) {
+		EventHandler<ActionEvent> onFinished = animation.getOnFinished();
+		animation.setOnFinished(event -> {
+			pending.remove(animation);
+			if (onFinished != null) {
+				onFinished.handle(event);
+			}
+		});
+		pending.add(animation);
+		animation.play();
+	}
+
+	/**
+	 * Cancels every action that has not run yet and stops every animation.
+	 */
+	public static void cancelAll() {
+		// copied since stopping doesn't call onFinished but keeps this safe anyway
+		for (Animation animation : new ArrayList<>(pending)) {
+			animation.stop();
+		}
+		pending.clear();
+	}
+
+	/**
+	 * Returns the number of actions waiting to run and animations running.
+	 * 
+	 * @return the number of pending actions and animations.
+	 */
+	public static int getPendingCount() {
+		return pending.size();
+	}
+}
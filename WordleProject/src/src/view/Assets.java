@@ -0,0 +1,167 @@
+/**
+ * Loads every font size and image the game uses once for the whole program.
+ * Displays ask the registry for an asset instead of reading the file again, so
+ * building a board or keyboard reads nothing from disk once the assets have been
+ * preloaded. Images also have an inverted variant for dark mode that is built
+ * once, so switching themes only swaps which image is shown.
+ *
+ * Date: 10/19/2026
+ *
+ * @author Connor Kippes, Luke Laurie, Sean Eddy, Zachary Hansen
+ */
+
+package src.view;
+
+import java.nio.IntBuffer;
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
+import javafx.scene.image.WritablePixelFormat;
+import javafx.scene.text.Font;
+
+public class Assets {
+	public static final String MONOSPACED_FONT = "Helvetica Monospaced W06 Bold.ttf";
+	public static final String FRANKLIN_FONT = "franklin-gothic-book.ttf";
+	public static final String KARNAK_FONT = "KarnakPro-CondensedBlack.ttf";
+	private static final String FONT_DIRECTORY = "file:src/fonts/";
+	private static final String IMAGE_DIRECTORY = "file:src/images/";
+	// the fonts and images every game shows right away
+	private static final Object[][] PRELOADED_FONTS = { { MONOSPACED_FONT, 19.0 }, { MONOSPACED_FONT, 16.5 },
+			{ MONOSPACED_FONT, 12.0 }, { KARNAK_FONT, 40.0 } };
+	private static final String[] PRELOADED_IMAGES = { "backspace.png", "help.png", "settings.png",
+			"statistics.png", "wordle_logo_32x32.png", "login.png" };
+	private static ConcurrentHashMap<String, Font> fonts = new ConcurrentHashMap<>();
+	private static ConcurrentHashMap<String, Image> images = new ConcurrentHashMap<>();
+	private static ConcurrentHashMap<String, Image> invertedImages = new ConcurrentHashMap<>();
+	private static AtomicLong hits = new AtomicLong();
+	private static AtomicLong misses = new AtomicLong();
+
+	/**
+	 * Returns a font from the fonts folder in one size, loading it the first time
+	 * it is asked for.
+	 *
+	 * @param name is the file name of the font.
+	 * @param size is the size of the font.
+	 *
+	 * @return the font, or the default font in that size if it could not be
+	 *         loaded.
+	 */
+	public static Font font(String name, double size) {
+		String key = name + "@" + size;
+		Font font = fonts.get(key);
+		if (font != null) {
+			hits.incrementAndGet();
+			return font;
+		}
+		misses.incrementAndGet();
+		return fonts.computeIfAbsent(key, newKey -> {
+			Font loaded = Font.loadFont(FONT_DIRECTORY + name, size);
+			if (loaded == null) {
+				System.out.println("Font " + name + " could not be loaded");
+				return Font.font(size);
+			}
+			return loaded;
+		});
+	}
+
+	/**
+	 * Returns an image from the images folder, loading it the first time it is
+	 * asked for.
+	 *
+	 * @param name is the file name of the image.
+	 *
+	 * @return the image.
+	 */
+	public static Image image(String name) {
+		Image image = images.get(name);
+		if (image != null) {
+			hits.incrementAndGet();
+			return image;
+		}
+		misses.incrementAndGet();
+		return images.computeIfAbsent(name, newName -> new Image(IMAGE_DIRECTORY + newName));
+	}
+
+	/**
+	 * Returns an image from the images folder with its colors inverted, building
+	 * it the first time it is asked for.
+	 *
+	 * @param name is the file name of the image.
+	 *
+	 * @return the inverted image.
+	 */
+	public static Image invertedImage(String name) {
+		Image image = invertedImages.get(name);
+		if (image != null) {
+			hits.incrementAndGet();
+			return image;
+		}
+		misses.incrementAndGet();
+		return invertedImages.computeIfAbsent(name, newName -> invert(image(newName)));
+	}
+
+	/**
+	 * Starts loading the fonts and images every game shows, each on its own task.
+	 * The inverted variant of each image is built as well.
+	 *
+	 * @return a future that completes once every asset is loaded.
+	 */
+	public static CompletableFuture<Void> preload() {
+		ArrayList<CompletableFuture<?>> loads = new ArrayList<>();
+		for (Object[] preloadedFont : PRELOADED_FONTS) {
+			loads.add(CompletableFuture.runAsync(() -> font((String) preloadedFont[0], (Double) preloadedFont[1])));
+		}
+		for (String preloadedImage : PRELOADED_IMAGES) {
+			loads.add(CompletableFuture.runAsync(() -> invertedImage(preloadedImage)));
+		}
+		return CompletableFuture.allOf(loads.toArray(new CompletableFuture<?>[0]));
+	}
+
+	/**
+	 * Returns the number of times an asset was already loaded.
+	 *
+	 * @return the number of hits.
+	 */
+	public static long getHits() {
+		return hits.get();
+	}
+
+	/**
+	 * Returns the number of times an asset had to be loaded.
+	 *
+	 * @return the number of misses.
+	 */
+	public static long getMisses() {
+		return misses.get();
+	}
+
+	/**
+	 * Inverts the color of every pixel of an image, keeping its transparency. The
+	 * pixels are read and written in one block instead of one at a time.
+	 *
+	 * @param image is the image to invert.
+	 *
+	 * @return a new inverted image.
+	 */
+	private static Image invert(Image image) {
+		int width = (int) image.getWidth();
+		int height = (int) image.getHeight();
+		if (width == 0 || height == 0) {
+			return image;
+		}
+		int[] pixels = new int[width * height];
+		WritablePixelFormat<IntBuffer> format = PixelFormat.getIntArgbInstance();
+		image.getPixelReader().getPixels(0, 0, width, height, format, pixels, 0, width);
+		for (int i = 0; i < pixels.length; i++) {
+			pixels[i] ^= 0x00ffffff;
+		}
+		WritableImage inverted = new WritableImage(width, height);
+		inverted.getPixelWriter().setPixels(0, 0, width, height, format, pixels, 0, width);
+		return inverted;
+	}
+}
@@ -0,0 +1,125 @@
+/**
+ * Draws the board on one Canvas instead of showing a styled button for every
+ * tile. The rows and letters of the board stay the model of what is drawn but
+ * are never added to the scene, so typing and flipping letters cost no CSS or
+ * layout passes. The animations still move the rows and letters, and the
+ * canvas draws them from their translate, rotate and scale on the next pulse.
+ * What each tile looks like is worked out by a TileDrawing. It is an
+ * alternative to the node renderer, not a measured speedup: its pulse times
+ * have not been compared with the node renderer's. The performance overlay
+ * (F3) shows them, once with and once without --renderer=canvas.
+ *
+ * Date: 10/19/2026
+ *
+ * @author Connor Kippes, Luke Laurie, Sean Eddy, Zachary Hansen
+ */
+
+package src.view;
+
+import java.util.ArrayList;
+
+import javafx.animation.AnimationTimer;
+import javafx.beans.InvalidationListener;
+import javafx.geometry.VPos;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.text.TextAlignment;
+
+public class BoardCanvas extends Canvas {
+	private BoardDisplay board;
+	private ArrayList<WordDisplay> rows;
+	private Palette lastPalette;
+	private boolean isDirty = true;
+	private AnimationTimer timer = new AnimationTimer() {
+		@Override
+		public void handle(long now) {
+			Palette palette = Palette.of(board.getDarkMode(), WordleGUI.isContrastMode());
+			if (isDirty || palette != lastPalette) {
+				draw(palette);
+			}
+		}
+	};
+
+	/**
+	 * Makes a canvas the size of the board that redraws whenever a row or letter
+	 * of the board changes.
+	 *
+	 * @param board is the board to draw.
+	 * @param rows  is the rows of the board.
+	 */
+	public BoardCanvas(BoardDisplay board, ArrayList<WordDisplay> rows) {
+		this.board = board;
+		this.rows = rows;
+		int colSize = rows.isEmpty() ? 0 : rows.get(0).getLetters().size();
+		setWidth(TileDrawing.boardWidth(colSize));
+		setHeight(TileDrawing.boardHeight(rows.size()));
+		InvalidationListener changed = observable -> isDirty = true;
+		for (WordDisplay row : rows) {
+			row.translateXProperty().addListener(changed);
+			for (Letter letter : row.getLetters()) {
+				letter.textProperty().addListener(changed);
+				letter.getStyleClass().addListener(changed);
+				letter.rotateProperty().addListener(changed);
+				letter.scaleXProperty().addListener(changed);
+				letter.scaleYProperty().addListener(changed);
+			}
+		}
+		// only draws while the canvas is showing
+		sceneProperty().addListener((observable, oldScene, newScene) -> {
+			if (newScene == null) {
+				timer.stop();
+			} else {
+				isDirty = true;
+				timer.start();
+			}
+		});
+	}
+
+	/**
+	 * Draws every tile of the board in its state and animation.
+	 *
+	 * @param palette is the colors of the current theme.
+	 */
+	private void draw(Palette palette) {
+		isDirty = false;
+		lastPalette = palette;
+		GraphicsContext graphics = getGraphicsContext2D();
+		graphics.setFill(palette.background);
+		graphics.fillRect(0, 0, getWidth(), getHeight());
+		graphics.setFont(Assets.font(Assets.MONOSPACED_FONT, 16.5));
+		graphics.setTextAlign(TextAlignment.CENTER);
+		graphics.setTextBaseline(VPos.CENTER);
+		graphics.setLineWidth(TileDrawing.BORDER);
+		for (int r = 0; r < rows.size(); r++) {
+			WordDisplay row = rows.get(r);
+			ArrayList<Letter> letters = row.getLetters();
+			for (int c = 0; c < letters.size(); c++) {
+				Letter letter = letters.get(c);
+				drawTile(graphics, new TileDrawing(palette, r, c, letter.getState(), letter.getText(),
+						row.getTranslateX(), letter.getRotate(), letter.getScaleX(), letter.getScaleY()));
+			}
+		}
+	}
+
+	/**
+	 * Draws one tile around its center.
+	 *
+	 * @param graphics is the graphics of the canvas.
+	 * @param tile     is how the tile is drawn.
+	 */
+	private void drawTile(GraphicsContext graphics, TileDrawing tile) {
+		double half = TileDrawing.TILE / 2;
+		double inset = TileDrawing.BORDER / 2;
+		graphics.save();
+		graphics.translate(tile.centerX, tile.centerY);
+		graphics.scale(tile.scaleX, tile.scaleY);
+		graphics.setFill(tile.fill);
+		graphics.fillRect(-half, -half, TileDrawing.TILE, TileDrawing.TILE);
+		graphics.setStroke(tile.border);
+		graphics.strokeRect(-half + inset, -half + inset, TileDrawing.TILE - TileDrawing.BORDER,
+				TileDrawing.TILE - TileDrawing.BORDER);
+		graphics.setFill(tile.textFill);
+		graphics.fillText(tile.text, 0, 0);
+		graphics.restore();
+	}
+}
@@ -10,32 +10,31 @@
  */
 package src.view;
 
-import java.io.File;
-import java.net.URI;
-import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
 
-import javafx.concurrent.Task;
-import javafx.geometry.Insets;
+import javafx.animation.Animation;
 import javafx.geometry.Pos;
 import javafx.scene.input.KeyCode;
 import javafx.scene.layout.StackPane;
 import javafx.scene.layout.VBox;
 import javafx.scene.text.TextAlignment;
 import javafx.util.Duration;
+import src.model.CheckpointStore;
+import src.model.GameSession;
 import src.model.Guess;
-import src.model.Word;
+import src.model.GuessResult;
 import src.model.WordleUser;
-import javafx.scene.media.Media;
-import javafx.scene.media.MediaPlayer;
 
 public class BoardDisplay extends VBox {
-	private int curRow;
 	private ArrayList<WordDisplay> guesses;
-	private Guess wordComparison;
+	private GameSession session;
 	private ArrayList<String> curGuessedWord;
-	private boolean isWon;
+	private CompletableFuture<ArrayList<String>> lastReveal = CompletableFuture.completedFuture(null);
+	// input waits while a submitted guess is being judged
+	private boolean isEvaluating = false;
 	private boolean isHardMode = false;
 	private boolean isDarkMode = false;
 	private int colSize = 5;
@@ -56,7 +55,7 @@ public class BoardDisplay extends VBox {
 		this.gui = gui;
 		curUser = gui.getUser();
 		// set the spacing
-		this.setSpacing(4.87);
+		this.setSpacing(TileDrawing.SPACING);
 		setUserData();
 	}
 
@@ -68,17 +67,15 @@ public class BoardDisplay extends VBox {
 	 * @param keyboardDisplay is the keyboard which the user can click letters on.
 	 */
 	public void addLetter(KeyCode keyPressed, String buttonInput, KeyboardDisplay keyboardDisplay) {
+		if (isEvaluating) {
+			return;
+		}
 		// checks that all guesses have not been used and game continuing
 		String gameCondition = gameOver();
-		if (curRow < rowSize && gameCondition.equals("in progress")) {
-			WordDisplay curWord = guesses.get(curRow);
+		if (gameCondition.equals("in progress")) {
+			WordDisplay curWord = guesses.get(session.getCurRow());
 			if (keyPressed == KeyCode.ENTER || buttonInput.equals("ENTER")) {
-				int tempRow = curRow;
-				boolean couldEnter = enterWord(curWord);
-				// updates keyboardColors after word is done flipping and was a valid word
-				if (couldEnter) {
-					delay(2020, () -> updateKeyColors(keyboardDisplay, 0));
-				}
+				enterWord(curWord, keyboardDisplay);
 			} else if (keyPressed == KeyCode.BACK_SPACE || buttonInput.equals("BACKSPACE")) {
 				curWord.addLetter("backspace");
 			} else if (!buttonInput.equals("")) {
@@ -90,12 +87,22 @@ public class BoardDisplay extends VBox {
 				}
 				curWord.addLetter(keyPressed.toString());
 				if (rowNotFull) {
-					popOutLetter(curWord, 0);
+					popOutLetter(curWord);
 				}
 			}
 		}
 	}
 
+	/**
+	 * This returns the reveal of the last guess. It completes with the colors of
+	 * that guess on the JavaFX thread once every letter has flipped.
+	 * 
+	 * @return the future of the last reveal.
+	 */
+	public CompletableFuture<ArrayList<String>> getLastReveal() {
+		return lastReveal;
+	}
+
 	/**
 	 * This updates the colors displayed on the keyboard.
 	 * 
@@ -110,59 +117,48 @@ public class BoardDisplay extends VBox {
 	}
 
 	/**
-	 * This sets each color in the board to be in its dark mode.
+	 * This sets the colors of new guesses to be in dark mode. The stylesheet
+	 * recolors the board itself.
 	 */
 	public void setDarkMode() {
-		for (WordDisplay wordDisplay : guesses) {
-			for (Letter letter : wordDisplay.getLetters()) {
-				letter.setDarkMode();
-			}
-		}
-		wordComparison.setDarkMode();
+		session.getGuess().setDarkMode();
 		isDarkMode = true;
 	}
 
 	/**
-	 * This sets each color in the board to be in its normal mode.
+	 * This sets the colors of new guesses to be in normal mode. The stylesheet
+	 * recolors the board itself.
 	 */
 	public void setNonDarkMode() {
-		for (WordDisplay wordDisplay : guesses) {
-			for (Letter letter : wordDisplay.getLetters()) {
-				letter.setNonDarkMode();
-			}
-		}
-		wordComparison.setNonDarkMode();
+		session.getGuess().setNonDarkMode();
 		isDarkMode = false;
 	}
 
 	/**
-	 * This sets each color in the board to be in its contrast mode.
+	 * This sets the colors of new guesses to be in contrast mode. The stylesheet
+	 * recolors the board itself.
 	 */
 	public void setContrastMode() {
-		for (WordDisplay wordDisplay : guesses) {
-			for (Letter letter : wordDisplay.getLetters()) {
-				letter.setContrastMode();
-			}
-		}
-		wordComparison.setContrastMode();
+		session.getGuess().setContrastMode();
 	}
 
 	/**
-	 * This sets each color in the board to be in its not contrasted mode.
+	 * This sets the colors of new guesses to be in not contrasted mode. The
+	 * stylesheet recolors the board itself.
 	 */
 	public void setNonContrastMode() {
-		for (WordDisplay wordDisplay : guesses) {
-			for (Letter letter : wordDisplay.getLetters()) {
-				letter.setNonContrastMode();
-			}
-		}
-		wordComparison.setNonContrastMode();
+		session.getGuess().setNonContrastMode();
 	}
 
 	/**
 	 * This displays all of the correct values onto the board.
 	 */
 	public void displayChildren() {
+		// the canvas renderer draws the rows instead of showing them
+		if (WordleGUI.isCanvasRenderer()) {
+			this.getChildren().setAll(new BoardCanvas(this, guesses));
+			return;
+		}
 		// clear the children
 		this.getChildren().clear();
 		// adds all the words
@@ -172,189 +168,138 @@ public class BoardDisplay extends VBox {
 	}
 
 	/**
-	 * This determines if a given word can be entered as a valid guess.
+	 * This determines if a given word can be entered as a valid guess and submits
+	 * it to be judged off the JavaFX thread. The keyboard is updated with the
+	 * guess once it is done flipping.
 	 * 
-	 * @param curWord is the word to try and enter as a guess.
+	 * @param curWord         is the word to try and enter as a guess.
+	 * @param keyboardDisplay is the keyboard which the user can click letters on.
 	 */
-	private boolean enterWord(WordDisplay curWord) {
+	private void enterWord(WordDisplay curWord, KeyboardDisplay keyboardDisplay) {
 		if (curWord.getCurrentCol() == colSize - 1) {
 			// moves to next word
-			if (curRow < rowSize) {
-				return compareGuess(curWord, true);
+			if (!session.isOver()) {
+				isEvaluating = true;
+				long submitted = System.nanoTime();
+				GuessEngine.submit(session, curWord.getWord())
+						.whenComplete((result, error) -> {
+							// a cancelled guess belongs to a game that was already replaced
+							if (error instanceof CancellationException) {
+								return;
+							}
+							isEvaluating = false;
+							if (error != null) {
+								error.printStackTrace();
+								return;
+							}
+							boolean couldEnter = showGuess(curWord, result, true);
+							PerformanceOverlay.markGuess(submitted);
+							if (couldEnter) {
+								ArrayList<String> guessedWord = result.getGuess();
+								lastReveal.thenAccept(colors -> keyboardDisplay.updateKeyColors(guessedWord, colors));
+							}
+						});
 			}
 		} else {
 			popUpErrorMessage("Not enough letters", gui.getMainCenterPane());
 
-			shakeRow(curWord, 0);
+			shakeRow(curWord);
 		}
-		return false;
 	}
 
 	/**
-	 * This will get all of the colorings associated with a guess.
+	 * This will get all of the colorings associated with a guess read in from the
+	 * serialization. The guess was accepted when it was made, so it is only
+	 * colored again, which needs the answer and so the loaded dictionary.
 	 * 
 	 * @param curWord       is the word to try and enter as a guess.
 	 * @param shouldAnimate determines weather the current guesses was read in from
 	 *                      the serialization.
 	 */
 	private boolean compareGuess(WordDisplay curWord, boolean shouldAnimate) {
-		curGuessedWord = curWord.getWord();
-		boolean canGuess = wordComparison.canGuess(curGuessedWord);
-		// checks if word exists in the dictionary
-		if (!canGuess) {
-			popUpErrorMessage("Not in word list", gui.getMainCenterPane());
+		return showGuess(curWord, session.replay(curWord.getWord()), shouldAnimate);
+	}
 
-			shakeRow(curWord, 0);
-			return false;
+	/**
+	 * This will color the guesses read in from the serialization once the
+	 * dictionary is loaded, without blocking the JavaFX thread while it loads.
+	 * Input waits until they are colored.
+	 * 
+	 * @param replayRows are the rows filled with the saved guesses.
+	 */
+	private void replayGuesses(ArrayList<WordDisplay> replayRows) {
+		if (replayRows.isEmpty()) {
+			return;
 		}
-		Guess tempGuess = new Guess(colSize);
-		tempGuess.makeGuess(curGuessedWord, rowSize);
-		if (isHardMode) {
-			ArrayList<String> prevGuess = wordComparison.getCurGuess();
-			ArrayList<String> prevGuessColors = wordComparison.getCurGuessColors();
-			ArrayList<String> curGuessColors = tempGuess.getCurGuessColors();
-			// gets the correct colorings of the guess
-			if (prevGuess.size() != 0) {
-				for (int i = 0; i < colSize; i++) {
-					if (prevGuessColors.get(i).equals("Green") || prevGuessColors.get(i).equals("Orange")) {
-						if (!curGuessColors.get(i).equals("Green") && !curGuessColors.get(i).equals("Orange")) {
-							String orderNum = "";
-							if (i == 0)
-								orderNum = "1st";
-							else if (i == 1)
-								orderNum = "2nd";
-							else if (i == 2)
-								orderNum = "3rd";
-							else
-								orderNum = i + 1 + "th";
-							popUpErrorMessage(orderNum + " letter must be " + prevGuess.get(i).toUpperCase(),
-									gui.getMainCenterPane());
-							shakeRow(curWord, 0);
-							return false;
-						}
-					} else if (prevGuessColors.get(i).equals("Yellow") || prevGuessColors.get(i).equals("Blue")) {
-						if (!curGuessedWord.contains(prevGuess.get(i))) {
-							popUpErrorMessage("Guess must contain " + prevGuess.get(i).toUpperCase(),
-									gui.getMainCenterPane());
-							shakeRow(curWord, 0);
-							return false;
-						}
-					}
-				}
+		GameSession replayed = session;
+		isEvaluating = true;
+		boolean isDeferred = !WordleGUI.isDictionaryLoaded();
+		WordleGUI.afterDictionary(() -> {
+			// a board set up again meanwhile replays its own guesses
+			if (session != replayed) {
+				return;
 			}
-		}
-		ArrayList<String> placements = wordComparison.makeGuess(curGuessedWord, rowSize);
-		isWon = true;
-		flipLetter(0, curWord, placements, shouldAnimate);
-		// checks if the game has been completed
-		String gameCondition = gameOver();
-		if (!gameCondition.equals("in progress") && shouldAnimate) {
-			// reports game as a win or loss
-			updateUserGuesses();
-			if (gameCondition.equals("won")) {
-				curUser.reportGame(true, rowSize, colSize);
-			} else {
-				curUser.reportGame(false, rowSize, colSize);
+			for (WordDisplay inputtedWord : replayRows) {
+				compareGuess(inputtedWord, false);
 			}
-		}
-		return true;
+			isEvaluating = false;
+			// the keyboard was colored before the guesses were
+			if (isDeferred && gui.getBoard() == this && gui.getKeyboard() != null) {
+				updateKeyboard(gui.getKeyboard());
+			}
+		});
 	}
 
 	/**
-	 * This will run the animation that flips a letter.
+	 * This will show the verdict on a guess, flipping its letters if it was
+	 * accepted and shaking them if it wasn't.
 	 * 
-	 * @param i             is the int representing which letter to flip.
-	 * @param curWord       is the word that should be animated.
-	 * @param shouldAnimate determines weather the current guesses was read in from
-	 *                      the serialization.
+	 * @param curWord       is the word that was guessed.
+	 * @param result        is the verdict on the guess.
 	 * @param shouldAnimate determines weather the current guesses was read in from
 	 *                      the serialization.
+	 * 
+	 * @return true if the guess was accepted.
 	 */
-	private void flipLetter(int i, WordDisplay curWord, ArrayList<String> placements, boolean animation) {
-		Letter curLetter = curWord.getLetter(i);
-		if (i == 0) {
-			curRow++;
-		}
-
-		if (animation) {
-			curLetter.getFlip().play();
-		}
-
-		curLetter.setKeyboardButtonStyle("White", placements.get(i));
+	private boolean showGuess(WordDisplay curWord, GuessResult result, boolean shouldAnimate) {
+		curGuessedWord = result.getGuess();
+		if (!result.isAccepted()) {
+			popUpErrorMessage(result.getMessage(), gui.getMainCenterPane());
 
-		if (placements.get(i) != "Green") {
-			isWon = false;
-		}
-		if (i == colSize - 1) {
-			if (isWon) {
-				curRow = rowSize;
-				curRow++;
-			}
-		} else {
-			// determines if animation needs to be delayed
-			int delayTime = 0;
-			if (animation) {
-				delayTime = 390;
-			}
-			delay(delayTime, () -> flipLetter(i + 1, curWord, placements, animation));
+			shakeRow(curWord);
+			return false;
 		}
+		ArrayList<String> placements = result.getPlacements();
+		CompletableFuture<ArrayList<String>> revealed = new CompletableFuture<>();
+		Animation reveal = TileAnimations.reveal(curWord, placements, shouldAnimate);
+		reveal.setOnFinished(event -> revealed.complete(placements));
+		AnimationScheduler.play(reveal);
+		lastReveal = revealed;
+		// the session already reported a finished game, this only shows it
+		gameOver();
+		return true;
 	}
 
 	/**
 	 * This will run the animation that pops the letter outwards.
 	 * 
 	 * @param curWord is the word that should be animated.
-	 * @param i       is the int representing which letter to flip.
 	 * 
 	 */
-	private void popOutLetter(WordDisplay curWord, int i) {
-		Letter curLetter = curWord.getLetter(curWord.getCurrentCol());
-		if (i == 0) {
-			curLetter.setPrefSize(53, 53);
-			delay(50, () -> popOutLetter(curWord, i + 1));
-		} else {
-			curLetter.setPrefSize(50, 50);
-		}
+	private void popOutLetter(WordDisplay curWord) {
+		SoundEffects.play(SoundEffects.POP);
+		AnimationScheduler.play(TileAnimations.pop(curWord.getLetter(curWord.getCurrentCol())));
 	}
 
 	/**
 	 * This will run the animation that shakes all the letters in a word.
 	 * 
 	 * @param curWord is the word that should be animated.
-	 * @param i       is the int representing which letter to flip.
 	 * 
 	 */
-	private void shakeRow(WordDisplay curWord, int i) {
-		if (i == 7) {
-			curWord.setPadding(new Insets(0, 0, 0, 0));
-		} else if (i % 2 == 0) {
-			curWord.setPadding(new Insets(0, 7, 0, 0));
-			delay(60, () -> shakeRow(curWord, i + 1));
-		} else if (i % 2 == 1) {
-			curWord.setPadding(new Insets(0, 0, 0, 7));
-			delay(60, () -> shakeRow(curWord, i + 1));
-		}
-	}
-
-	/**
-	 * This will delay the time between animations.
-	 * 
-	 * @param millis is the time to delay between animations.
-	 * @param continuation continues the sleeping thread.
-	 */
-	private static void delay(long millis, Runnable continuation) {
-		Task<Void> sleeper = new Task<Void>() {
-			@Override
-			protected Void call() throws Exception {
-				try {
-					Thread.sleep(millis);
-				} catch (InterruptedException e) {
-				}
-				return null;
-			}
-		};
-		sleeper.setOnSucceeded(event -> continuation.run());
-		new Thread(sleeper).start();
+	private void shakeRow(WordDisplay curWord) {
+		SoundEffects.play(SoundEffects.NO_WORD);
+		AnimationScheduler.play(TileAnimations.shake(curWord));
 	}
 
 	/**
@@ -368,7 +313,7 @@ public class BoardDisplay extends VBox {
 		if (pane.getChildren().size() <= 1)
 			;
 		pane.getChildren().add(errorMsg);
-		delay(1200, () -> removeErrorMessage(errorMsg, pane));
+		AnimationScheduler.schedule(1200, () -> removeErrorMessage(errorMsg, pane));
 	}
 
 	/**
@@ -387,57 +332,28 @@ public class BoardDisplay extends VBox {
 	 * @return the current state of the game.
 	 */
 	public String gameOver() {
-		
 		// determines if won, lost or in progress
-		if (curRow == rowSize) {
-			Word wordClass = Word.getInstance(colSize);
-			ArrayList<String> wordString = wordClass.getCurWord(colSize, WordleGUI.getRowSize());
+		if (session.isLost()) {
+			ArrayList<String> wordString = session.getAnswer();
 			String word = "";
 			for (String letter : wordString) {
 				word += letter;
 			}
-			URI uri = new File("src/soundEffects/youLose.mp3").toURI();
-			MediaPlayer player = new MediaPlayer(new Media(uri.toString()));
-			player.play();
+			SoundEffects.play(SoundEffects.LOSE);
 			ErrorMessage errorMsg = new ErrorMessage(word.toUpperCase(), isDarkMode);
 			gui.getMainCenterPane().getChildren().add(errorMsg);
 			errorMsg.setAlignment(Pos.TOP_CENTER);
 			return "You lost, the correct word was " + word;
-		} else {
-			// checks if won or not
-			ArrayList<String> comparisons = wordComparison.getCurGuessColors();
-			if (comparisons.size() == 0) {
-				return "in progress";
-			}
-			for (String guessColor : comparisons) {
-				if (!guessColor.equals("Green") && !guessColor.equals("Orange")) {
-					return "in progress";
-				}
-			}
-			URI uri = new File("src/soundEffects/youWin.mp3").toURI();
-			MediaPlayer player = new MediaPlayer(new Media(uri.toString()));
-			player.play();
+		} else if (session.isWon()) {
+			SoundEffects.play(SoundEffects.WIN);
 			popUpErrorMessage("Great", gui.getMainCenterPane());
 			return "won";
 		}
+		return "in progress";
 	}
 	
 	public boolean determineGameOver() {
-		if (curRow == rowSize) {
-			return true;
-		} else {
-			// checks if won or not
-			ArrayList<String> comparisons = wordComparison.getCurGuessColors();
-			if (comparisons.size() == 0) {
-				return false;
-			}
-			for (String guessColor : comparisons) {
-				if (!guessColor.equals("Green") && !guessColor.equals("Orange")) {
-					return false;
-				}
-			}
-			return true;
-		}
+		return session.isOver();
 	}
 
 	/**
@@ -447,6 +363,7 @@ public class BoardDisplay extends VBox {
 	 */
 	public void setHardMode(boolean isHardMode) {
 		this.isHardMode = isHardMode;
+		session.setHardMode(isHardMode);
 	}
 
 	/**
@@ -459,7 +376,7 @@ public class BoardDisplay extends VBox {
 		for (WordDisplay guess : guesses) {
 			guess.setColSize(colSize);
 		}
-		wordComparison.setColSize(colSize);
+		session.getGuess().setColSize(colSize);
 	}
 
 	/**
@@ -477,7 +394,16 @@ public class BoardDisplay extends VBox {
 	 * @return the guess object.
 	 */
 	public Guess getGuessClass() {
-		return wordComparison;
+		return session.getGuess();
+	}
+
+	/**
+	 * Gets the game being played on the board.
+	 * 
+	 * @return the game session.
+	 */
+	public GameSession getSession() {
+		return session;
 	}
 
 	/**
@@ -486,39 +412,50 @@ public class BoardDisplay extends VBox {
 	 * @return the row number.
 	 */
 	public int getCurRow() {
-		return curRow;
+		return session.getCurRow();
 	}
 
 	/**
 	 * Initialized all the information from the board given data 
-	 * from a wordleUser.
+	 * from a wordleUser. Guesses saved in the board's checkpoint are
+	 * restored by the user when the board is loaded.
 	 */
 	public void setUserData() {
-		wordComparison = new Guess(this.colSize);
-		// determines if users guesses should be reset
-		LocalDate currentTime = LocalDate.now();
-		if (!currentTime.equals(curUser.getDate())) {
-			curUser.initializeInfo(true);
+		// guesses still being judged belong to the game being replaced
+		GuessEngine.cancelAll();
+		isEvaluating = false;
+		session = new GameSession(rowSize, colSize, curUser);
+		session.setHardMode(isHardMode);
+		ArrayList<ArrayList<String>> currentGuesses = session.getSavedGuesses();
+		// the rows are emptied and reused once they exist in this size
+		boolean reuseRows = guesses != null && guesses.size() == rowSize
+				&& guesses.get(0).getLetters().size() == colSize;
+		if (!reuseRows) {
+			guesses = new ArrayList<>();
 		}
-		ArrayList<ArrayList<String>> currentGuesses = curUser.getGuesses(rowSize, colSize);
-		wordComparison.makeGuess(currentGuesses.get(0), rowSize);
-		guesses = new ArrayList<>();
-		curRow = 0;
+		ArrayList<WordDisplay> replayRows = new ArrayList<>();
 		// sets the guesses to the initially guessed values
 		for (int i = 0; i < rowSize; i++) {
+			WordDisplay inputtedWord;
+			if (reuseRows) {
+				inputtedWord = guesses.get(i);
+				inputtedWord.resetWord();
+			} else {
+				inputtedWord = new WordDisplay(colSize);
+				guesses.add(inputtedWord);
+			}
 			ArrayList<String> curWord = currentGuesses.get(i);
 			// checks if word needs to be guessed
 			if (!curWord.get(0).equals(" ")) {
 				// enters the word
-				WordDisplay inputtedWord = new WordDisplay(curWord);
-				guesses.add(inputtedWord);
-				compareGuess(inputtedWord, false);
-			} else {
-				WordDisplay inputtedWord = new WordDisplay(colSize);
-				guesses.add(inputtedWord);
+				inputtedWord.fillWord(curWord);
+				replayRows.add(inputtedWord);
 			}
 		}
-		displayChildren();
+		replayGuesses(replayRows);
+		if (!reuseRows) {
+			displayChildren();
+		}
 	}
 
 	/**
@@ -545,19 +482,14 @@ public class BoardDisplay extends VBox {
 			gui.setNonDarkMode();
 		}
 		keyboard.resetColors(isDarkMode);
-		for (WordDisplay curWord : guesses) {
-			ArrayList<String> wordToGuess = curWord.getWord();
-			if (!wordToGuess.get(0).equals(" ")) {
-				// checks if word is needed to be guessed on keyboard
-				wordComparison.makeGuess(wordToGuess, rowSize);
-				updateKeyColors(keyboard, 0);
-			}
+		// colors the keys with every guess the session accepted
+		ArrayList<ArrayList<String>> guessedWords = session.getRows();
+		ArrayList<ArrayList<String>> placements = session.getPlacements();
+		for (int i = 0; i < placements.size(); i++) {
+			keyboard.updateKeyColors(guessedWords.get(i), placements.get(i));
 		}
 		// updates the colors
-		if (gui.getContrastMode() && isDarkMode) {
-			keyboard.setContrastMode();
-			setDarkMode();
-		} else if (!gui.getContrastMode() && isDarkMode) {
+		if (isDarkMode) {
 			keyboard.setDarkMode();
 			setDarkMode();
 		}
@@ -580,26 +512,30 @@ public class BoardDisplay extends VBox {
 	public void setColors(boolean dark) {
 		isDarkMode = dark;
 	}
+
+	/**
+	 * Gets if the board is in dark mode.
+	 * 
+	 * @return true if the board is in dark mode.
+	 */
+	public boolean getDarkMode() {
+		return isDarkMode;
+	}
 	
 	/**
-	 * Resets the row after a wrong guess.
+	 * Empties every row of the board in place for a new game.
 	 */
 	public void resetGuesses() {
-		guesses = new ArrayList<>();
-		for (int i = 0; i < rowSize; i++) {
-			WordDisplay inputtedWord = new WordDisplay(colSize);
-			guesses.add(inputtedWord);
+		for (WordDisplay guess : guesses) {
+			guess.resetWord();
 		}
-		curRow = 0;
-		isWon = false;
+		CheckpointStore.clear(curUser.getEmail(), rowSize, colSize);
 		updateUserGuesses();
-		displayChildren();
-		gui.getMainCenterPane().getChildren().clear();
-		gui.getMainCenterPane().getChildren().add(this);
+		gui.getMainCenterPane().getChildren().setAll(this);
 	}
 	
 	public Guess getGuess()
 	{
-		return wordComparison;
+		return session.getGuess();
 	}
 }
\ No newline at end of file
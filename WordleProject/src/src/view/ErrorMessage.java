@@ -38,8 +38,9 @@ public class ErrorMessage extends Button {
 		this.setMinHeight(41);
 		this.setMaxHeight(20);
 		this.setTextAlignment(TextAlignment.CENTER);
-		this.setStyle("-fx-text-fill: " + (isDarkMode ? "#121213" : "#ffffff") + "; -fx-background-color: "
-				+ (isDarkMode ? "#ffffff" : "#121213"));
+		Palette palette = Palette.of(isDarkMode, false);
+		this.setTextFill(palette.messageText);
+		this.setBackground(palette.messageFill);
 	}
 
 	/**
@@ -49,7 +50,8 @@ public class ErrorMessage extends Button {
 	 */
 	public void setDarkMode(boolean isDarkMode) {
 		this.isDarkMode = isDarkMode;
-		this.setStyle("-fx-text-fill: " + (isDarkMode ? "#121213" : "#ffffff") + "; -fx-background-color: "
-				+ (isDarkMode ? "#ffffff" : "#121213"));
+		Palette palette = Palette.of(isDarkMode, false);
+		this.setTextFill(palette.messageText);
+		this.setBackground(palette.messageFill);
 	}
 }
\ No newline at end of file
@@ -0,0 +1,95 @@
+/**
+ * Judges submitted guesses on one background thread so checking the dictionary
+ * and reading the word from disk never hold up the JavaFX thread. Guesses are
+ * judged one at a time in the order they were submitted, without changing the
+ * game. Each accepted guess is then played on the JavaFX thread, so the game,
+ * the player's statistics and the checkpoint are only ever changed there.
+ * Starting a new game cancels the guesses of the old one that haven't been
+ * played yet, so they are never saved or reported.
+ *
+ * Date: 10/19/2026
+ *
+ * @author Connor Kippes, Luke Laurie, Sean Eddy, Zachary Hansen
+ */
+
+package src.view;
+
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javafx.application.Platform;
+import src.model.GameSession;
+import src.model.GuessResult;
+
+public class GuessEngine {
+	private static final ExecutorService executor = Executors.newSingleThreadExecutor(task -> {
+		Thread thread = new Thread(task, "guess-engine");
+		thread.setDaemon(true);
+		return thread;
+	});
+	// the game every submitted guess belongs to, raised when a new game starts
+	private static final AtomicLong generation = new AtomicLong();
+
+	/**
+	 * Submits a guess to be judged and played in a game. The session must not be
+	 * changed until the returned future is done.
+	 *
+	 * @param session is the game the guess is made in.
+	 * @param guess   is the submitted word as letters.
+	 *
+	 * @return a future completed on the JavaFX thread with the verdict once the
+	 *         guess was played, or cancelled there if a new game started first.
+	 */
+	public static CompletableFuture<GuessResult> submit(GameSession session, ArrayList<String> guess) {
+		long submitted = generation.get();
+		CompletableFuture<GuessResult> verdict = new CompletableFuture<>();
+		executor.execute(() -> {
+			if (generation.get() != submitted) {
+				Platform.runLater(() -> verdict.cancel(false));
+				return;
+			}
+			try {
+				// only the first guess waits, and only if the dictionary is still loading
+				WordleGUI.awaitDictionary();
+				GuessResult result = session.judge(guess);
+				Platform.runLater(() -> play(session, result, submitted, verdict));
+			} catch (RuntimeException e) {
+				Platform.runLater(() -> verdict.completeExceptionally(e));
+			}
+		});
+		return verdict;
+	}
+
+	/**
+	 * Plays a judged guess on the JavaFX thread unless a new game started since
+	 * it was submitted.
+	 *
+	 * @param session   is the game the guess is made in.
+	 * @param result    is the verdict of the engine thread.
+	 * @param submitted is the game the guess was submitted in.
+	 * @param verdict   is the future to complete.
+	 */
+	private static void play(GameSession session, GuessResult result, long submitted,
+			CompletableFuture<GuessResult> verdict) {
+		if (generation.get() != submitted) {
+			verdict.cancel(false);
+			return;
+		}
+		try {
+			verdict.complete(session.accept(result));
+		} catch (RuntimeException e) {
+			verdict.completeExceptionally(e);
+		}
+	}
+
+	/**
+	 * Cancels every guess that hasn't been handed back yet. Must be called from
+	 * the JavaFX thread.
+	 */
+	public static void cancelAll() {
+		generation.incrementAndGet();
+	}
+}
@@ -10,7 +10,6 @@ package src.view;
 
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.Map;
 
 import javax.swing.RootPaneContainer;
 
@@ -25,10 +24,10 @@ import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.VBox;
-import javafx.scene.text.Font;
 import javafx.scene.transform.Rotate;
 import javafx.util.Duration;
 import src.model.Guess;
+import src.model.KeyColors;
 
 public class KeyboardDisplay extends VBox {
 	private String[][] letterStrings = { { "Q", "W", "E", "R", "T", "Y", "U", "I", "O" },
@@ -39,9 +38,9 @@ public class KeyboardDisplay extends VBox {
 	private Letter p = new Letter("P", true);
 	private BoardDisplay curBoard;
 	private ImageView backspaceImageView;
-	private Image backspaceImage = new Image("file:src/images/backspace.png");
-	private Image inverseBackspaceImage = new Image("file:src/images/backspace.png");
-	private Map<String, String> savedLetterColors = new HashMap<String, String>();
+	private Image backspaceImage = Assets.image("backspace.png");
+	private Image inverseBackspaceImage = Assets.invertedImage("backspace.png");
+	private KeyColors keyColors = new KeyColors();
 	private int colSize = 5;
 
 	/**
@@ -60,7 +59,7 @@ public class KeyboardDisplay extends VBox {
 
 		// increase width and text of backspace and enter buttons
 		letters[2][0].setPrefWidth(70);
-		letters[2][0].setFont(Font.loadFont("file:src/fonts/Helvetica Monospaced W06 Bold.ttf", 12));
+		letters[2][0].setFont(Assets.font(Assets.MONOSPACED_FONT, 12));
 		letters[2][8].setPrefWidth(55);
 		registerHandlers();
 	}
@@ -95,79 +94,30 @@ public class KeyboardDisplay extends VBox {
 	}
 
 	/**
-	 * sets the keyboard to dark mode
+	 * sets the keyboard to dark mode, the stylesheet recolors the keys
 	 */
 	public void setDarkMode() {
-		for (int row = 0; row < 3; row++) {
-			for (int col = 0; col < 9; col++) {
-				letters[row][col].setDarkMode();
-				if (letters[row][col].getGraphic() != null) {
-					backspaceImageView = new ImageView(inverseBackspaceImage);
-				}
-			}
-		}
-		p.setDarkMode();
+		backspaceImageView.setImage(inverseBackspaceImage);
 	}
 
 	/**
-	 * sets the keyboard off dark mode
+	 * sets the keyboard off dark mode, the stylesheet recolors the keys
 	 */
 	public void setNonDarkMode() {
-		for (int row = 0; row < 3; row++) {
-			for (int col = 0; col < 9; col++) {
-				letters[row][col].setNonDarkMode();
-				if (letters[row][col].getGraphic() != null) {
-					backspaceImageView = new ImageView(backspaceImage);
-				}
-			}
-		}
-		p.setNonDarkMode();
+		backspaceImageView.setImage(backspaceImage);
 	}
 
 	/**
 	 * resets the keyboard (used for new game button)
 	 */
 	public void resetColors(boolean isDarkMode) {
-		savedLetterColors = new HashMap<String, String>();
+		keyColors.clear();
 		for (int row = 0; row < 3; row++) {
 			for (int col = 0; col < 9; col++) {
-				// swap to correct color later
-				if (isDarkMode) {
-					letters[row][col].setKeyboardButtonStyle("White", "dm Gray");
-				} else {
-					letters[row][col].setKeyboardButtonStyle("Black", "Gray");
-				}
+				letters[row][col].setState(Letter.UNUSED);
 			}
 		}
-		if (isDarkMode) {
-			p.setKeyboardButtonStyle("White", "dm Gray");
-		} else {
-			p.setKeyboardButtonStyle("Black", "Gray");
-		}
-	}
-
-	/**
-	 * sets the relevant keyboard buttons to contrast theme
-	 */
-	public void setContrastMode() {
-		for (int row = 0; row < 3; row++) {
-			for (int col = 0; col < 9; col++) {
-				letters[row][col].setContrastMode();
-			}
-		}
-		p.setContrastMode();
-	}
-
-	/**
-	 * sets the relevant keyboard buttons to non contrast theme
-	 */
-	public void setNonContrastMode() {
-		for (int row = 0; row < 3; row++) {
-			for (int col = 0; col < 9; col++) {
-				letters[row][col].setNonContrastMode();
-			}
-		}
-		p.setNonContrastMode();
+		p.setState(Letter.UNUSED);
 	}
 
 	/**
@@ -225,70 +175,45 @@ public class KeyboardDisplay extends VBox {
 	 */
 	public void updateKeyColors() {
 		Guess guessClass = curBoard.getGuessClass();
-		ArrayList<String> guessedWord = guessClass.getCurGuess();
-		ArrayList<String> curGuess = guessClass.getCurGuessColors();
-		{
-			if (curGuess != null) {
-				for (int i = 0; i < colSize; i++) {
-					if (p.getText().equalsIgnoreCase(guessedWord.get(i))) {
-						// if statement so it doesn't overwrite a color with gray if multiple of the
-						// letter in word
-						if (savedLetterColors.containsKey(p.getText())) {
-							if (savedLetterColors.containsKey(p.getText())) {
-								if (savedLetterColors.get(p.getText()).equals("Green")
-										|| savedLetterColors.get(p.getText()).equals("Orange")) {
-									p.setKeyboardButtonStyle("White", savedLetterColors.get(p.getText()));
-								} else if (curGuess.get(i).equals("Green") || curGuess.get(i).equals("Orange")) {
-									p.setKeyboardButtonStyle("White", curGuess.get(i));
-									savedLetterColors.put(p.getText(), curGuess.get(i));
-								} else if (savedLetterColors.get(p.getText()).equals("Yellow")
-										|| savedLetterColors.get(p.getText()).equals("Blue")) {
-									p.setKeyboardButtonStyle("White", savedLetterColors.get(p.getText()));
-								} else {
-									p.setKeyboardButtonStyle("White", curGuess.get(i));
-									savedLetterColors.put(p.getText(), curGuess.get(i));
-								}
-							} else {
-								p.setKeyboardButtonStyle("White", curGuess.get(i));
-								savedLetterColors.put(p.getText(), curGuess.get(i));
-							}
-						} else {
-							savedLetterColors.put(p.getText(), curGuess.get(i));
-							p.setKeyboardButtonStyle("White", curGuess.get(i));
-						}
-					} else {
-						for (int row = 0; row < 3; row++) {
-							for (int col = 0; col < 9; col++) {
-								Letter curLetter = letters[row][col];
-								if (curLetter.getText().equalsIgnoreCase(guessedWord.get(i))) {
-									if (savedLetterColors.containsKey(curLetter.getText())) {
-										if (savedLetterColors.get(curLetter.getText()).equals("Green")
-												|| savedLetterColors.get(curLetter.getText()).equals("Orange")) {
-											curLetter.setKeyboardButtonStyle("White",
-													savedLetterColors.get(curLetter.getText()));
-										} else if (curGuess.get(i).equals("Green")
-												|| curGuess.get(i).equals("Orange")) {
-											curLetter.setKeyboardButtonStyle("White", curGuess.get(i));
-											savedLetterColors.put(curLetter.getText(), curGuess.get(i));
-										} else if (savedLetterColors.get(curLetter.getText()).equals("Yellow")
-												|| savedLetterColors.get(curLetter.getText()).equals("Blue")) {
-											curLetter.setKeyboardButtonStyle("White",
-													savedLetterColors.get(curLetter.getText()));
-										} else {
-											curLetter.setKeyboardButtonStyle("White", curGuess.get(i));
-											savedLetterColors.put(curLetter.getText(), curGuess.get(i));
-										}
-									} else {
-										curLetter.setKeyboardButtonStyle("White", curGuess.get(i));
-										savedLetterColors.put(curLetter.getText(), curGuess.get(i));
-									}
-								}
-							}
-						}
-					}
+		updateKeyColors(guessClass.getCurGuess(), guessClass.getCurGuessColors());
+	}
+
+	/**
+	 * updates the relevant keyboard button colors with the colors of one guess
+	 * 
+	 * @param guessedWord the letters of the guess
+	 * @param curGuess    the colors of each letter of the guess
+	 */
+	public void updateKeyColors(ArrayList<String> guessedWord, ArrayList<String> curGuess) {
+		if (curGuess == null) {
+			return;
+		}
+		for (int i = 0; i < colSize; i++) {
+			Letter key = findKey(guessedWord.get(i));
+			if (key != null) {
+				key.setPlacement(keyColors.update(key.getText(), curGuess.get(i)));
+			}
+		}
+	}
+
+	/**
+	 * finds the key of a letter
+	 * 
+	 * @param letter the letter, in any case
+	 * @return the Letter button of the key, or null if there is none
+	 */
+	private Letter findKey(String letter) {
+		if (p.getText().equalsIgnoreCase(letter)) {
+			return p;
+		}
+		for (int row = 0; row < 3; row++) {
+			for (int col = 0; col < 9; col++) {
+				if (letters[row][col].getText().equalsIgnoreCase(letter)) {
+					return letters[row][col];
 				}
 			}
 		}
+		return null;
 	}
 
 	/**
@@ -314,6 +239,6 @@ public class KeyboardDisplay extends VBox {
 	 * @return hashmap of letters mapped to colors
 	 */
 	public HashMap<String, String> getSavedLetterColors() {
-		return (HashMap<String, String>) savedLetterColors;
+		return keyColors.getColors();
 	}
 }
\ No newline at end of file
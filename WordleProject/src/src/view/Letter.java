@@ -9,29 +9,25 @@
 
 package src.view;
 
-import java.util.HashMap;
-import java.util.Map;
-
 import javafx.animation.RotateTransition;
 import javafx.scene.control.Button;
-import javafx.scene.input.KeyCode;
-import javafx.scene.input.KeyEvent;
-import javafx.scene.text.Font;
-import javafx.scene.text.FontWeight;
 import javafx.scene.transform.Rotate;
 import javafx.util.Duration;
 
 public class Letter extends Button {
-	private String textColor;
-	private String borderColor;
-	private String backgroundColor;
-	private Map<String, String> colors = new HashMap<String, String>();
+	public static final String EMPTY = "empty";
+	public static final String FILLED = "filled";
+	public static final String UNUSED = "unused";
+	public static final String CORRECT = "correct";
+	public static final String PRESENT = "present";
+	public static final String ABSENT = "absent";
+	private String state;
 	private boolean isKeyboard;
+	// made the first time it is asked for, only the tutorial uses it
 	private RotateTransition flip;
-	private boolean isDarkMode = false;
 
 	/**
-	 * Constructor initializes the color dictionary and sets the passed parameters
+	 * Constructor sets the passed parameters
 	 * 
 	 * @param someText         the text of the button (usually a letter string)
 	 * 
@@ -39,19 +35,6 @@ public class Letter extends Button {
 	 *                         keyboard display
 	 */
 	public Letter(String someText, Boolean isOnSomeKeyboard) {
-		colors.put("Border Gray", "878a8c");
-		colors.put("Green", "6aaa64");
-		colors.put("dm Border Gray", "565758");
-		colors.put("dm Dark Gray", "3a3a3c");
-		colors.put("dm Gray", "818384");
-		colors.put("Border Gray", "878a8c");
-		colors.put("Dark Gray", "787c7f");
-		colors.put("Gray", "d3d6da");
-		colors.put("Yellow", "c9b458");
-		colors.put("Orange", "f5793a");
-		colors.put("Blue", "85c0f9");
-		colors.put("Black", "121213");
-		colors.put("White", "ffffff");
 		isKeyboard = isOnSomeKeyboard;
 		this.setText(someText);
 		setView(isOnSomeKeyboard);
@@ -66,210 +49,100 @@ public class Letter extends Button {
 	 */
 	private void setView(Boolean isOnKeyboard) {
 		if (isOnKeyboard) {
-			setKeyboardButtonStyle("Black", "Gray");
-			textColor = "Black";
-			backgroundColor = "Gray";
-			this.setFont(Font.loadFont("file:src/fonts/Helvetica Monospaced W06 Bold.ttf", 19));
+			this.getStyleClass().add("key");
+			setState(UNUSED);
+			this.setFont(Assets.font(Assets.MONOSPACED_FONT, 19));
 
 			this.setFocusTraversable(false);
 
 			this.setPrefSize(44, 58);
 		} else {
-			setBoardButtonStyle("Black", "White", "Gray");
-			textColor = "Black";
-			backgroundColor = "White";
-			borderColor = "Gray";
-			this.setFont(Font.loadFont("file:src/fonts/Helvetica Monospaced W06 Bold.ttf", 16.5));
+			this.getStyleClass().add("tile");
+			setState(EMPTY);
+			this.setFont(Assets.font(Assets.MONOSPACED_FONT, 16.5));
 
 			// no buttons are selected or selectable
 			this.setMouseTransparent(true);
 			this.setFocusTraversable(false);
 
-			this.setPrefSize(50, 50);
-
-			flip = new RotateTransition(Duration.millis(500), this);
-			flip.setAxis(Rotate.X_AXIS);
-			flip.setFromAngle(-180);
-			flip.setToAngle(-360);
+			this.setPrefSize(TileDrawing.TILE, TileDrawing.TILE);
 		}
 	}
 
 	/**
-	 * Sets the style (colors) of the keyboard button. Called by setView.
-	 * 
-	 * @param textColor       name of a color in the color dictionary to set the
-	 *                        text to
+	 * Sets the state of the button, which the stylesheet gives its colors in each
+	 * theme. Only the style class changes, no style is parsed.
 	 * 
-	 * @param backgroundColor name of a color in the color dictionary to set the
-	 *                        background to
-	 */
-	public void setKeyboardButtonStyle(String textColor, String backgroundColor) {
-		if (isDarkMode && backgroundColor == "Dark Gray") {
-			backgroundColor = "dm Dark Gray";
-		}
-		if (WordleGUI.isContrastMode() && backgroundColor == "Green") {
-			backgroundColor = "Orange";
-		}
-		if (WordleGUI.isContrastMode() && backgroundColor == "Yellow") {
-			backgroundColor = "Blue";
-		}
-		this.setStyle(
-				"-fx-text-fill: #" + colors.get(textColor) + "; -fx-background-color: #" + colors.get(backgroundColor));
-		this.textColor = textColor;
-		this.backgroundColor = backgroundColor;
-	}
-
-	/**
-	 * Sets the style (colors) of the board squares. Called by setView.
-	 * 
-	 * @param textColor       name of a color in the color dictionary to set the
-	 *                        text to
-	 * 
-	 * @param backgroundColor name of a color in the color dictionary to set the
-	 *                        background to
-	 * 
-	 * @param borderColor     name of a color in the color dictionary to set the
-	 *                        border to
-	 */
-	public void setBoardButtonStyle(String textColor, String backgroundColor, String borderColor) {
-		this.setStyle(
-				"-fx-text-fill: #" + colors.get(textColor) + "; -fx-background-color: #" + colors.get(backgroundColor)
-						+ "; -fx-border-color: #" + colors.get(borderColor) + "; -fx-border-width: 2px");
-		this.textColor = textColor;
-		this.backgroundColor = backgroundColor;
-		this.borderColor = borderColor;
-	}
-
-	/**
-	 * sets the button to dark mode
-	 */
-	public void setDarkMode() {
-		isDarkMode = true;
-		if (isKeyboard) {
-			if (backgroundColor.equals("Dark Gray")) {
-				setKeyboardButtonStyle("White", "dm Dark Gray");
-			} else if (backgroundColor.equals("Gray")) {
-				setKeyboardButtonStyle("White", "dm Gray");
-			}
-		} else {
-			if (backgroundColor.equals("White")) {
-				if (borderColor.equals("Border Gray")) {
-					setBoardButtonStyle("White", "Black", "dm Border Gray");
-				} else {
-					setBoardButtonStyle("White", "Black", "dm Dark Gray");
-				}
-			} else if (backgroundColor.equals("Dark Gray")) {
-				setKeyboardButtonStyle("White", "dm Dark Gray");
-			}
-		}
-	}
-
-	/**
-	 * sets the button off dark mode
+	 * @param newState one of EMPTY, FILLED, UNUSED, CORRECT, PRESENT or ABSENT
 	 */
-	public void setNonDarkMode() {
-		isDarkMode = false;
-		if (isKeyboard) {
-			if (backgroundColor.equals("dm Gray")) {
-				setKeyboardButtonStyle("Black", "Gray");
-			} else if (backgroundColor.equals("dm Dark Gray")) {
-				setKeyboardButtonStyle("White", "Dark Gray");
-			}
-		} else {
-			if (backgroundColor.equals("Black")) {
-				if (this.getText().equals(" ")) {
-					setBoardButtonStyle("Black", "White", "Gray");
-				} else {
-					setBoardButtonStyle("Black", "White", "Border Gray");
-				}
-			} else if (backgroundColor.equals("dm Dark Gray")) {
-				setKeyboardButtonStyle("White", "Dark Gray");
-			}
+	public void setState(String newState) {
+		if (newState.equals(state)) {
+			return;
 		}
-	}
-
-	/**
-	 * sets the button to contrast theme
-	 */
-	public void setContrastMode() {
-		if (isKeyboard) {
-			if (backgroundColor.equals("Green")) {
-				setKeyboardButtonStyle(textColor, "Orange");
-			} else if (backgroundColor.equals("Yellow")) {
-				setKeyboardButtonStyle(textColor, "Blue");
-			}
-		} else {
-			if (backgroundColor.equals("Green")) {
-				setBoardButtonStyle(textColor, "Orange", "Orange");
-			} else if (backgroundColor.equals("Yellow")) {
-				setBoardButtonStyle(textColor, "Blue", "Blue");
-			}
+		if (state != null) {
+			this.getStyleClass().remove(state);
 		}
+		this.getStyleClass().add(newState);
+		state = newState;
 	}
 
 	/**
-	 * sets the button off contrast theme
-	 */
-	public void setNonContrastMode() {
-
-		if (isKeyboard) {
-			if (backgroundColor.equals("Orange")) {
-				setKeyboardButtonStyle(textColor, "Green");
-			} else if (backgroundColor.equals("Blue")) {
-				setKeyboardButtonStyle(textColor, "Yellow");
-			}
-		} else {
-			if (backgroundColor.equals("Orange")) {
-				setBoardButtonStyle(textColor, "Green", "Green");
-			} else if (backgroundColor.equals("Blue")) {
-				setBoardButtonStyle(textColor, "Yellow", "Yellow");
-			}
-		}
-	}
-
-	/**
-	 * returns if the letter button is in dark mode or not
+	 * returns the state of the letter button
 	 * 
-	 * @return true if the letter is in dark mode
+	 * @return String name of the state
 	 */
-	public boolean isDarkMode() {
-		return isDarkMode;
+	public String getState() {
+		return state;
 	}
 
 	/**
-	 * returns the color of the letter button text
+	 * Sets the state of the button from the color the game gave a guessed letter,
+	 * in any theme. A key without a color is unused and a tile without one is
+	 * empty.
 	 * 
-	 * @return String name of the text color
+	 * @param placement name of the color of the guessed letter
 	 */
-	public String getTextColor() {
-		return textColor;
+	public void setPlacement(String placement) {
+		setState(stateOf(placement));
 	}
 
 	/**
-	 * returns the current border color of the letter color
+	 * Finds the state that matches the name of a color the game uses, in any
+	 * theme.
 	 * 
-	 * @return String name of the border color
-	 */
-	public String getBorderColor() {
-		return borderColor;
-	}
-
-	/**
-	 * returns the current background color of the letter button
+	 * @param placement name of the color of the guessed letter
 	 * 
-	 * @return String name of the background color
+	 * @return the state
 	 */
-	public String getBackgroundColor() {
-		return backgroundColor;
+	private String stateOf(String placement) {
+		switch (placement) {
+		case "Green":
+		case "Orange":
+			return CORRECT;
+		case "Yellow":
+		case "Blue":
+			return PRESENT;
+		case "Dark Gray":
+		case "dm Dark Gray":
+			return ABSENT;
+		default:
+			return isKeyboard ? UNUSED : EMPTY;
+		}
 	}
 
 	/**
-	 * returns the unique RotateTransition class that BoardDisplay uses to flip the
-	 * letter
+	 * returns the unique RotateTransition class that TutorialDisplay uses to flip
+	 * the letter, making it the first time
 	 * 
 	 * @return the RotateTransition initialization
 	 */
 	public RotateTransition getFlip() {
+		if (flip == null) {
+			flip = new RotateTransition(Duration.millis(500), this);
+			flip.setAxis(Rotate.X_AXIS);
+			flip.setFromAngle(-180);
+			flip.setToAngle(-360);
+		}
 		return flip;
 	}
-}
\ No newline at end of file
+}
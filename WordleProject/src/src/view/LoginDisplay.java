@@ -8,6 +8,8 @@
 
 package src.view;
 
+import java.io.IOException;
+
 import javafx.geometry.Insets;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
@@ -19,9 +21,9 @@ import javafx.scene.text.Font;
 import src.model.WordleUser;
 
 public class LoginDisplay extends VBox {
-	private Font titleLabelFont = Font.loadFont("file:src/fonts/KarnakPro-CondensedBlack.ttf", 30);
-	private Font subtitleLabelFont = Font.loadFont("file:src/fonts/Helvetica Monospaced W06 Bold.ttf", 14);
-	private Font labelFont = Font.loadFont("file:src/fonts/Helvetica Monospaced W06 Bold.ttf", 12);
+	private Font titleLabelFont = Assets.font(Assets.KARNAK_FONT, 30);
+	private Font subtitleLabelFont = Assets.font(Assets.MONOSPACED_FONT, 14);
+	private Font labelFont = Assets.font(Assets.MONOSPACED_FONT, 12);
 
 	private Label titleLabel;
 	private TextArea emailTextArea;
@@ -36,26 +38,26 @@ public class LoginDisplay extends VBox {
 	public LoginDisplay(boolean isDarkMode) {
 		this.setSpacing(24);
 		this.setPadding(new Insets(25, 25, 25, 25));
-		this.setStyle("-fx-background-color: " + (isDarkMode ? "#121213" : "white") + ";");
+		this.setBackground(Palette.of(isDarkMode, false).backgroundFill);
 
 		titleLabel = new Label("Log in or create a free account to save your stats.");
 		titleLabel.setFont(titleLabelFont);
 		titleLabel.setWrapText(true);
-		titleLabel.setTextFill(isDarkMode ? Color.WHITE : Color.BLACK);
+		titleLabel.setTextFill(Palette.of(isDarkMode, false).text);
 		this.getChildren().add(titleLabel);
 
 		Label subtitleLabel = new Label(
 				"Your Wordle stats will be linked to your account and will update wherever you play.");
 		subtitleLabel.setFont(subtitleLabelFont);
 		subtitleLabel.setWrapText(true);
-		subtitleLabel.setTextFill(isDarkMode ? Color.WHITE : Color.BLACK);
+		subtitleLabel.setTextFill(Palette.of(isDarkMode, false).text);
 		this.getChildren().add(subtitleLabel);
 
 		VBox emailContainer = new VBox(4);
 
 		Label emailLabel = new Label("Email Address");
 		emailLabel.setFont(labelFont);
-		emailLabel.setTextFill(isDarkMode ? Color.WHITE : Color.BLACK);
+		emailLabel.setTextFill(Palette.of(isDarkMode, false).text);
 		emailContainer.getChildren().add(emailLabel);
 
 		emailTextArea = new TextArea();
@@ -78,7 +80,13 @@ public class LoginDisplay extends VBox {
 			// checks if an email was entered
 			String inputtedEmail = emailTextArea.getText();
 			if (inputtedEmail.length() >= 1 && loginButton.getText() == "Continue") {
-				curUser = WordleGUI.findUser(inputtedEmail);
+				try {
+					curUser = WordleGUI.findUser(inputtedEmail);
+				} catch (IOException e) {
+					// an account that can't be read must not be made again
+					titleLabel.setText("Your account could not be read, try again later.");
+					return;
+				}
 				if (curUser != null) {
 					titleLabel.setText("Enter your password to finish logging into your account.");
 					loginButton.setText("Log In");
@@ -95,7 +103,13 @@ public class LoginDisplay extends VBox {
 			else if (loginButton.getText().equals("Log In")) {
 				if (curUser.getPassword().equals(passwordField.getText())) {
 					// save the current users info
-					WordleGUI.writeUser(null);
+					try {
+						WordleGUI.writeUser(null);
+					} catch (IOException e) {
+						// the current user stays so its progress isn't lost
+						titleLabel.setText("Your progress could not be saved, try again later.");
+						return;
+					}
 					WordleGUI.setUser(curUser);
 					// closes the panes
 					LoginBannerDisplay.getStage().close();
@@ -103,10 +117,16 @@ public class LoginDisplay extends VBox {
 			}
 			// create new account
 			else if (loginButton.getText().equals("Create Account")) {
-				WordleGUI.writeUser(null);
-				curUser = new WordleUser(inputtedEmail, passwordField.getText());
+				WordleUser newUser = new WordleUser(inputtedEmail, passwordField.getText());
+				try {
+					WordleGUI.writeUser(null);
+					WordleGUI.writeUser(newUser);
+				} catch (IOException e) {
+					titleLabel.setText("Your account could not be saved, try again later.");
+					return;
+				}
+				curUser = newUser;
 				WordleGUI.setUser(curUser);
-				WordleGUI.writeUser(curUser);
 				// closes the panes
 				LoginBannerDisplay.getStage().close();
 			}
@@ -123,7 +143,7 @@ public class LoginDisplay extends VBox {
 
 		Label passwordLabel = new Label("Password");
 		passwordLabel.setFont(labelFont);
-		passwordLabel.setTextFill(isDarkMode ? Color.WHITE : Color.BLACK);
+		passwordLabel.setTextFill(Palette.of(isDarkMode, false).text);
 		passwordContainer.getChildren().add(passwordLabel);
 
 		passwordField = new PasswordField();
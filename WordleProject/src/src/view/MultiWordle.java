@@ -28,8 +28,8 @@ public class MultiWordle extends VBox {
 	private WordleGUI gui;
 	int colSelcted = 5;
 	int rowSelected = 6;
-	private Font primaryFont = Font.loadFont("file:src/fonts/Helvetica Monospaced W06 Bold.ttf", 20);
-	private Font secondaryFont = Font.loadFont("file:src/fonts/Helvetica Monospaced W06 Bold.ttf", 16);
+	private Font primaryFont = Assets.font(Assets.MONOSPACED_FONT, 20);
+	private Font secondaryFont = Assets.font(Assets.MONOSPACED_FONT, 16);
 
 	/**
 	 * Constructor calls the setUpPane method and local WordleGUI instance variable
@@ -107,7 +107,7 @@ public class MultiWordle extends VBox {
 
 		Button okButton = new Button("Ok");
 		okButton.setStyle("-fx-text-fill: #ffffff; -fx-background-color: #3a3a3c; -fx-background-radius: 10px");
-		okButton.setFont(Font.loadFont("file:src/fonts/Helvetica Monospaced W06 Bold.ttf", 30));
+		okButton.setFont(Assets.font(Assets.MONOSPACED_FONT, 30));
 		okButton.setFocusTraversable(false);
 		okButton.setOnAction((event) -> {
 			setupInitial();
@@ -128,21 +128,16 @@ public class MultiWordle extends VBox {
 	}
 
 	/**
-	 * Initializes the board and keyboard and calls setUpStage
+	 * Shows the board and keyboard of the selected size
 	 */
 	private void setupInitial() {
-		gui.setBoard(new BoardDisplay(colSelcted, rowSelected, gui));
-		gui.setKeyboard(new KeyboardDisplay(gui.getBoard(), colSelcted));
-		gui.setColSize(colSelcted);
-		gui.setRowSize(rowSelected);
-		gui.setUpStage();
+		gui.showBoard(rowSelected, colSelcted);
 		// starts board at the correct color
 		if (gui.getUser().isDarkMode()) {
 			gui.setDarkMode();
 		}
 		if (gui.getUser().isContrastMode()) {
 			gui.setContrastMode(true);
-			gui.getKeyboard().setContrastMode();
 			gui.getBoard().setContrastMode();
 		}
 		multiWordleStage.close();
@@ -0,0 +1,198 @@
+/**
+ * The colors of the game for one theme. There is one palette for each
+ * combination of dark and contrast mode, built once with every Color,
+ * Background and Border already made, so displays share them instead of
+ * creating their own. The colors are read from the names wordle.css gives
+ * them, so what is drawn or styled in code always matches the stylesheet.
+ *
+ * Date: 10/19/2026
+ *
+ * @author Connor Kippes, Luke Laurie, Sean Eddy, Zachary Hansen
+ */
+
+package src.view;
+
+import java.io.IOException;
+import java.net.URL;
+import java.util.HashMap;
+
+import javafx.css.CssParser;
+import javafx.css.Declaration;
+import javafx.css.Rule;
+import javafx.geometry.Insets;
+import javafx.scene.layout.Background;
+import javafx.scene.layout.BackgroundFill;
+import javafx.scene.layout.Border;
+import javafx.scene.layout.BorderStroke;
+import javafx.scene.layout.BorderStrokeStyle;
+import javafx.scene.layout.BorderWidths;
+import javafx.scene.layout.CornerRadii;
+import javafx.scene.paint.Color;
+
+public final class Palette {
+	// read before the palettes are built
+	private static final HashMap<String, Color> NAMED_COLORS = readNamedColors();
+	private static final Palette LIGHT = new Palette(false, false);
+	private static final Palette DARK = new Palette(true, false);
+	private static final Palette LIGHT_CONTRAST = new Palette(false, true);
+	private static final Palette DARK_CONTRAST = new Palette(true, true);
+
+	public final boolean isDarkMode;
+	public final boolean isContrastMode;
+	public final Color background;
+	public final Color text;
+	public final Color labelText;
+	public final Color mutedText;
+	public final Color divider;
+	public final Color toggleOff;
+	public final Color correct;
+	public final Color present;
+	public final Color absent;
+	public final Color tileText;
+	public final Color evaluatedText;
+	public final Color tileBackground;
+	public final Color emptyBorder;
+	public final Color filledBorder;
+	public final Color keyUnused;
+	public final Color keyText;
+	public final Color messageText;
+	public final Color messageBackground;
+	public final Color statsBar;
+	public final Background backgroundFill;
+	public final Background correctFill;
+	public final Background statsBarFill;
+	public final Background messageFill;
+	public final Background buttonFill;
+	public final Border dividerLine;
+
+	/**
+	 * Builds the palette of one theme.
+	 *
+	 * @param isDarkMode     is true for the dark theme.
+	 * @param isContrastMode is true for the high contrast theme.
+	 */
+	private Palette(boolean isDarkMode, boolean isContrastMode) {
+		this.isDarkMode = isDarkMode;
+		this.isContrastMode = isContrastMode;
+		background = themed("background");
+		text = themed("text");
+		labelText = themed("label-text");
+		mutedText = themed("muted-text");
+		divider = themed("divider");
+		toggleOff = themed("toggle-off");
+		correct = themed("correct");
+		present = themed("present");
+		absent = themed("absent");
+		tileText = themed("tile-text");
+		evaluatedText = themed("evaluated-text");
+		tileBackground = background;
+		emptyBorder = themed("empty-border");
+		filledBorder = themed("filled-border");
+		keyUnused = themed("key-unused");
+		keyText = tileText;
+		messageText = themed("message-text");
+		messageBackground = themed("message-background");
+		statsBar = themed("stats-bar");
+		backgroundFill = fill(background);
+		correctFill = fill(correct);
+		statsBarFill = fill(statsBar);
+		messageFill = fill(messageBackground);
+		buttonFill = fill(isDarkMode ? text : toggleOff);
+		dividerLine = new Border(new BorderStroke(divider, BorderStrokeStyle.SOLID, CornerRadii.EMPTY,
+				new BorderWidths(0, 0, 1, 0)));
+	}
+
+	/**
+	 * Returns the palette of a theme.
+	 *
+	 * @param isDarkMode     is true for the dark theme.
+	 * @param isContrastMode is true for the high contrast theme.
+	 *
+	 * @return the shared palette.
+	 */
+	public static Palette of(boolean isDarkMode, boolean isContrastMode) {
+		if (isDarkMode) {
+			return isContrastMode ? DARK_CONTRAST : DARK;
+		}
+		return isContrastMode ? LIGHT_CONTRAST : LIGHT;
+	}
+
+	/**
+	 * Returns the fill color of a tile or key in a state.
+	 *
+	 * @param state is one of the states of a Letter.
+	 * @param isKey is true for a keyboard key.
+	 *
+	 * @return the color.
+	 */
+	public Color stateColor(String state, boolean isKey) {
+		switch (state) {
+		case Letter.CORRECT:
+			return correct;
+		case Letter.PRESENT:
+			return present;
+		case Letter.ABSENT:
+			return absent;
+		default:
+			return isKey ? keyUnused : tileBackground;
+		}
+	}
+
+	/**
+	 * Finds the color of this theme with a name from the stylesheet. A -contrast-
+	 * color is used in contrast mode, then the -dark- or -light- color of the
+	 * mode, then the color every theme shares.
+	 *
+	 * @param name is the name of the color without its prefix.
+	 *
+	 * @return the color, or gray if the stylesheet doesn't name it.
+	 */
+	private Color themed(String name) {
+		String[] names = { isContrastMode ? "-contrast-" + name : null,
+				(isDarkMode ? "-dark-" : "-light-") + name, "-" + name };
+		for (String curName : names) {
+			if (curName != null && NAMED_COLORS.containsKey(curName)) {
+				return NAMED_COLORS.get(curName);
+			}
+		}
+		System.out.println("Color " + name + " is not named in " + Theme.STYLESHEET);
+		return Color.GRAY;
+	}
+
+	/**
+	 * Reads the colors the stylesheet names on the root of the windows.
+	 *
+	 * @return each color by its name.
+	 */
+	private static HashMap<String, Color> readNamedColors() {
+		HashMap<String, Color> namedColors = new HashMap<>();
+		try {
+			for (Rule rule : new CssParser().parse(new URL(Theme.STYLESHEET)).getRules()) {
+				for (Declaration declaration : rule.getDeclarations()) {
+					String property = declaration.getProperty();
+					if (!property.startsWith("-") || property.startsWith("-fx-")) {
+						continue;
+					}
+					Object value = declaration.getParsedValue().convert(null);
+					if (value instanceof Color) {
+						namedColors.put(property, (Color) value);
+					}
+				}
+			}
+		} catch (IOException e) {
+			System.out.println("Reading the colors of " + Theme.STYLESHEET + " failed: " + e.getMessage());
+		}
+		return namedColors;
+	}
+
+	/**
+	 * Makes a background of one color.
+	 *
+	 * @param color is the color of the background.
+	 *
+	 * @return the background.
+	 */
+	private static Background fill(Color color) {
+		return new Background(new BackgroundFill(color, CornerRadii.EMPTY, Insets.EMPTY));
+	}
+}
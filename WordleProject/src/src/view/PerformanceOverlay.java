@@ -0,0 +1,185 @@
+/**
+ * A debug overlay in the corner of the game window showing how far apart the
+ * pulses of the scene are, how long their CSS and layout passes take and how
+ * long guesses take to reach the screen. F3 shows or hides it and F4 writes
+ * every measurement to performance.txt, followed by the Metrics. Nothing is
+ * measured while the overlay is hidden.
+ *
+ * Date: 10/19/2026
+ *
+ * @author Connor Kippes, Luke Laurie, Sean Eddy, Zachary Hansen
+ */
+
+package src.view;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import javafx.animation.AnimationTimer;
+import javafx.geometry.Pos;
+import javafx.scene.Scene;
+import javafx.scene.control.Label;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
+import javafx.scene.layout.StackPane;
+import src.model.MetricHistogram;
+import src.model.Metrics;
+
+public class PerformanceOverlay extends Label {
+	public static final String EXPORT_FILE = "performance.txt";
+	private static final int SAMPLES = 600;
+	private static final long REFRESH_NANOS = 250_000_000;
+	private static MetricHistogram pulses = new MetricHistogram("pulse interval us", SAMPLES);
+	private static MetricHistogram layouts = new MetricHistogram("css and layout us", SAMPLES);
+	private static MetricHistogram guesses = new MetricHistogram("guess to render us", SAMPLES);
+	private static MetricHistogram queueDepths = new MetricHistogram("animation queue depth", SAMPLES);
+	private static boolean isEnabled = false;
+	// when the last guess was submitted, 0 once it has been rendered
+	private static long guessSubmitted = 0;
+	private long lastPulse = 0;
+	private long lastRefresh = 0;
+	private long layoutStart = 0;
+	private AnimationTimer timer = new AnimationTimer() {
+		@Override
+		public void handle(long now) {
+			// the time between pulses, which includes the idle time between them
+			if (lastPulse != 0) {
+				pulses.record((now - lastPulse) / 1000);
+			}
+			lastPulse = now;
+			queueDepths.record(AnimationScheduler.getPendingCount());
+			if (now - lastRefresh >= REFRESH_NANOS) {
+				lastRefresh = now;
+				refresh();
+			}
+		}
+	};
+
+	/**
+	 * Makes the hidden overlay.
+	 */
+	private PerformanceOverlay() {
+		// the overlay is outside the root the stylesheet is put on
+		this.getStylesheets().add(Theme.STYLESHEET);
+		this.getStyleClass().add("performance-overlay");
+		this.setMouseTransparent(true);
+		this.setVisible(false);
+		StackPane.setAlignment(this, Pos.TOP_LEFT);
+	}
+
+	/**
+	 * Puts the overlay over everything in a scene and listens for its keys. The
+	 * pulses of the scene are measured while the overlay is showing.
+	 *
+	 * @param scene is the scene of the game window.
+	 */
+	public static void install(Scene scene) {
+		PerformanceOverlay overlay = new PerformanceOverlay();
+		scene.setRoot(new StackPane(scene.getRoot(), overlay));
+		scene.addEventFilter(KeyEvent.KEY_PRESSED, event -> {
+			if (event.getCode() == KeyCode.F3) {
+				overlay.toggle();
+				event.consume();
+			} else if (event.getCode() == KeyCode.F4) {
+				export(Paths.get(EXPORT_FILE));
+				event.consume();
+			}
+		});
+		scene.addPreLayoutPulseListener(() -> overlay.layoutStart = System.nanoTime());
+		scene.addPostLayoutPulseListener(() -> {
+			if (!isEnabled) {
+				return;
+			}
+			long now = System.nanoTime();
+			layouts.record((now - overlay.layoutStart) / 1000);
+			if (guessSubmitted != 0) {
+				guesses.record((now - guessSubmitted) / 1000);
+				guessSubmitted = 0;
+			}
+		});
+	}
+
+	/**
+	 * Marks that the verdict on a guess was just shown, so the next finished
+	 * pulse records how long the guess took to reach the screen.
+	 *
+	 * @param submittedNanos is the System.nanoTime when the guess was submitted.
+	 */
+	public static void markGuess(long submittedNanos) {
+		if (isEnabled) {
+			guessSubmitted = submittedNanos;
+		}
+	}
+
+	/**
+	 * Writes every measurement to a file.
+	 *
+	 * @param file is the file to write.
+	 */
+	public static void export(Path file) {
+		try {
+			Files.writeString(file, report());
+			System.out.println("Performance written to " + file.toAbsolutePath());
+		} catch (IOException e) {
+			e.printStackTrace();
+		}
+	}
+
+	/**
+	 * Returns every measurement with its percentiles and buckets, followed by the
+	 * milliseconds each startup phase took.
+	 *
+	 * @return the text of the report.
+	 */
+	public static String report() {
+		String report = pulses.toString() + layouts + guesses + queueDepths + Metrics.dump();
+		StartupLoader startup = WordleGUI.getStartup();
+		if (startup != null) {
+			report += "startup ms " + startup.getTimings() + System.lineSeparator();
+		}
+		return report;
+	}
+
+	/**
+	 * Shows or hides the overlay, starting or stopping the measurements.
+	 */
+	private void toggle() {
+		isEnabled = !isEnabled;
+		this.setVisible(isEnabled);
+		if (isEnabled) {
+			lastPulse = 0;
+			timer.start();
+		} else {
+			timer.stop();
+			guessSubmitted = 0;
+		}
+	}
+
+	/**
+	 * Shows the latest percentiles of each measurement.
+	 */
+	private void refresh() {
+		this.setText(String.format(
+				"pulse   p50 %5.1f  p95 %5.1f  max %5.1f ms%n"
+						+ "layout  p50 %5.1f  p95 %5.1f  max %5.1f ms%n"
+						+ "guess   p50 %5.1f  p95 %5.1f  max %5.1f ms%n"
+						+ "queue   now %d  max %d%n" + "F4 writes " + EXPORT_FILE,
+				millis(pulses.getPercentile(50)), millis(pulses.getPercentile(95)), millis(pulses.getMax()),
+				millis(layouts.getPercentile(50)), millis(layouts.getPercentile(95)), millis(layouts.getMax()),
+				millis(guesses.getPercentile(50)), millis(guesses.getPercentile(95)), millis(guesses.getMax()),
+				AnimationScheduler.getPendingCount(), queueDepths.getMax()));
+	}
+
+	/**
+	 * Converts microseconds to milliseconds.
+	 *
+	 * @param micros is a time in microseconds.
+	 *
+	 * @return the time in milliseconds.
+	 */
+	private static double millis(long micros) {
+		return micros / 1000.0;
+	}
+}
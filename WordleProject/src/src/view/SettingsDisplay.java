@@ -9,7 +9,6 @@
 
 package src.view;
 
-import java.util.HashMap;
 import java.util.Map;
 
 import javafx.event.Event;
@@ -20,10 +19,6 @@ import javafx.scene.control.Button;
 import javafx.scene.control.Label;
 import javafx.scene.layout.Border;
 import javafx.scene.layout.BorderPane;
-import javafx.scene.layout.BorderStroke;
-import javafx.scene.layout.BorderStrokeStyle;
-import javafx.scene.layout.BorderWidths;
-import javafx.scene.layout.CornerRadii;
 import javafx.scene.layout.StackPane;
 import javafx.scene.layout.VBox;
 import javafx.scene.paint.Color;
@@ -65,9 +60,8 @@ public class SettingsDisplay extends VBox {
 	private boolean darkOn;
 	private boolean contrastOn;
 	private boolean hardOn;
-	private String onColor;
-	private String offColor;
-	private Map<String, String> colors = new HashMap<String, String>();
+	private Color onColor;
+	private Color offColor;
 	
 	/**
 	 * Constructor sets up all of the buttons, labels, formatting, and other things in the settings display
@@ -75,22 +69,13 @@ public class SettingsDisplay extends VBox {
 	 * @param gui the main WordleGUI
 	 */
 	public SettingsDisplay(WordleGUI gui) {
-		colors.put("Green", "#6aaa64");
-		colors.put("Orange", "#f5793a");
-		colors.put("Gray", "#878a8c");
-		colors.put("dm Gray", "#565758");
-		colors.put("Black", "#232323");
-		colors.put("Under Gray", "#787c7e");
-		colors.put("dm Under Gray", "#818384");
-		
-		
 		this.setSpacing(10);
 		this.setPadding(new Insets(25, 25, 25, 25));
 		darkOn = gui.getDarkMode();
 		contrastOn = gui.getContrastMode();
 		hardOn = gui.getHardMode();
-		onColor = (contrastOn ? colors.get("Orange") : colors.get("Green"));
-		offColor = (darkOn ? colors.get("dm Gray") : colors.get("Gray"));
+		onColor = Palette.of(darkOn, contrastOn).correct;
+		offColor = Palette.of(darkOn, contrastOn).toggleOff;
 		updateDarkMode();
 		
 		Font labelFont = Font.font("Arial", 16.8);
@@ -106,7 +91,7 @@ public class SettingsDisplay extends VBox {
 		underContrastLabel.setFont(underLabelFont);
 		hardLabel.setFont(labelFont);
 		underHardLabel.setFont(underLabelFont);
-		settingsLabel.setFont(Font.loadFont("file:src/fonts/Helvetica Monospaced W06 Bold.ttf", 15.9));
+		settingsLabel.setFont(Assets.font(Assets.MONOSPACED_FONT, 15.9));
 		
 		this.getChildren().add(settingsLabel);
 		this.setAlignment(Pos.TOP_CENTER);
@@ -132,7 +117,7 @@ public class SettingsDisplay extends VBox {
 		darkBack.setHeight(backHeight);
 		darkBack.setArcHeight(darkBack.getHeight());
 		darkBack.setArcWidth(darkBack.getHeight());
-		darkBack.setFill(Color.valueOf((darkOn ? onColor : offColor)));
+		darkBack.setFill(darkOn ? onColor : offColor);
 
 		darkSwitch.getChildren().addAll(darkBack, darkButton);
 		darkSwitch.setAlignment(darkButton, (darkOn ? Pos.CENTER_RIGHT : Pos.CENTER_LEFT));
@@ -147,8 +132,7 @@ public class SettingsDisplay extends VBox {
 		resetLabelPane.getChildren().add(resetIndent);
 		resetButton.setText("New Game");
 		resetButton.setFont(Font.font("Arial", 14));
-		resetButton.setStyle(darkOn ? "-fx-text-fill: " + colors.get("Black") + " ; -fx-background-color: #ffffff" :
-							   "-fx-text-fill: #ffffff" + " ; -fx-background-color: " + colors.get("Gray") );
+		updateResetButton();
 		resetButton.setPadding(new Insets(2, 2, 2.5, 2));
 		resetButton.setFocusTraversable(false);
 
@@ -172,7 +156,7 @@ public class SettingsDisplay extends VBox {
 		contrastBack.setHeight(backHeight);
 		contrastBack.setArcHeight(contrastBack.getHeight());
 		contrastBack.setArcWidth(contrastBack.getHeight());
-		contrastBack.setFill(Color.valueOf((contrastOn ? onColor : offColor)));
+		contrastBack.setFill(contrastOn ? onColor : offColor);
 
 		contrastSwitch.getChildren().addAll(contrastBack, contrastButton);
 		contrastSwitch.setAlignment(contrastButton, (contrastOn ? Pos.CENTER_RIGHT : Pos.CENTER_LEFT));
@@ -198,7 +182,7 @@ public class SettingsDisplay extends VBox {
 		hardBack.setHeight(backHeight);
 		hardBack.setArcHeight(hardBack.getHeight());
 		hardBack.setArcWidth(hardBack.getHeight());
-		hardBack.setFill(Color.valueOf((hardOn ? onColor : offColor)));
+		hardBack.setFill(hardOn ? onColor : offColor);
 
 		hardSwitch.getChildren().addAll(hardBack, hardButton);
 		hardSwitch.setAlignment(hardButton, (hardOn ? Pos.CENTER_RIGHT : Pos.CENTER_LEFT));
@@ -212,8 +196,7 @@ public class SettingsDisplay extends VBox {
 		
 		this.getChildren().addAll(errorPane, darkPane, contrastPane, resetPane);
 		
-		Border underLine = new Border(new BorderStroke(Color.valueOf(darkOn ? "#303031" : "#dee0e3"), BorderStrokeStyle.SOLID, CornerRadii.EMPTY,
-				new BorderWidths(0, 0, 1, 0)));
+		Border underLine = Palette.of(darkOn, contrastOn).dividerLine;
 		hardPane.setBorder(underLine);
 		darkPane.setBorder(underLine);
 		contrastPane.setBorder(underLine);
@@ -249,30 +232,28 @@ public class SettingsDisplay extends VBox {
 		public void handle(Event ae) {
 			if (darkOn) {
 				darkSwitch.setAlignment(darkButton, Pos.CENTER_LEFT);
-				offColor = colors.get("Gray");
-				darkBack.setFill(Color.valueOf(offColor));
-				resetButton.setStyle("-fx-text-fill: #ffffff" + " ; -fx-background-color: " + colors.get("Gray"));
+				offColor = Palette.of(false, contrastOn).toggleOff;
+				darkBack.setFill(offColor);
 
 				if (!contrastOn) {
-					contrastBack.setFill(Color.valueOf(offColor));
+					contrastBack.setFill(offColor);
 				}
 				if (!hardOn) {
-					hardBack.setFill(Color.valueOf(offColor));
+					hardBack.setFill(offColor);
 				}
 				darkOn = false;
 				gui.setNonDarkMode();
 				updateDarkMode();
 			} else {
 				darkSwitch.setAlignment(darkButton, Pos.CENTER_RIGHT);
-				offColor = colors.get("dm Gray");
-				darkBack.setFill(Color.valueOf(onColor));
-				resetButton.setStyle("-fx-text-fill: " + colors.get("Black") + " ; -fx-background-color: #ffffff");
+				offColor = Palette.of(true, contrastOn).toggleOff;
+				darkBack.setFill(onColor);
 
 				if (!contrastOn) {
-					contrastBack.setFill(Color.valueOf(offColor));
+					contrastBack.setFill(offColor);
 				}
 				if (!hardOn) {
-					hardBack.setFill(Color.valueOf(offColor));
+					hardBack.setFill(offColor);
 				}
 				darkOn = true;
 				gui.setDarkMode();
@@ -287,22 +268,31 @@ public class SettingsDisplay extends VBox {
 	 * @author Connor Kippes, Luke Laurie, Sean Eddy, Zachary Hansen
 	 */
 	private void updateDarkMode() {
-		this.setStyle("-fx-background-color: " + (darkOn ? "#121213" : "white") + ";");
-		settingsLabel.setTextFill(darkOn ? Color.WHITE : Color.BLACK);
-		resetLabel.setTextFill(darkOn ? Color.WHITE : Color.BLACK);
-		darkLabel.setTextFill(darkOn ? Color.WHITE : Color.valueOf(colors.get("Black")));
-		contrastLabel.setTextFill(darkOn ? Color.WHITE : Color.valueOf(colors.get("Black")));
-		underContrastLabel.setTextFill(darkOn ? Color.valueOf(colors.get("dm Under Gray")) : Color.valueOf(colors.get("Under Gray")));
-		hardLabel.setTextFill(darkOn ? Color.WHITE : Color.valueOf(colors.get("Black")));
-		underHardLabel.setTextFill(darkOn ? Color.valueOf(colors.get("dm Under Gray")) : Color.valueOf(colors.get("Under Gray")));
-		Border underLine = new Border(new BorderStroke(Color.valueOf(darkOn ? "#303031" : "#dee0e3"), BorderStrokeStyle.SOLID, CornerRadii.EMPTY,
-				new BorderWidths(0, 0, 1, 0)));
+		Palette palette = Palette.of(darkOn, contrastOn);
+		this.setBackground(palette.backgroundFill);
+		settingsLabel.setTextFill(palette.text);
+		resetLabel.setTextFill(palette.text);
+		darkLabel.setTextFill(palette.labelText);
+		contrastLabel.setTextFill(palette.labelText);
+		underContrastLabel.setTextFill(palette.mutedText);
+		hardLabel.setTextFill(palette.labelText);
+		underHardLabel.setTextFill(palette.mutedText);
+		updateResetButton();
+		Border underLine = palette.dividerLine;
 		hardPane.setBorder(underLine);
 		darkPane.setBorder(underLine);
 		contrastPane.setBorder(underLine);
 		resetPane.setBorder(underLine);
 	}
 	
+	/**
+	 * sets the colors of the new game button for the current theme
+	 */
+	private void updateResetButton() {
+		resetButton.setTextFill(darkOn ? Palette.of(false, contrastOn).labelText : Color.WHITE);
+		resetButton.setBackground(Palette.of(darkOn, contrastOn).buttonFill);
+	}
+
 	/**
 	 * contrast mode handler class for toggling contrast mode
 	 * 
@@ -324,18 +314,16 @@ public class SettingsDisplay extends VBox {
 				}
 
 				gui.setContrastMode(false);
-
-				gui.getKeyboard().setNonContrastMode();
 				gui.getBoard().setNonContrastMode();
 
 				contrastSwitch.setAlignment(contrastButton, Pos.CENTER_LEFT);
-				onColor = colors.get("Green");
-				contrastBack.setFill(Color.valueOf(offColor));
+				onColor = Palette.of(darkOn, false).correct;
+				contrastBack.setFill(offColor);
 				if (darkOn) {
-					darkBack.setFill(Color.valueOf(onColor));
+					darkBack.setFill(onColor);
 				}
 				if (hardOn) {
-					hardBack.setFill(Color.valueOf(onColor));
+					hardBack.setFill(onColor);
 				}
 				contrastOn = false;
 			} else {
@@ -351,17 +339,15 @@ public class SettingsDisplay extends VBox {
 				}
 
 				gui.setContrastMode(true);
-
-				gui.getKeyboard().setContrastMode();
 				gui.getBoard().setContrastMode();
 				contrastSwitch.setAlignment(contrastButton, Pos.CENTER_RIGHT);
-				onColor = colors.get("Orange");
-				contrastBack.setFill(Color.valueOf(onColor));
+				onColor = Palette.of(darkOn, true).correct;
+				contrastBack.setFill(onColor);
 				if (darkOn) {
-					darkBack.setFill(Color.valueOf(onColor));
+					darkBack.setFill(onColor);
 				}
 				if (hardOn) {
-					hardBack.setFill(Color.valueOf(onColor));
+					hardBack.setFill(onColor);
 				}
 				contrastOn = true;
 			}
@@ -380,7 +366,7 @@ public class SettingsDisplay extends VBox {
 				if (gui.getBoard().getCurRow() == 0) {
 					gui.setHardMode(false);
 					hardSwitch.setAlignment(hardButton, Pos.CENTER_LEFT);
-					hardBack.setFill(Color.valueOf(offColor));
+					hardBack.setFill(offColor);
 					hardOn = false;
 				} else {
 					gui.getBoard().popUpErrorMessage("Hard mode can only be enabled at the start of a round", errorPane);
@@ -389,7 +375,7 @@ public class SettingsDisplay extends VBox {
 				if (gui.getBoard().getCurRow() == 0) {
 					gui.setHardMode(true);
 					hardSwitch.setAlignment(hardButton, Pos.CENTER_RIGHT);
-					hardBack.setFill(Color.valueOf(onColor));
+					hardBack.setFill(onColor);
 					hardOn = true;
 				} else {
 					gui.getBoard().popUpErrorMessage("Hard mode can only be enabled at the start of a round", errorPane);
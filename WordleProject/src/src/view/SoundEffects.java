@@ -0,0 +1,103 @@
+/**
+ * Plays the sound effects of the game. Every effect is decoded once into one
+ * AudioClip, so playing one costs nothing more than starting the clip. A clip
+ * mixes its own overlapping plays, so an effect played again while it is still
+ * sounding plays over itself instead of cutting it off.
+ *
+ * Date: 10/19/2026
+ *
+ * @author Connor Kippes, Luke Laurie, Sean Eddy, Zachary Hansen
+ */
+
+package src.view;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javafx.scene.media.AudioClip;
+
+public class SoundEffects {
+	public static final String FLIP = "flipLetter.mp3";
+	public static final String POP = "popupLetter.mp3";
+	public static final String NO_WORD = "noWord.mp3";
+	public static final String WIN = "youWin.mp3";
+	public static final String LOSE = "youLose.mp3";
+	private static final String[] EFFECTS = { FLIP, POP, NO_WORD, WIN, LOSE };
+	private static final String SOUND_DIRECTORY = "src/soundEffects/";
+	private static ConcurrentHashMap<String, AudioClip> clips = new ConcurrentHashMap<>();
+	// effects that could not be loaded, which are skipped instead of loaded again
+	private static Set<String> unplayable = ConcurrentHashMap.newKeySet();
+	private static boolean isMuted = false;
+
+	/**
+	 * Starts decoding every sound effect, each on its own task.
+	 *
+	 * @return a future that completes once every effect is decoded.
+	 */
+	public static CompletableFuture<Void> preload() {
+		ArrayList<CompletableFuture<?>> loads = new ArrayList<>();
+		for (String effect : EFFECTS) {
+			loads.add(CompletableFuture.runAsync(() -> clip(effect)));
+		}
+		return CompletableFuture.allOf(loads.toArray(new CompletableFuture<?>[0]));
+	}
+
+	/**
+	 * Plays a sound effect, over any play of it that is still sounding.
+	 *
+	 * @param effect is the file name of the effect.
+	 */
+	public static void play(String effect) {
+		if (isMuted) {
+			return;
+		}
+		AudioClip clip = clip(effect);
+		if (clip != null) {
+			clip.play();
+		}
+	}
+
+	/**
+	 * Turns every sound effect off or on.
+	 *
+	 * @param muted is true to turn the sound effects off.
+	 */
+	public static void setMuted(boolean muted) {
+		isMuted = muted;
+	}
+
+	/**
+	 * Returns the clip of an effect, decoding the effect the first time.
+	 *
+	 * @param effect is the file name of the effect.
+	 *
+	 * @return the clip of the effect, or null if it can't be played.
+	 */
+	private static AudioClip clip(String effect) {
+		if (unplayable.contains(effect)) {
+			return null;
+		}
+		return clips.computeIfAbsent(effect, SoundEffects::load);
+	}
+
+	/**
+	 * Decodes an effect.
+	 *
+	 * @param effect is the file name of the effect.
+	 *
+	 * @return the clip of the effect, or null if it could not be loaded.
+	 */
+	private static AudioClip load(String effect) {
+		try {
+			return new AudioClip(new File(SOUND_DIRECTORY + effect).toURI().toString());
+		} catch (Exception e) {
+			// no sound is played when the platform can't play audio
+			System.out.println("Sound effect " + effect + " could not be loaded");
+			unplayable.add(effect);
+			return null;
+		}
+	}
+}
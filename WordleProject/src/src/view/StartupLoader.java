@@ -0,0 +1,141 @@
+/**
+ * Loads what the game needs at startup on background threads while the size
+ * picker is already showing. The dictionary, the user store and the assets are
+ * each loaded on their own thread and the time each phase took is recorded.
+ * The game only waits on a phase when it needs its result and it isn't loaded
+ * yet. The timings are part of the report of the PerformanceOverlay.
+ *
+ * Date: 10/19/2026
+ *
+ * @author Connor Kippes, Luke Laurie, Sean Eddy, Zachary Hansen
+ */
+
+package src.view;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import src.model.Word;
+
+public class StartupLoader {
+	public static final String DICTIONARY = "dictionary";
+	public static final String USERS = "users";
+	public static final String ASSETS = "assets";
+	public static final String WINDOW = "window";
+	private final long startNanos = System.nanoTime();
+	private Map<String, Long> phaseMillis = Collections.synchronizedMap(new LinkedHashMap<>());
+	private CompletableFuture<Void> dictionary;
+	private CompletableFuture<Void> users;
+	private CompletableFuture<Void> assets;
+
+	/**
+	 * Starts loading the dictionary, the user store and the assets, each on its
+	 * own thread.
+	 *
+	 * @param colSize   is the word length the dictionary is first used with.
+	 * @param readUsers opens the user store.
+	 */
+	public StartupLoader(int colSize, Runnable readUsers) {
+		AtomicInteger threadNumber = new AtomicInteger();
+		ExecutorService executor = Executors.newFixedThreadPool(3, task -> {
+			Thread thread = new Thread(task, "startup-" + threadNumber.incrementAndGet());
+			// loading never keeps the program from exiting
+			thread.setDaemon(true);
+			return thread;
+		});
+		dictionary = load(DICTIONARY, () -> Word.getInstance(colSize), executor);
+		users = load(USERS, readUsers, executor);
+		assets = load(ASSETS, () -> CompletableFuture.allOf(Assets.preload(), SoundEffects.preload()).join(),
+				executor);
+		// the submitted phases still run, the threads end once they are done
+		executor.shutdown();
+	}
+
+	/**
+	 * Waits until the user store is open, returning right away once it is.
+	 */
+	public void awaitUsers() {
+		await(USERS, users);
+	}
+
+	/**
+	 * Waits until the dictionary is loaded, returning right away once it is.
+	 */
+	public void awaitDictionary() {
+		await(DICTIONARY, dictionary);
+	}
+
+	/**
+	 * Records the time from the start of the program until now as a phase.
+	 *
+	 * @param phase is the name of the phase.
+	 */
+	public void markPhase(String phase) {
+		phaseMillis.put(phase, (System.nanoTime() - startNanos) / 1_000_000);
+	}
+
+	/**
+	 * Returns the dictionary phase, which completes once the dictionary is loaded.
+	 *
+	 * @return the future of the dictionary.
+	 */
+	public CompletableFuture<Void> getDictionary() {
+		return dictionary;
+	}
+
+	/**
+	 * Returns the number of milliseconds each finished phase took, in the order
+	 * they finished. Waiting phases are named after the phase waited on.
+	 *
+	 * @return a copy of the phase timings.
+	 */
+	public Map<String, Long> getTimings() {
+		synchronized (phaseMillis) {
+			return new LinkedHashMap<>(phaseMillis);
+		}
+	}
+
+	/**
+	 * Runs one phase on the executor and records how long it took.
+	 *
+	 * @param phase    is the name of the phase.
+	 * @param task     is the work of the phase.
+	 * @param executor is the executor of the startup threads.
+	 *
+	 * @return a future that completes once the phase is done.
+	 */
+	private CompletableFuture<Void> load(String phase, Runnable task, ExecutorService executor) {
+		return CompletableFuture.runAsync(() -> {
+			long phaseStart = System.nanoTime();
+			try {
+				task.run();
+			} finally {
+				phaseMillis.put(phase, (System.nanoTime() - phaseStart) / 1_000_000);
+			}
+		}, executor);
+	}
+
+	/**
+	 * Waits for a phase, recording the time spent waiting when it wasn't done yet.
+	 *
+	 * @param phase  is the name of the phase.
+	 * @param future is the future of the phase.
+	 */
+	private void await(String phase, CompletableFuture<Void> future) {
+		if (future.isDone()) {
+			future.join();
+			return;
+		}
+		long waitStart = System.nanoTime();
+		try {
+			future.join();
+		} finally {
+			phaseMillis.merge(phase + " wait", (System.nanoTime() - waitStart) / 1_000_000, Long::sum);
+		}
+	}
+}
@@ -14,10 +14,7 @@ import java.util.HashMap;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.control.Label;
-import javafx.scene.layout.Background;
-import javafx.scene.layout.BackgroundFill;
 import javafx.scene.layout.BorderPane;
-import javafx.scene.layout.CornerRadii;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.VBox;
 import javafx.scene.paint.Color;
@@ -25,10 +22,10 @@ import javafx.scene.text.Font;
 import src.model.WordleUser;
 
 public class StatisticsDisplay extends VBox {
-	private Font mainLabelFont = Font.loadFont("file:src/fonts/Helvetica Monospaced W06 Bold.ttf", 14);
-	private Font numLabelFont = Font.loadFont("file:src/fonts/franklin-gothic-book.ttf", 42);
-	private Font underNumLabelFont = Font.loadFont("file:src/fonts/franklin-gothic-book.ttf", 12);
-	private Font distNumLabelFont = Font.loadFont("file:src/fonts/Helvetica Monospaced W06 Bold.ttf", 12);
+	private Font mainLabelFont = Assets.font(Assets.MONOSPACED_FONT, 14);
+	private Font numLabelFont = Assets.font(Assets.FRANKLIN_FONT, 42);
+	private Font underNumLabelFont = Assets.font(Assets.FRANKLIN_FONT, 12);
+	private Font distNumLabelFont = Assets.font(Assets.MONOSPACED_FONT, 12);
 	private WordleGUI gui;
 	private boolean isDarkMode;
 	private boolean isContrastMode;
@@ -52,13 +49,14 @@ public class StatisticsDisplay extends VBox {
 
 		this.setSpacing(30);
 		this.setPadding(new Insets(75, 75, 75, 75));
-		this.setStyle("-fx-background-color: " + (isDarkMode ? "#121213" : "white") + ";");
+		Palette palette = Palette.of(isDarkMode, isContrastMode);
+		this.setBackground(palette.backgroundFill);
 
 		VBox statsContainer = new VBox(0);
 
 		Label statsLabel = new Label("STATISTICS");
 		statsLabel.setFont(mainLabelFont);
-		statsLabel.setTextFill(isDarkMode ? Color.WHITE : Color.BLACK);
+		statsLabel.setTextFill(palette.text);
 		statsContainer.getChildren().add(statsLabel);
 
 		HBox statsBox = new HBox(30);
@@ -66,45 +64,45 @@ public class StatisticsDisplay extends VBox {
 		VBox gamesPlayedVBox = new VBox(0);
 		Label gamesPlayedValLabel = new Label(Integer.toString(wordleUser.getGamesPlayed()));
 		gamesPlayedValLabel.setFont(numLabelFont);
-		gamesPlayedValLabel.setTextFill(isDarkMode ? Color.WHITE : Color.BLACK);
+		gamesPlayedValLabel.setTextFill(palette.text);
 		gamesPlayedVBox.getChildren().add(gamesPlayedValLabel);
 		Label gamesPlayedLabel = new Label("Played");
 		gamesPlayedLabel.setAlignment(Pos.CENTER);
 		gamesPlayedLabel.setFont(underNumLabelFont);
-		gamesPlayedLabel.setTextFill(isDarkMode ? Color.WHITE : Color.BLACK);
+		gamesPlayedLabel.setTextFill(palette.text);
 		gamesPlayedVBox.getChildren().add(gamesPlayedLabel);
 		statsBox.getChildren().add(gamesPlayedVBox);
 
 		VBox winRateVBox = new VBox(0);
 		Label winRateValLabel = new Label(Integer.toString((int) Math.round(wordleUser.getWinRate() * 100)));
 		winRateValLabel.setFont(numLabelFont);
-		winRateValLabel.setTextFill(isDarkMode ? Color.WHITE : Color.BLACK);
+		winRateValLabel.setTextFill(palette.text);
 		winRateVBox.getChildren().add(winRateValLabel);
 		Label winRateLabel = new Label("Win %");
 		winRateLabel.setFont(underNumLabelFont);
-		winRateLabel.setTextFill(isDarkMode ? Color.WHITE : Color.BLACK);
+		winRateLabel.setTextFill(palette.text);
 		winRateVBox.getChildren().add(winRateLabel);
 		statsBox.getChildren().add(winRateVBox);
 
 		VBox curStreakVBox = new VBox(0);
 		Label curStreakValLabel = new Label(Integer.toString(wordleUser.getCurStreak()));
 		curStreakValLabel.setFont(numLabelFont);
-		curStreakValLabel.setTextFill(isDarkMode ? Color.WHITE : Color.BLACK);
+		curStreakValLabel.setTextFill(palette.text);
 		curStreakVBox.getChildren().add(curStreakValLabel);
 		Label curStreakLabel = new Label("Current\nStreak");
 		curStreakLabel.setFont(underNumLabelFont);
-		curStreakLabel.setTextFill(isDarkMode ? Color.WHITE : Color.BLACK);
+		curStreakLabel.setTextFill(palette.text);
 		curStreakVBox.getChildren().add(curStreakLabel);
 		statsBox.getChildren().add(curStreakVBox);
 
 		VBox maxStreakVBox = new VBox(0);
 		Label maxStreakValLabel = new Label(Integer.toString(wordleUser.getMaxStreak()));
 		maxStreakValLabel.setFont(numLabelFont);
-		maxStreakValLabel.setTextFill(isDarkMode ? Color.WHITE : Color.BLACK);
+		maxStreakValLabel.setTextFill(palette.text);
 		maxStreakVBox.getChildren().add(maxStreakValLabel);
 		Label maxStreakLabel = new Label("Max Streak");
 		maxStreakLabel.setFont(underNumLabelFont);
-		maxStreakLabel.setTextFill(isDarkMode ? Color.WHITE : Color.BLACK);
+		maxStreakLabel.setTextFill(palette.text);
 		maxStreakVBox.getChildren().add(maxStreakLabel);
 		statsBox.getChildren().add(maxStreakVBox);
 
@@ -115,7 +113,7 @@ public class StatisticsDisplay extends VBox {
 
 		Label guessDistributionLabel = new Label("GUESS DISTRIBUTION");
 		guessDistributionLabel.setFont(mainLabelFont);
-		guessDistributionLabel.setTextFill(isDarkMode ? Color.WHITE : Color.BLACK);
+		guessDistributionLabel.setTextFill(palette.text);
 		guessDistributionContainer.getChildren().add(guessDistributionLabel);
 
 		VBox guessDistributionsContainer = new VBox(5);
@@ -132,7 +130,7 @@ public class StatisticsDisplay extends VBox {
 
 			Label guessCountLabel = new Label(Integer.toString(key));
 			guessCountLabel.setPadding(new Insets(4, 4, 4, 4));
-			guessCountLabel.setTextFill(isDarkMode ? Color.WHITE : Color.BLACK);
+			guessCountLabel.setTextFill(palette.text);
 			guessCountLabel.setFont(distNumLabelFont);
 			guessDistributionRow.getChildren().add(guessCountLabel);
 
@@ -145,9 +143,7 @@ public class StatisticsDisplay extends VBox {
 			row.setRight(distCountLabel);
 
 			row.setPrefWidth(10 + (maxDistCount > 0 ? ((val / (double) maxDistCount) * 340) : 0));
-			row.setBackground(new Background(new BackgroundFill(((val == maxDistCount && maxDistCount != 0)
-					? (isContrastMode ? Color.valueOf("f5793a") : Color.valueOf("6aaa64"))
-					: Color.GRAY), CornerRadii.EMPTY, Insets.EMPTY)));
+			row.setBackground((val == maxDistCount && maxDistCount != 0) ? palette.correctFill : palette.statsBarFill);
 			guessDistributionRow.getChildren().add(row);
 
 			guessDistributionsContainer.getChildren().add(guessDistributionRow);
@@ -3,7 +3,6 @@ package src.view;
 import javafx.application.Application;
 import javafx.scene.Scene;
 import javafx.scene.control.Button;
-import javafx.scene.image.Image;
 import javafx.scene.layout.BorderPane;
 import javafx.scene.text.Font;
 import javafx.scene.text.FontPosture;
@@ -23,7 +22,7 @@ public class Test extends Application
 		
 		Button button = new Button("hello");
 		//button.setFont(Font.font("verdana", FontWeight.BOLD, FontPosture.REGULAR, 20));
-		button.setFont(Font.loadFont("file:src/fonts/Helvetica Monospaced W06 Bold.ttf", 19));
+		button.setFont(Assets.font(Assets.MONOSPACED_FONT, 19));
 		pane.setCenter(button);
 		
 		primaryStage.setScene(scene);
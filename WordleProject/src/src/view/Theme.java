@@ -0,0 +1,48 @@
+/**
+ * Connects the windows of the game to its stylesheet. The root of each window
+ * gets the stylesheet and the :dark and :contrast pseudo classes, so switching
+ * themes only changes the pseudo classes of the roots and leaves restyling the
+ * tiles and keys to the CSS engine.
+ *
+ * Date: 10/19/2026
+ *
+ * @author Connor Kippes, Luke Laurie, Sean Eddy, Zachary Hansen
+ */
+
+package src.view;
+
+import javafx.css.PseudoClass;
+import javafx.scene.Parent;
+
+public class Theme {
+	public static final String STYLESHEET = "file:src/styles/wordle.css";
+	private static final PseudoClass DARK = PseudoClass.getPseudoClass("dark");
+	private static final PseudoClass CONTRAST = PseudoClass.getPseudoClass("contrast");
+
+	/**
+	 * Adds the stylesheet to the root of a window and sets its theme.
+	 *
+	 * @param root           is the root of the window.
+	 * @param isDarkMode     is true if the window should be in dark mode.
+	 * @param isContrastMode is true if the window should be in contrast mode.
+	 */
+	public static void install(Parent root, boolean isDarkMode, boolean isContrastMode) {
+		if (!root.getStylesheets().contains(STYLESHEET)) {
+			root.getStylesheets().add(STYLESHEET);
+			root.getStyleClass().add("wordle-root");
+		}
+		apply(root, isDarkMode, isContrastMode);
+	}
+
+	/**
+	 * Sets the theme of a window whose root has the stylesheet.
+	 *
+	 * @param root           is the root of the window.
+	 * @param isDarkMode     is true if the window should be in dark mode.
+	 * @param isContrastMode is true if the window should be in contrast mode.
+	 */
+	public static void apply(Parent root, boolean isDarkMode, boolean isContrastMode) {
+		root.pseudoClassStateChanged(DARK, isDarkMode);
+		root.pseudoClassStateChanged(CONTRAST, isContrastMode);
+	}
+}
@@ -0,0 +1,141 @@
+/**
+ * Builds the animations of the board out of transitions that only change the
+ * rotate, translate and scale of the tiles, so they never cause a layout pass.
+ * The speed of every animation can be changed, and a speed of zero makes them
+ * finish right away for replays and tests.
+ * 
+ * Date: 10/19/2026
+ * 
+ * @author Connor Kippes, Luke Laurie, Sean Eddy, Zachary Hansen
+ */
+
+package src.view;
+
+import java.util.ArrayList;
+
+import javafx.animation.Animation;
+import javafx.animation.ParallelTransition;
+import javafx.animation.PauseTransition;
+import javafx.animation.RotateTransition;
+import javafx.animation.ScaleTransition;
+import javafx.animation.SequentialTransition;
+import javafx.animation.TranslateTransition;
+import javafx.scene.Node;
+import javafx.scene.transform.Rotate;
+import javafx.util.Duration;
+
+public class TileAnimations {
+	private static final double FLIP_MILLIS = 500;
+	private static final double FLIP_STAGGER_MILLIS = 390;
+	private static final double SHAKE_STEP_MILLIS = 60;
+	private static final double SHAKE_DISTANCE = 3.5;
+	private static final double POP_MILLIS = 50;
+	private static final double POP_SCALE = 1.06;
+	private static double speed = 1;
+
+	/**
+	 * Builds the reveal of a guessed row. Each tile gets its color and flips a
+	 * little after the one before it. When not animating the colors are set
+	 * right away and an empty animation is returned.
+	 * 
+	 * @param curWord    is the row that was guessed.
+	 * @param placements is the colors of each letter of the guess.
+	 * @param animate    is false when the guess was read in from the
+	 *                   serialization.
+	 * 
+	 * @return the reveal animation.
+	 */
+	public static Animation reveal(WordDisplay curWord, ArrayList<String> placements, boolean animate) {
+		ParallelTransition reveal = new ParallelTransition();
+		for (int i = 0; i < placements.size(); i++) {
+			Letter curLetter = curWord.getLetter(i);
+			String placement = placements.get(i);
+			if (!animate || speed == 0) {
+				curLetter.setPlacement(placement);
+				continue;
+			}
+			PauseTransition wait = new PauseTransition(scaled(i * FLIP_STAGGER_MILLIS));
+			wait.setOnFinished(event -> {
+				curLetter.setPlacement(placement);
+				SoundEffects.play(SoundEffects.FLIP);
+			});
+			RotateTransition flip = new RotateTransition(scaled(FLIP_MILLIS), curLetter);
+			flip.setAxis(Rotate.X_AXIS);
+			flip.setFromAngle(-180);
+			flip.setToAngle(-360);
+			reveal.getChildren().add(new SequentialTransition(wait, flip));
+		}
+		return reveal;
+	}
+
+	/**
+	 * Builds the shake of a row that could not be guessed.
+	 * 
+	 * @param curWord is the row to shake.
+	 * 
+	 * @return the shake animation.
+	 */
+	public static Animation shake(Node curWord) {
+		SequentialTransition shake = new SequentialTransition();
+		for (int i = 0; i < 7; i++) {
+			TranslateTransition step = new TranslateTransition(scaled(SHAKE_STEP_MILLIS), curWord);
+			step.setToX(i % 2 == 0 ? -SHAKE_DISTANCE : SHAKE_DISTANCE);
+			shake.getChildren().add(step);
+		}
+		TranslateTransition settle = new TranslateTransition(scaled(SHAKE_STEP_MILLIS / 2), curWord);
+		settle.setToX(0);
+		shake.getChildren().add(settle);
+		return shake;
+	}
+
+	/**
+	 * Builds the pop of a letter that was just typed.
+	 * 
+	 * @param curLetter is the letter to pop.
+	 * 
+	 * @return the pop animation.
+	 */
+	public static Animation pop(Node curLetter) {
+		ScaleTransition pop = new ScaleTransition(scaled(POP_MILLIS), curLetter);
+		pop.setFromX(1);
+		pop.setFromY(1);
+		pop.setToX(POP_SCALE);
+		pop.setToY(POP_SCALE);
+		pop.setAutoReverse(true);
+		pop.setCycleCount(2);
+		return pop;
+	}
+
+	/**
+	 * Sets how fast the animations run. One is normal speed, two is twice as fast
+	 * and zero makes every animation finish right away.
+	 * 
+	 * @param newSpeed is the speed to set.
+	 */
+	public static void setSpeed(double newSpeed) {
+		speed = newSpeed;
+	}
+
+	/**
+	 * Returns how fast the animations run.
+	 * 
+	 * @return the speed.
+	 */
+	public static double getSpeed() {
+		return speed;
+	}
+
+	/**
+	 * Changes a duration by the speed.
+	 * 
+	 * @param millis is the duration at normal speed in milliseconds.
+	 * 
+	 * @return the duration at the current speed.
+	 */
+	private static Duration scaled(double millis) {
+		if (speed == 0) {
+			return Duration.ZERO;
+		}
+		return Duration.millis(millis / speed);
+	}
+}
@@ -0,0 +1,87 @@
+/**
+ * How one tile of the board is drawn: where its center is, how it is scaled
+ * and which colors fill it, outline it and write its letter. The canvas
+ * renderer draws these, and working them out needs no JavaFX thread. Tiles are
+ * the size of a Letter on the board and the gaps are the spacing of the rows,
+ * rounded to whole pixels the way the layout of the rows rounds them.
+ *
+ * Date: 10/19/2026
+ *
+ * @author Connor Kippes, Luke Laurie, Sean Eddy, Zachary Hansen
+ */
+
+package src.view;
+
+import javafx.scene.paint.Color;
+
+public final class TileDrawing {
+	public static final double TILE = 50;
+	public static final double SPACING = 4.87;
+	public static final double BORDER = 2;
+	// the rows lay their tiles out with the spacing rounded to a pixel
+	public static final double GAP = Math.round(SPACING);
+
+	public final double centerX;
+	public final double centerY;
+	public final double scaleX;
+	public final double scaleY;
+	public final Color fill;
+	public final Color border;
+	public final Color textFill;
+	public final String text;
+
+	/**
+	 * Works out how a tile is drawn.
+	 *
+	 * @param palette    is the colors of the current theme.
+	 * @param row        is the row of the tile.
+	 * @param col        is the column of the tile.
+	 * @param state      is the state of the tile's Letter.
+	 * @param text       is the letter on the tile.
+	 * @param translateX is how far the row is moved, by the shake.
+	 * @param rotate     is the angle the tile is turned about the X axis, by the
+	 *                   flip.
+	 * @param scaleX     is the scale of the tile across, by the pop.
+	 * @param scaleY     is the scale of the tile down, by the pop.
+	 */
+	public TileDrawing(Palette palette, int row, int col, String state, String text, double translateX,
+			double rotate, double scaleX, double scaleY) {
+		boolean isEvaluated = !state.equals(Letter.EMPTY) && !state.equals(Letter.FILLED);
+		centerX = col * (TILE + GAP) + TILE / 2 + translateX;
+		centerY = row * (TILE + GAP) + TILE / 2;
+		// a tile turned by the flip looks squashed by the cosine of its angle from the front
+		this.scaleX = scaleX;
+		this.scaleY = scaleY * Math.abs(Math.cos(Math.toRadians(rotate)));
+		fill = palette.stateColor(state, false);
+		if (isEvaluated) {
+			// evaluated tiles keep a border of the same color
+			border = fill;
+		} else {
+			border = state.equals(Letter.FILLED) ? palette.filledBorder : palette.emptyBorder;
+		}
+		textFill = isEvaluated ? palette.evaluatedText : palette.tileText;
+		this.text = text;
+	}
+
+	/**
+	 * Returns the width of a board drawn with these tiles.
+	 *
+	 * @param colSize is the number of columns.
+	 *
+	 * @return the width.
+	 */
+	public static double boardWidth(int colSize) {
+		return Math.max(0, colSize * (TILE + GAP) - GAP);
+	}
+
+	/**
+	 * Returns the height of a board drawn with these tiles.
+	 *
+	 * @param rowSize is the number of rows.
+	 *
+	 * @return the height.
+	 */
+	public static double boardHeight(int rowSize) {
+		return Math.max(0, rowSize * (TILE + GAP) - GAP);
+	}
+}
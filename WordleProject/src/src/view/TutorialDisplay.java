@@ -43,13 +43,13 @@ public class TutorialDisplay extends VBox {
 		VBox statsContainer = new VBox(0);
 
 		Label header = new Label("How To Play");
-		header.setFont(Font.loadFont("file:src/fonts/KarnakPro-CondensedBlack.ttf", 30));
+		header.setFont(Assets.font(Assets.KARNAK_FONT, 30));
 		if (isDarkMode) {
 			header.setTextFill(Color.WHITE);
 		}
 		statsContainer.getChildren().add(header);
 		Label moreHeader = new Label("Guess the Wordle in " + rowSize + " tries.");
-		moreHeader.setFont(Font.loadFont("file:src/fonts/franklin-gothic-book.ttf", 20));
+		moreHeader.setFont(Assets.font(Assets.FRANKLIN_FONT, 20));
 		if (isDarkMode) {
 			moreHeader.setTextFill(Color.WHITE);
 		}
@@ -71,27 +71,18 @@ public class TutorialDisplay extends VBox {
 		//Initializes the example of a correct letter in the display
 		VBox firstExample = new VBox(0);
 		Label exampleText = new Label("Examples");
-		exampleText.setFont(Font.loadFont("file:src/fonts/Helvetica Monospaced W06 Bold.ttf", 15));
+		exampleText.setFont(Assets.font(Assets.MONOSPACED_FONT, 15));
 		if (isDarkMode) {
 			exampleText.setTextFill(Color.WHITE);
 		}
 		firstExample.getChildren().add(exampleText);
 		HBox hbox = new HBox(6);
 		Letter correctLetter = new Letter("W", false);
-		correctLetter.setBoardButtonStyle("White", "Green", "Green");
-		if (isContrastMode) {
-			correctLetter.setContrastMode();
-		}
+		correctLetter.setState(Letter.CORRECT);
 
 		hbox.getChildren().add(correctLetter);
 		Letter letter1 = new Letter("E", false), letter2 = new Letter("A", false);
 		Letter letter3 = new Letter("R", false), letter4 = new Letter("Y", false);
-		if (isDarkMode) {
-			letter1.setDarkMode();
-			letter2.setDarkMode();
-			letter3.setDarkMode();
-			letter4.setDarkMode();
-		}
 		hbox.getChildren().add(letter1);
 		hbox.getChildren().add(letter2);
 		hbox.getChildren().add(letter3);
@@ -99,7 +90,7 @@ public class TutorialDisplay extends VBox {
 		firstExample.getChildren().add(hbox);
 		HBox exampleExplanation = new HBox(2);
 		Label exampleText2 = new Label("W");
-		exampleText2.setFont(Font.loadFont("file:src/fonts/Helvetica Monospaced W06 Bold.ttf", 15));
+		exampleText2.setFont(Assets.font(Assets.MONOSPACED_FONT, 15));
 		if (isDarkMode) {
 			exampleText2.setTextFill(Color.WHITE);
 		}
@@ -118,19 +109,10 @@ public class TutorialDisplay extends VBox {
 		VBox secondExample = new VBox(0);
 		HBox hbox2 = new HBox(6);
 		Letter letterWrongSpot = new Letter("I", false);
-		letterWrongSpot.setBoardButtonStyle("White", "Yellow", "Yellow");
-		if (isContrastMode) {
-			letterWrongSpot.setContrastMode();
-		}
+		letterWrongSpot.setState(Letter.PRESENT);
 
 		Letter letter5 = new Letter("P", false), letter6 = new Letter("L", false);
 		Letter letter7 = new Letter("L", false), letter8 = new Letter("S", false);
-		if (isDarkMode) {
-			letter5.setDarkMode();
-			letter6.setDarkMode();
-			letter7.setDarkMode();
-			letter8.setDarkMode();
-		}
 		hbox2.getChildren().add(letter5);
 		hbox2.getChildren().add(letterWrongSpot);
 		hbox2.getChildren().add(letter6);
@@ -140,7 +122,7 @@ public class TutorialDisplay extends VBox {
 		secondExample.getChildren().add(hbox2);
 		HBox exampleExplanation2 = new HBox(2);
 		Label exampleText4 = new Label("I");
-		exampleText4.setFont(Font.loadFont("file:src/fonts/Helvetica Monospaced W06 Bold.ttf", 16));
+		exampleText4.setFont(Assets.font(Assets.MONOSPACED_FONT, 16));
 		if (isDarkMode) {
 			exampleText4.setTextFill(Color.WHITE);
 		}
@@ -158,17 +140,10 @@ public class TutorialDisplay extends VBox {
 		VBox thirdExample = new VBox(0);
 		HBox hbox3 = new HBox(6);
 		Letter wrongLetter = new Letter("U", false);
-		wrongLetter.setBoardButtonStyle("White", "Dark Gray", "Dark Gray");
+		wrongLetter.setState(Letter.ABSENT);
 
 		Letter letter9 = new Letter("V", false), letter10 = new Letter("A", false);
 		Letter letter11 = new Letter("G", false), letter12 = new Letter("E", false);
-		if (isDarkMode) {
-			letter9.setDarkMode();
-			letter10.setDarkMode();
-			letter11.setDarkMode();
-			letter12.setDarkMode();
-			wrongLetter.setDarkMode();
-		}
 		hbox3.getChildren().add(letter9);
 		hbox3.getChildren().add(letter10);
 		hbox3.getChildren().add(letter11);
@@ -180,7 +155,7 @@ public class TutorialDisplay extends VBox {
 		thirdExample.getChildren().add(hbox3);
 		HBox exampleExplanation3 = new HBox(2);
 		Label exampleText6 = new Label("U");
-		exampleText6.setFont(Font.loadFont("file:src/fonts/Helvetica Monospaced W06 Bold.ttf", 16));
+		exampleText6.setFont(Assets.font(Assets.MONOSPACED_FONT, 16));
 		if (isDarkMode) {
 			exampleText6.setTextFill(Color.WHITE);
 		}
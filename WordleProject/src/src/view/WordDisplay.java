@@ -37,6 +37,31 @@ public class WordDisplay extends HBox {
 	public WordDisplay(ArrayList<String> finishedGuess) {
 		this.colSize = finishedGuess.size();
 		initializeWord(); 
+		fillWord(finishedGuess);
+	}
+
+	/**
+	 * This will empty the word in place, keeping the same letters.
+	 */
+	public void resetWord() {
+		currentCol = -1;
+		// undoes any animation that was stopped part way
+		this.setTranslateX(0);
+		for (Letter letter : letters) {
+			letter.setText(" ");
+			letter.setState(Letter.EMPTY);
+			letter.setRotate(0);
+			letter.setScaleX(1);
+			letter.setScaleY(1);
+		}
+	}
+
+	/**
+	 * This will type a finished guess into the word.
+	 * 
+	 * @param finishedGuess is a already completed guess by the user.
+	 */
+	public void fillWord(ArrayList<String> finishedGuess) {
 		for (int i = 0; i < colSize; i++) {
 			String curLetter = finishedGuess.get(i); 
 			if (!curLetter.equals(" ")) {
@@ -57,7 +82,7 @@ public class WordDisplay extends HBox {
 		}
 		setWordChildren();
 		// set correct spacing
-		this.setSpacing(4.87);
+		this.setSpacing(TileDrawing.SPACING);
 		this.setAlignment(Pos.CENTER);
 	}
 
@@ -133,11 +158,7 @@ public class WordDisplay extends HBox {
 			if (currentCol != -1) {
 				Letter letter = letters.get(currentCol);
 				letter.setText(" ");
-				if (letter.isDarkMode()) {
-					letter.setBoardButtonStyle(letter.getTextColor(), letter.getBackgroundColor(), "dm Dark Gray");
-				} else {
-					letter.setBoardButtonStyle(letter.getTextColor(), letter.getBackgroundColor(), "Gray");
-				}
+				letter.setState(Letter.EMPTY);
 				currentCol--;
 			}
 		} else if (currentCol < colSize - 1 && letterInput.length() == 1) {
@@ -145,14 +166,8 @@ public class WordDisplay extends HBox {
 			currentCol++;
 			Letter letter = letters.get(currentCol);
 			letter.setText(letterInput);
-			if (letter.isDarkMode()) {
-				letter.setBoardButtonStyle(letter.getTextColor(), letter.getBackgroundColor(), "dm Border Gray");
-			} else {
-				letter.setBoardButtonStyle(letter.getTextColor(), letter.getBackgroundColor(), "Border Gray");
-			}
+			letter.setState(Letter.FILLED);
 		}
-
-		setWordChildren();
 	}
 
 	/**
@@ -188,11 +203,7 @@ public class WordDisplay extends HBox {
 		for (int i = 0; i < word.length(); i++) {
 			Letter letter = letters.get(i);
 			letter.setText(Character.toString(word.charAt(i)));
-			if (letter.isDarkMode()) {
-				letter.setBoardButtonStyle(letter.getTextColor(), letter.getBackgroundColor(), "dm Border Gray");
-			} else {
-				letter.setBoardButtonStyle(letter.getTextColor(), letter.getBackgroundColor(), "Border Gray");
-			}
+			letter.setState(Letter.FILLED);
 		}
 	}
 
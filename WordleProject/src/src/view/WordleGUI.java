@@ -10,17 +10,12 @@
 package src.view;
 
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileNotFoundException;
-import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
 import java.util.ArrayList;
 import java.util.Map;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.Scene;
@@ -28,30 +23,21 @@ import javafx.scene.control.Button;
 import javafx.scene.control.Label;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
-import javafx.scene.image.PixelReader;
-import javafx.scene.image.PixelWriter;
-import javafx.scene.image.WritableImage;
 import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyEvent;
-import javafx.scene.layout.Border;
 import javafx.scene.layout.BorderPane;
-import javafx.scene.layout.BorderStroke;
-import javafx.scene.layout.BorderStrokeStyle;
-import javafx.scene.layout.BorderWidths;
-import javafx.scene.layout.CornerRadii;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
 import javafx.scene.layout.StackPane;
-import javafx.scene.paint.Color;
-import javafx.scene.text.Font;
 import javafx.stage.Modality;
 import javafx.stage.Stage;
+import src.model.UserCache;
+import src.model.UserStore;
 import src.model.WordleUser;
 
 public class WordleGUI extends Application {
 	private Stage primaryStage;
 	private Scene primaryScene;
-	private String backgroundColor = "white";
 	private BorderPane primaryPane;
 	private StackPane mainCenterPane = new StackPane();
 	private BorderPane menuPane;
@@ -70,8 +56,14 @@ public class WordleGUI extends Application {
 	private ArrayList<Button> multiRowButtons = new ArrayList<>();
 	private Region veil = new Region();
 
+	private static final int USER_SHARDS = 16;
+	private static final int CACHED_USERS = 256;
+	private static final long CACHED_USER_IDLE_MILLIS = 30 * 60 * 1000;
 	private static WordleUser wordleUser;
-	private static ArrayList<WordleUser> allUsers;
+	private static UserStore userStore;
+	private static UserCache userCache;
+	private static StartupLoader startup;
+	private static boolean isCanvasRenderer = false;
 
 	public static void main(String[] args) {
 		launch(args);
@@ -82,46 +74,116 @@ public class WordleGUI extends Application {
 		this.primaryStage = primaryStage;
 		veil.setStyle("-fx-background-color: rgba(0, 0, 0, .3)");
 		veil.setVisible(false);
-		// gets the starting user
-		userStartup();
+		// --renderer=canvas draws the board on a canvas instead of a node per tile,
+		// the node renderer stays the default
+		isCanvasRenderer = "canvas".equals(getParameters().getNamed().get("renderer"));
+		// loads the dictionary, users and assets while the size picker is showing
+		startup = new StartupLoader(colSize, this::readUsers);
 		new MultiWordle(this);
+		startup.markPhase(StartupLoader.WINDOW);
 		updateUsers();
 	}
 
+	/**
+	 * Waits for the dictionary if it is still loading at startup
+	 */
+	public static void awaitDictionary() {
+		if (startup != null) {
+			startup.awaitDictionary();
+		}
+	}
+
+	/**
+	 * returns if the dictionary is done loading at startup
+	 * @return true if a guess can be judged without waiting
+	 */
+	public static boolean isDictionaryLoaded() {
+		return startup == null || startup.getDictionary().isDone();
+	}
+
+	/**
+	 * Runs a task on the JavaFX thread once the dictionary is loaded, right away
+	 * if it already is
+	 * @param task the work that needs the dictionary
+	 */
+	public static void afterDictionary(Runnable task) {
+		if (isDictionaryLoaded()) {
+			task.run();
+		} else {
+			startup.getDictionary().whenComplete((result, error) -> Platform.runLater(task));
+		}
+	}
+
+	/**
+	 * returns if the board is drawn on a canvas, chosen at startup
+	 * @return a boolean operator
+	 */
+	public static boolean isCanvasRenderer() {
+		return isCanvasRenderer;
+	}
+
+	/**
+	 * returns the loader of the startup phases
+	 * @return a StartupLoader object or null before the game starts
+	 */
+	public static StartupLoader getStartup() {
+		return startup;
+	}
+
 	/**
 	 * updates the user whenever application is closed
 	 */
 	private void updateUsers() {
 		primaryStage.setOnCloseRequest(event -> {
-			//setUpStage();
-			board.updateUserGuesses();
-			writeUser(wordleUser);
+			// nothing was played yet when no size was picked
+			if (wordleUser == null) {
+				return;
+			}
+			try {
+				writeUser(wordleUser);
+			} catch (IOException e) {
+				System.out.println("Saving " + wordleUser.getEmail() + " failed: " + e.getMessage());
+			}
 		});
 
 	}
 
 	/**
-	 * decided whether to initialize the board for a specific WordleUser or the
-	 * tempUser
+	 * finds the starting user, the tempUser, once the user store is open
 	 */
 	private void userStartup() {
-		readUsers();
+		startup.awaitUsers();
+		try {
+			wordleUser = findUser("tempUser");
+		} catch (IOException e) {
+			// the game still starts, as a new tempUser
+			System.out.println("Reading tempUser failed: " + e.getMessage());
+			wordleUser = new WordleUser("tempUser", "tempPassword");
+			return;
+		}
 		// checks if no users exist yet
-		if (allUsers == null) {
-			allUsers = new ArrayList<>();
+		if (wordleUser == null) {
 			wordleUser = new WordleUser("tempUser", "tempPassword");
-			writeUser(wordleUser);
-		} else {
-			wordleUser = findUser("tempUser");
+			try {
+				writeUser(wordleUser);
+			} catch (IOException e) {
+				// it is saved again when the game closes
+				System.out.println("Saving tempUser failed: " + e.getMessage());
+			}
 		}
-		// Initialize the board
-		board = new BoardDisplay(colSize, rowSize, this);
 	}
 
 	/**
 	 * Where every element of the stage is initialized
 	 */
 	public void setUpStage() {
+		// the scene is built once, after that only the board and keyboard are swapped
+		if (primaryScene != null) {
+			mainCenterPane.getChildren().setAll(board);
+			primaryPane.setBottom(keyboard);
+			Theme.apply(primaryPane, isDarkMode, isContrastMode);
+			return;
+		}
 		this.primaryStage.setTitle("Wordle");
 
 		// Instantiates the different Panes and Scenes to be used
@@ -131,12 +193,13 @@ public class WordleGUI extends Application {
 
 		// This begins the header
 		title = new Label("Wordle");
-		title.setFont(Font.loadFont("file:src/fonts/KarnakPro-CondensedBlack.ttf", 40));
+		title.setFont(Assets.font(Assets.KARNAK_FONT, 40));
+		title.getStyleClass().add("title");
 
 		// sets each button in the header
 		statsButton = new Button();
-		statsButton.setStyle("-fx-background-color: " + backgroundColor);
-		Image statsImg = new Image("file:src/images/statistics.png");
+		statsButton.getStyleClass().add("header-button");
+		Image statsImg = Assets.image("statistics.png");
 		ImageView statsView = new ImageView(statsImg);
 		statsView.setFitHeight(29);
 		statsView.setFitWidth(29);
@@ -144,8 +207,8 @@ public class WordleGUI extends Application {
 		statsButton.setFocusTraversable(false);
 
 		helpButton = new Button();
-		helpButton.setStyle("-fx-background-color: " + backgroundColor);
-		Image helpImg = new Image("file:src/images/help.png");
+		helpButton.getStyleClass().add("header-button");
+		Image helpImg = Assets.image("help.png");
 		ImageView helpView = new ImageView(helpImg);
 		helpView.setFitHeight(29);
 		helpView.setFitWidth(29);
@@ -153,8 +216,8 @@ public class WordleGUI extends Application {
 		helpButton.setFocusTraversable(false);
 
 		settingsButton = new Button();
-		settingsButton.setStyle("-fx-background-color: " + backgroundColor);
-		Image settingImg = new Image("file:src/images/settings.png");
+		settingsButton.getStyleClass().add("header-button");
+		Image settingImg = Assets.image("settings.png");
 		ImageView settingView = new ImageView(settingImg);
 		settingView.setFitHeight(29);
 		settingView.setFitWidth(29);
@@ -189,10 +252,8 @@ public class WordleGUI extends Application {
 		menuPane.setLeft(offsetButtons);
 		menuPane.setCenter(title);
 		menuPane.setRight(workingButtons);
-		menuPane.setStyle("-fx-background-color: " + backgroundColor);
+		menuPane.getStyleClass().add("menu-pane");
 		menuPane.setPrefHeight(50);
-		menuPane.setBorder(new Border(new BorderStroke(Color.valueOf("#dee0e3"), BorderStrokeStyle.SOLID,
-				CornerRadii.EMPTY, new BorderWidths(0, 0, 1, 0))));
 
 		board.setAlignment(Pos.CENTER);
 		primaryPane.setPadding(new Insets(25, 25, 25, 25));
@@ -203,11 +264,14 @@ public class WordleGUI extends Application {
 		primaryPane.setTop(menuPane);
 		primaryPane.setCenter(mainCenterPane);
 		primaryPane.setBottom(keyboard);
-		primaryPane.setStyle("-fx-background-color: white;");
+		// every color of the window comes from the stylesheet
+		Theme.install(primaryPane, isDarkMode, isContrastMode);
 
 		eventHandlers();
+		// F3 shows the pulse and layout timings over the game
+		PerformanceOverlay.install(primaryScene);
 		primaryStage.setScene(primaryScene);
-		primaryStage.getIcons().add(new Image("file:src/images/wordle_logo_32x32.png"));
+		primaryStage.getIcons().add(Assets.image("wordle_logo_32x32.png"));
 		primaryStage.show();
 	}
 
@@ -222,14 +286,10 @@ public class WordleGUI extends Application {
 			helpStage.initModality(Modality.APPLICATION_MODAL);
 			TutorialDisplay tutorialDisplay = new TutorialDisplay(wordleUser, isDarkMode, isContrastMode, rowSize,
 					colSize);
-			if (isDarkMode) {
-				tutorialDisplay.setStyle("-fx-background-color: #121213;");
-			} else {
-				tutorialDisplay.setStyle("-fx-background-color: white;");
-			}
+			Theme.install(tutorialDisplay, isDarkMode, isContrastMode);
 			Scene helpScene = new Scene(tutorialDisplay, 500, 550);
 			helpStage.setScene(helpScene);
-			helpStage.getIcons().add(new Image("file:src/images/help.png"));
+			helpStage.getIcons().add(Assets.image("help.png"));
 			helpStage.setResizable(false);
 			settingsButton.setMouseTransparent(true);
 			statsButton.setMouseTransparent(true);
@@ -248,7 +308,7 @@ public class WordleGUI extends Application {
 			StatisticsDisplay statsDisplay = new StatisticsDisplay(wordleUser, this, colSize, rowSize);
 			Scene statsScene = new Scene(statsDisplay, 500, 500);
 			statsStage.setScene(statsScene);
-			statsStage.getIcons().add(new Image("file:src/images/statistics.png"));
+			statsStage.getIcons().add(Assets.image("statistics.png"));
 			statsStage.setResizable(false);
 			settingsButton.setMouseTransparent(true);
 			statsButton.setMouseTransparent(true);
@@ -265,7 +325,7 @@ public class WordleGUI extends Application {
 			SettingsDisplay settingsDisplay = new SettingsDisplay(this);
 			Scene settingsScene = new Scene(settingsDisplay, 500, 500);
 			settingsStage.setScene(settingsScene);
-			settingsStage.getIcons().add(new Image("file:src/images/settings.png"));
+			settingsStage.getIcons().add(Assets.image("settings.png"));
 			settingsStage.setResizable(false);
 			settingsStage.initOwner(primaryStage);
 			settingsStage.initModality(Modality.APPLICATION_MODAL);
@@ -294,15 +354,9 @@ public class WordleGUI extends Application {
 	 * sets the theme to dark mode for all displays
 	 */
 	public void setDarkMode() {
-		inverseImage("src/images/help.png", helpButton);
-		inverseImage("src/images/settings.png", settingsButton);
-		inverseImage("src/images/statistics.png", statsButton);
-		helpButton.setStyle("-fx-background-color: #121213");
-		settingsButton.setStyle("-fx-background-color: #121213");
-		statsButton.setStyle("-fx-background-color: #121213");
-
-		Button backspaceButton = (Button) keyboard.getBackspaceButton();
-		inverseImage("src/images/backspace.png", backspaceButton);
+		setIcon(helpButton, Assets.invertedImage("help.png"));
+		setIcon(settingsButton, Assets.invertedImage("settings.png"));
+		setIcon(statsButton, Assets.invertedImage("statistics.png"));
 
 		Map<String, String> keyboardSavedColorsMap = keyboard.getSavedLetterColors();
 		for (Map.Entry<String, String> entry : keyboardSavedColorsMap.entrySet()) {
@@ -317,11 +371,7 @@ public class WordleGUI extends Application {
 		isDarkMode = true;
 		keyboard.setDarkMode();
 		board.setDarkMode();
-		primaryPane.setStyle("-fx-background-color: #121213");
-		menuPane.setStyle("-fx-background-color: #121213");
-		title.setTextFill(Color.WHITE);
-		menuPane.setBorder(new Border(new BorderStroke(Color.valueOf("#303031"), BorderStrokeStyle.SOLID,
-				CornerRadii.EMPTY, new BorderWidths(0, 0, 1, 0))));
+		Theme.apply(primaryPane, isDarkMode, isContrastMode);
 
 		if (mainCenterPane.getChildren().size() > 1)
 			((ErrorMessage) mainCenterPane.getChildren().get(mainCenterPane.getChildren().size() - 1))
@@ -332,33 +382,9 @@ public class WordleGUI extends Application {
 	 * sets the theme to lightMode for all displays
 	 */
 	public void setNonDarkMode() {
-		Image helpImg = new Image("file:src/images/help.png");
-		ImageView helpView = new ImageView(helpImg);
-		helpButton.setGraphic(helpView);
-		helpView.setFitHeight(30);
-		helpView.setFitWidth(30);
-
-		Image settingsImg = new Image("file:src/images/settings.png");
-		ImageView settingsView = new ImageView(settingsImg);
-		settingsButton.setGraphic(settingsView);
-		settingsView.setFitHeight(30);
-		settingsView.setFitWidth(30);
-
-		Image statsImg = new Image("file:src/images/statistics.png");
-		ImageView statsView = new ImageView(statsImg);
-		statsButton.setGraphic(statsView);
-		statsView.setFitHeight(30);
-		statsView.setFitWidth(30);
-
-		helpButton.setStyle("-fx-background-color: #ffffff");
-		settingsButton.setStyle("-fx-background-color: #ffffff");
-		statsButton.setStyle("-fx-background-color: #ffffff");
-
-		Image backspaceImg = new Image("file:src/images/backspace.png");
-		ImageView backspaceView = new ImageView(backspaceImg);
-		keyboard.getBackspaceButton().setGraphic(backspaceView);
-		backspaceView.setFitHeight(30);
-		backspaceView.setFitWidth(30);
+		setIcon(helpButton, Assets.image("help.png"));
+		setIcon(settingsButton, Assets.image("settings.png"));
+		setIcon(statsButton, Assets.image("statistics.png"));
 
 		Map<String, String> keyboardSavedColorsMap = keyboard.getSavedLetterColors();
 		for (Map.Entry<String, String> entry : keyboardSavedColorsMap.entrySet()) {
@@ -374,11 +400,7 @@ public class WordleGUI extends Application {
 		isDarkMode = false;
 		keyboard.setNonDarkMode();
 		board.setNonDarkMode();
-		primaryPane.setStyle("-fx-background-color: #ffffff");
-		menuPane.setStyle("-fx-background-color: #ffffff");
-		title.setTextFill(Color.valueOf("#121213"));
-		menuPane.setBorder(new Border(new BorderStroke(Color.valueOf("#dee0e3"), BorderStrokeStyle.SOLID,
-				CornerRadii.EMPTY, new BorderWidths(0, 0, 1, 0))));
+		Theme.apply(primaryPane, isDarkMode, isContrastMode);
 
 		if (mainCenterPane.getChildren().size() > 1)
 			((ErrorMessage) mainCenterPane.getChildren().get(mainCenterPane.getChildren().size() - 1))
@@ -394,6 +416,9 @@ public class WordleGUI extends Application {
 		this.isContrastMode = isContrastMode;
 		// sets the wordle users dark value
 		wordleUser.setContrastMode(isContrastMode);
+		if (primaryPane != null) {
+			Theme.apply(primaryPane, isDarkMode, isContrastMode);
+		}
 	}
 
 	/**
@@ -407,35 +432,16 @@ public class WordleGUI extends Application {
 	}
 
 	/**
-	 * This method inverts image color for display buttons to match with 
-	 * the color them
-	 * @param imageName a String of the image
+	 * This method shows an icon on a display button. The icons come from the
+	 * Assets registry so switching themes only swaps which image is shown
 	 * @param button the Button to change
+	 * @param image the Image of the icon
 	 */
-	public void inverseImage(String imageName, Button button) {
-		// code to invert image for dark mode
-		try {
-			InputStream stream = new FileInputStream(imageName);
-			Image image = new Image(stream);
-			PixelReader reader = image.getPixelReader();
-			int w = (int) image.getWidth();
-			int h = (int) image.getHeight();
-			WritableImage wImage = new WritableImage(w, h);
-			PixelWriter writer = wImage.getPixelWriter();
-			for (int y = 0; y < h; y++) {
-				for (int x = 0; x < w; x++) {
-					Color color = reader.getColor(x, y);
-					writer.setColor(x, y, color.invert());
-				}
-			}
-			ImageView imageView = new ImageView();
-			imageView.setImage(wImage);
-			imageView.setFitHeight(30);
-			imageView.setFitWidth(30);
-			button.setGraphic(imageView);
-		} catch (FileNotFoundException e) {
-			System.out.println("Display button image file not found");
-		}
+	private void setIcon(Button button, Image image) {
+		ImageView imageView = new ImageView(image);
+		imageView.setFitHeight(30);
+		imageView.setFitWidth(30);
+		button.setGraphic(imageView);
 	}
 
 	/**
@@ -552,28 +558,22 @@ public class WordleGUI extends Application {
 		return rowSize;
 	}
 
-	@SuppressWarnings("unchecked")
 	/**
-	 * This method determines the current user
+	 * This method opens the user store and its cache, moving the users from an
+	 * old users.ser file into the store the first time
 	 */
-
 	public void readUsers() {
-		// first determine if the file exists
+		userStore = new UserStore("users", USER_SHARDS);
+		// first determine if an old single file store exists
 		File file = new File("users.ser");
-		if (file.exists()) {
+		if (userStore.isEmpty() && file.exists()) {
 			try {
-				FileInputStream rawBytes = new FileInputStream("users.ser");
-				ObjectInputStream inFile = new ObjectInputStream(rawBytes);
-				// checks all objects to see if email matches
-				allUsers = (ArrayList<WordleUser>) inFile.readObject();
-			} catch (Exception e) {
+				userStore = UserStore.reshard("users.ser", "users", USER_SHARDS);
+			} catch (IOException e) {
 				e.printStackTrace();
 			}
 		}
-		else
-		{
-			System.out.println("users.ser file not found");
-		}
+		userCache = new UserCache(userStore, CACHED_USERS, CACHED_USER_IDLE_MILLIS);
 	}
 
 	/**
@@ -593,50 +593,36 @@ public class WordleGUI extends Application {
 	}
 
 	/**
-	 * this method adds a new WordleUser to allusers
+	 * this method saves a WordleUser to the user store
 	 * @param userToAdd a WordleUser object
+	 * @throws IOException if the user could not be saved
 	 */
-	public static void writeUser(WordleUser userToAdd) {
+	public static void writeUser(WordleUser userToAdd) throws IOException {
 		if (userToAdd == null) {
 			userToAdd = wordleUser;
 		}
 		if (board != null) {
 			board.updateUserGuesses();
 		}
-		// removes user if already exists
-		for (WordleUser curUser : allUsers) {
-			// when found removes so can be updated and added back later
-			if (curUser.getEmail().equals(userToAdd.getEmail())) {
-				allUsers.remove(curUser);
-				break;
-			}
-		}
-		// adds the modified user
-		allUsers.add(userToAdd);
-		try {
-			FileOutputStream bytesToDisk = new FileOutputStream("users.ser");
-			ObjectOutputStream outFile = new ObjectOutputStream(bytesToDisk);
-			// write all the users to the ser file.
-			outFile.writeObject(allUsers);
-			outFile.close();
-		} catch (IOException ioe) {
-			System.out.println("Writing objects failed");
-		}
+		// only the shard of this user is written
+		userCache.saveUser(userToAdd);
+		// the boards are saved on their own so the store only holds the summaries
+		userToAdd.saveBoards();
 	}
 
 	/**
 	 * This method finds the WordleUser with a given email
 	 * @param email a string
 	 * @return a WordleUser object or null
+	 * @throws IOException if the user could not be read
 	 */
-	public static WordleUser findUser(String email) {
-		for (WordleUser curUser : allUsers) {
-			// when found removes so can be updated and added back later
-			if (curUser.getEmail().equals(email)) {
-				return curUser;
-			}
+	public static WordleUser findUser(String email) throws IOException {
+		// the user playing may have changes not saved yet, and the cache may have
+		// dropped it since it was last saved
+		if (wordleUser != null && wordleUser.getEmail().equals(email)) {
+			return wordleUser;
 		}
-		return null;
+		return userCache.getUser(email);
 	}
 
 	/**
@@ -667,11 +653,31 @@ public class WordleGUI extends Application {
 	 * This method resets the BoardDisplay and KeyboardDisplay
 	 */
 	public void resetBoard() {
+		// animations of the old game must not run on the new one
+		AnimationScheduler.cancelAll();
+		// the board and keyboard are reset in place instead of being rebuilt
 		board.resetGuesses();
-		board.updateKeyboard(keyboard);
-		board = new BoardDisplay(colSize, rowSize, this);
 		board.getGuess().getWord().setRandomWord(rowSize);
-		keyboard = new KeyboardDisplay(board, colSize);
+		board.setUserData();
+		board.updateKeyboard(keyboard);
+	}
+
+	/**
+	 * This method shows the board and keyboard of a size
+	 * @param rows an integer
+	 * @param cols an integer
+	 */
+	public void showBoard(int rows, int cols) {
+		AnimationScheduler.cancelAll();
+		// the starting user is found once the user store is open
+		if (wordleUser == null) {
+			userStartup();
+		}
+		setColSize(cols);
+		setRowSize(rows);
+		BoardDisplay newBoard = new BoardDisplay(cols, rows, this);
+		setBoard(newBoard);
+		setKeyboard(new KeyboardDisplay(newBoard, cols));
 		setUpStage();
 	}
 